@@ -48,8 +48,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -82,6 +84,9 @@ public class AxonServerCommandBus implements CommandBus, Distributed<CommandBus>
     private final CommandCallback<Object, Object> defaultCommandCallback;
     private final ShutdownLatch shutdownLatch = new ShutdownLatch();
     private final ExecutorService executorService;
+    private final String context;
+    private final boolean localSegmentShortCut;
+    private final Set<String> localCommandNames = ConcurrentHashMap.newKeySet();
 
     /**
      * Instantiate a Builder to be able to create an {@link AxonServerCommandBus}.
@@ -114,8 +119,9 @@ public AxonServerCommandBus(Builder builder) {
         this.priorityCalculator = builder.priorityCalculator;
         this.defaultCommandCallback = builder.defaultCommandCallback;
         this.loadFactorProvider = builder.loadFactorProvider;
-        String context = configuration.getContext();
+        this.context = configuration.getContext();
         this.targetContextResolver = builder.targetContextResolver.orElse(m -> context);
+        this.localSegmentShortCut = builder.localSegmentShortCut;
 
         this.executorService = builder.executorServiceBuilder.apply(
                 builder.configuration,
@@ -161,6 +167,14 @@ private <C, R> void doDispatch(CommandMessage<C> commandMessage,
         ShutdownLatch.ActivityHandle commandInTransit = shutdownLatch.registerActivity();
         try {
             String context = targetContextResolver.resolveContext(commandMessage);
+            if (shouldHandleLocally(context, commandMessage)) {
+                logger.debug("Command [{}] is handled by the local segment", commandMessage.getCommandName());
+                localSegment.dispatch(commandMessage, (CommandCallback<C, R>) (message, result) -> {
+                    commandInTransit.end();
+                    commandCallback.onResult(commandMessage, result);
+                });
+                return;
+            }
             Command command = serializer.serialize(commandMessage,
                                                    routingStrategy.getRoutingKey(commandMessage),
                                                    priorityCalculator.determinePriority(commandMessage));
@@ -185,11 +199,22 @@ private <C, R> void doDispatch(CommandMessage<C> commandMessage,
         }
     }
 
+    private boolean shouldHandleLocally(String targetContext, CommandMessage<?> commandMessage) {
+        return localSegmentShortCut
+                && context.equals(targetContext)
+                && localCommandNames.contains(commandMessage.getCommandName());
+    }
+
     @Override
     public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> messageHandler) {
         logger.debug("Subscribing command with name [{}] to this distributed CommandBus. "
                              + "Expect similar logging on the local segment.", commandName);
-        Registration localRegistration = localSegment.subscribe(commandName, messageHandler);
+        Registration localSegmentRegistration = localSegment.subscribe(commandName, messageHandler);
+        localCommandNames.add(commandName);
+        Registration localRegistration = () -> {
+            localCommandNames.remove(commandName);
+            return localSegmentRegistration.cancel();
+        };
         io.axoniq.axonserver.connector.Registration serverRegistration =
                 axonServerConnectionManager.getConnection()
                                            .commandChannel()
@@ -311,6 +336,7 @@ public static class Builder {
         private ExecutorServiceBuilder executorServiceBuilder =
                 ExecutorServiceBuilder.defaultCommandExecutorServiceBuilder();
         private CommandLoadFactorProvider loadFactorProvider = command -> CommandLoadFactorProvider.DEFAULT_VALUE;
+        private boolean localSegmentShortCut = false;
 
         /**
          * Sets the {@link AxonServerConnectionManager} used to create connections between this application and an Axon
@@ -458,6 +484,24 @@ public Builder loadFactorProvider(CommandLoadFactorProvider loadFactorProvider)
             return this;
         }
 
+        /**
+         * Enables shortcutting commands to the local segment. When enabled, a command for which a handler is subscribed
+         * through this bus, and that targets the context this bus is connected to, is dispatched to the local segment
+         * directly. Such a command is not serialized and does not travel to Axon Server and back. By default, all
+         * commands are dispatched through Axon Server.
+         * <p>
+         * Note that locally handled commands bypass the routing of Axon Server. Commands with the same routing key
+         * may thus be handled by different instances at the same time, when several instances handle the same
+         * command. Only enable this when the command handlers do not rely on consistent routing, for example when
+         * aggregates are not cached and concurrent modifications are detected through their sequence numbers.
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder enabledLocalSegmentShortCut() {
+            this.localSegmentShortCut = true;
+            return this;
+        }
+
         /**
          * Initializes a {@link AxonServerCommandBus} as specified through this Builder.
          *
@@ -25,11 +25,11 @@
 import org.axonframework.axonserver.connector.AxonServerConfiguration;
 import org.axonframework.axonserver.connector.ErrorCode;
 import org.axonframework.axonserver.connector.util.ExceptionSerializer;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaDataConverter;
 import org.axonframework.axonserver.connector.util.GrpcMetadataSerializer;
 import org.axonframework.axonserver.connector.util.GrpcObjectSerializer;
 import org.axonframework.axonserver.connector.util.GrpcPayloadSerializer;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.commandhandling.CommandResultMessage;
 import org.axonframework.commandhandling.GenericCommandResultMessage;
@@ -41,6 +41,8 @@
 import org.axonframework.serialization.SerializedMessage;
 import org.axonframework.serialization.Serializer;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.axonframework.common.ObjectUtils.getOrDefault;
@@ -91,7 +93,7 @@ public Command serialize(CommandMessage<?> commandMessage, String routingKey, in
                       .setMessageIdentifier(commandMessage.getIdentifier())
                       .setTimestamp(System.currentTimeMillis())
                       .setPayload(payloadSerializer.apply(commandMessage))
-                      .putAllMetaData(metadataSerializer.apply(commandMessage.getMetaData()))
+                      .putAllMetaData(serializeMetaData(commandMessage))
                       .addProcessingInstructions(
                               ProcessingInstruction.newBuilder()
                                                    .setKey(ProcessingKey.ROUTING_KEY)
@@ -107,6 +109,18 @@ public Command serialize(CommandMessage<?> commandMessage, String routingKey, in
                       .build();
     }
 
+    private Map<String, MetaDataValue> serializeMetaData(CommandMessage<?> commandMessage) {
+        if (commandMessage instanceof GrpcBackedCommandMessage) {
+            // metadata received from Axon Server that has not been replaced is sent on in its serialized form
+            Optional<Map<String, MetaDataValue>> serializedMetaData =
+                    ((GrpcBackedCommandMessage<?>) commandMessage).serializedMetaData();
+            if (serializedMetaData.isPresent()) {
+                return serializedMetaData.get();
+            }
+        }
+        return metadataSerializer.apply(commandMessage.getMetaData());
+    }
+
     /**
      * Convert a {@link CommandResultMessage} into a {@link CommandProviderOutbound}.
      *
@@ -158,7 +172,7 @@ public <R> CommandResultMessage<R> deserialize(CommandResponse commandResponse)
 
         if (commandResponse.hasErrorMessage()) {
             Object exceptionDetails = commandResponse.hasPayload()
-                    ? messageSerializer.deserialize(new GrpcSerializedObject(commandResponse.getPayload()))
+                    ? messageSerializer.deserialize(new GrpcByteBufferSerializedObject(commandResponse.getPayload()))
                     : null;
             AxonException exception = ErrorCode.getFromCode(commandResponse.getErrorCode())
                                                .convert(commandResponse.getErrorMessage(), () -> exceptionDetails);
@@ -172,7 +186,7 @@ public <R> CommandResultMessage<R> deserialize(CommandResponse commandResponse)
         Message<R> response = commandResponse.hasPayload()
                 ? new SerializedMessage<>(commandResponse.getMessageIdentifier(),
                                           new LazyDeserializingObject<>(
-                                                  new GrpcSerializedObject(commandResponse.getPayload()),
+                                                  new GrpcByteBufferSerializedObject(commandResponse.getPayload()),
                                                   messageSerializer
                                           ),
                                           new LazyDeserializingObject<>(metaData))
@@ -16,15 +16,17 @@
 
 package org.axonframework.axonserver.connector.command;
 
+import io.axoniq.axonserver.grpc.MetaDataValue;
 import io.axoniq.axonserver.grpc.command.Command;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.serialization.LazyDeserializingObject;
 import org.axonframework.serialization.Serializer;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -50,7 +52,7 @@
      */
     public GrpcBackedCommandMessage(Command command, Serializer serializer) {
         this(command,
-             new LazyDeserializingObject<>(new GrpcSerializedObject(command.getPayload()), serializer),
+             new LazyDeserializingObject<>(new GrpcByteBufferSerializedObject(command.getPayload()), serializer),
              new GrpcMetaData(command.getMetaDataMap(), serializer));
     }
 
@@ -87,6 +89,18 @@ public Class<C> getPayloadType() {
         return serializedPayload.getType();
     }
 
+    /**
+     * Returns the {@link MetaData} of this message in the serialized form it was received in, as long as it has not
+     * been replaced through {@link #withMetaData(Map)} or {@link #andMetaData(Map)}. This allows the metadata to be
+     * sent on without deserializing and serializing it again.
+     *
+     * @return the serialized form of the {@link MetaData} of this message, or an empty Optional if the metadata has
+     * been replaced since it was received
+     */
+    Optional<Map<String, MetaDataValue>> serializedMetaData() {
+        return metaDataSupplier instanceof GrpcMetaData ? Optional.of(command.getMetaDataMap()) : Optional.empty();
+    }
+
     @Override
     public GrpcBackedCommandMessage<C> withMetaData(Map<String, ?> metaData) {
         return new GrpcBackedCommandMessage<>(command, serializedPayload, () -> MetaData.from(metaData));
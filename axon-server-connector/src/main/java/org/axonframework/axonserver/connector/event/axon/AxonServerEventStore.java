@@ -46,6 +46,8 @@
 import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.EventStoreException;
 import org.axonframework.eventsourcing.snapshotting.SnapshotFilter;
+import org.axonframework.lifecycle.Lifecycle;
+import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.StreamableMessageSource;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.monitoring.MessageMonitor;
@@ -58,9 +60,13 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterators;
@@ -76,6 +82,8 @@
 
 import static java.util.Spliterator.*;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
 import static org.axonframework.common.ObjectUtils.getOrDefault;
 
 /**
@@ -86,7 +94,7 @@
  * @author Allard Buijze
  * @since 4.0
  */
-public class AxonServerEventStore extends AbstractEventStore {
+public class AxonServerEventStore extends AbstractEventStore implements Lifecycle {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -123,6 +131,20 @@ protected AxonServerEventStore(Builder builder) {
         super(builder);
     }
 
+    @Override
+    public void registerLifecycleHandlers(LifecycleRegistry lifecycle) {
+        lifecycle.onShutdown(Phase.OUTBOUND_EVENT_CONNECTORS, this::shutdown);
+    }
+
+    /**
+     * Shuts down the thread committing grouped appends, if {@link Builder#groupCommit(Duration) group commits} are
+     * enabled. Appends which are waiting to be committed are still committed. Events appended afterwards are
+     * committed by the appending thread.
+     */
+    public void shutdown() {
+        storageEngine().shutdown();
+    }
+
     @Override
     public TrackingEventStream openStream(TrackingToken trackingToken) {
         return storageEngine().openStream(trackingToken);
@@ -148,6 +170,21 @@ public StreamableMessageSource<TrackedEventMessage<?>> createStreamableMessageSo
         return new AxonServerMessageSource(storageEngine().createInstanceForContext(context));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Axon Server applies snapshots itself while streaming the events of an aggregate, which the bulk read of the
+     * {@link AbstractEventStore} would bypass. This implementation therefore reads the events of each of the
+     * aggregates through {@link #readEvents(String)}.
+     */
+    @Override
+    public Map<String, DomainEventStream> readEventStreams(Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> result = new HashMap<>();
+        aggregateIdentifiers.forEach(aggregateIdentifier -> result.put(aggregateIdentifier,
+                                                                       readEvents(aggregateIdentifier)));
+        return result;
+    }
+
     @Override
     protected Optional<DomainEventMessage<?>> handleSnapshotReadingError(String aggregateIdentifier, Throwable e) {
         if (Status.fromThrowable(e).getCode() != Status.Code.UNKNOWN) {
@@ -177,6 +214,8 @@ public static class Builder extends AbstractEventStore.Builder {
         private Supplier<Serializer> eventSerializer;
         private EventUpcaster upcasterChain = NoOpEventUpcaster.INSTANCE;
         private SnapshotFilter snapshotFilter;
+        private Duration groupCommitLingerTime;
+        private int groupCommitMaxEvents = 1024;
 
         @Override
         public Builder storageEngine(EventStorageEngine storageEngine) {
@@ -307,6 +346,42 @@ public Builder upcasterChain(EventUpcaster upcasterChain) {
             return this;
         }
 
+        /**
+         * Enables group commit, merging the appends of concurrently committing transactions into shared append
+         * transactions towards Axon Server. Events appended within a Unit of Work are sent when it commits, after which
+         * they are collected for the given {@code lingerTime} together with those of other committing Units of Work.
+         * Appends for the same aggregate are never combined, so that a sequence number conflict in one transaction
+         * does not fail another. By default, every Unit of Work appends its events in an append transaction of its
+         * own.
+         * <p>
+         * This setting is used by the AxonServer {@link EventStorageEngine} implementation which this Builder will
+         * create if it is not provided.
+         *
+         * @param lingerTime the time to collect the events of committing transactions for, before appending them
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder groupCommit(Duration lingerTime) {
+            assertNonNull(lingerTime, "The group commit linger time may not be null");
+            assertThat(lingerTime, time -> !time.isNegative(), "The group commit linger time may not be negative");
+            this.groupCommitLingerTime = lingerTime;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events appended in a single group commit. Transactions with more events than this
+         * maximum are committed on their own. Only used when {@link #groupCommit(Duration) group commit} is enabled.
+         * Defaults to {@code 1024}.
+         *
+         * @param groupCommitMaxEvents the maximum number of events appended in a single group commit
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder groupCommitMaxEvents(int groupCommitMaxEvents) {
+            assertStrictPositive(groupCommitMaxEvents,
+                                 "The maximum number of events per group commit must be strictly positive");
+            this.groupCommitMaxEvents = groupCommitMaxEvents;
+            return this;
+        }
+
         /**
          * Initializes a {@link AxonServerEventStore} as specified through this Builder.
          *
@@ -355,6 +430,7 @@ private void buildStorageEngine() {
                                                         .configuration(configuration)
                                                         .eventStoreClient(axonServerConnectionManager)
                                                         .converter(new GrpcMetaDataConverter(eventSerializer.get()))
+                                                        .groupCommit(groupCommitLingerTime, groupCommitMaxEvents)
                                                         .build());
         }
 
@@ -374,6 +450,7 @@ private static class AxonIQEventStorageEngine extends AbstractEventStorageEngine
 
         private static final int ALLOW_SNAPSHOTS_MAGIC_VALUE = -42;
         private final String APPEND_EVENT_TRANSACTION = this + "/APPEND_EVENT_TRANSACTION";
+        private final String GROUP_COMMIT_EVENTS = this + "/GROUP_COMMIT_EVENTS";
         private static final boolean WITHOUT_SNAPSHOTS = false;
 
         private final AxonServerConfiguration configuration;
@@ -385,6 +462,7 @@ private static class AxonIQEventStorageEngine extends AbstractEventStorageEngine
 
         private final Builder builder;
         private final String context;
+        private final GroupCommittingEventAppender groupCommitAppender;
 
         private static Builder builder() {
             return new Builder();
@@ -406,6 +484,12 @@ private AxonIQEventStorageEngine(Builder builder, String context) {
 
             this.snapshotSerializer = new GrpcMetaDataAwareSerializer(super.getSnapshotSerializer());
             this.eventSerializer = new GrpcMetaDataAwareSerializer(super.getEventSerializer());
+            this.groupCommitAppender = builder.groupCommitLingerTime == null ? null : new GroupCommittingEventAppender(
+                    () -> connectionManager.getConnection(context).eventChannel().startAppendEventsTransaction(),
+                    builder.groupCommitLingerTime.toMillis(),
+                    builder.groupCommitMaxEvents,
+                    configuration.getCommitTimeout()
+            );
         }
 
         /**
@@ -420,8 +504,18 @@ private AxonIQEventStorageEngine createInstanceForContext(String context) {
             return new AxonIQEventStorageEngine(this.builder, context);
         }
 
+        private void shutdown() {
+            if (groupCommitAppender != null) {
+                groupCommitAppender.shutdown();
+            }
+        }
+
         @Override
         protected void appendEvents(List<? extends EventMessage<?>> events, Serializer serializer) {
+            if (groupCommitAppender != null) {
+                groupCommitEvents(events, serializer);
+                return;
+            }
             AppendEventsTransaction sender;
             if (CurrentUnitOfWork.isStarted()) {
                 sender = CurrentUnitOfWork.get().root().getOrComputeResource(APPEND_EVENT_TRANSACTION, k -> {
@@ -444,6 +538,23 @@ protected void appendEvents(List<? extends EventMessage<?>> events, Serializer s
             }
         }
 
+        private void groupCommitEvents(List<? extends EventMessage<?>> events, Serializer serializer) {
+            List<Event> mappedEvents = new ArrayList<>(events.size());
+            for (EventMessage<?> eventMessage : events) {
+                mappedEvents.add(map(eventMessage, serializer));
+            }
+            if (CurrentUnitOfWork.isStarted()) {
+                // events are only sent once the Unit of Work commits, so a rollback simply discards them
+                CurrentUnitOfWork.get().root().getOrComputeResource(GROUP_COMMIT_EVENTS, k -> {
+                    List<Event> pendingEvents = new ArrayList<>();
+                    CurrentUnitOfWork.get().root().onCommit(u -> groupCommitAppender.append(pendingEvents));
+                    return pendingEvents;
+                }).addAll(mappedEvents);
+            } else {
+                groupCommitAppender.append(mappedEvents);
+            }
+        }
+
         private void commit(AppendEventsTransaction appendEventTransaction) {
             try {
                 appendEventTransaction.commit().get(configuration.getCommitTimeout(), TimeUnit.MILLISECONDS);
@@ -562,6 +673,25 @@ ded, isSnapshot(ded) ? snapshotSerializer : eventSerializer)
             );
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * This implementation reads the events of each aggregate separately. Aggregates read from their first event
+         * onwards are read through {@link #readEvents(String)}, allowing Axon Server to start their streams with the
+         * latest snapshot.
+         */
+        @Override
+        public Map<String, DomainEventStream> readEventStreams(Map<String, Long> firstSequenceNumbers) {
+            Map<String, DomainEventStream> result = new HashMap<>();
+            firstSequenceNumbers.forEach((aggregateIdentifier, firstSequenceNumber) -> result.put(
+                    aggregateIdentifier,
+                    firstSequenceNumber == 0
+                            ? readEvents(aggregateIdentifier)
+                            : readEvents(aggregateIdentifier, firstSequenceNumber)
+            ));
+            return result;
+        }
+
         private Stream<? extends DomainEventMessage<?>> upcastAndDeserializeDomainEvent(
                 DomainEventData<?> domainEventData,
                 Serializer serializer
@@ -709,6 +839,8 @@ private static class Builder extends AbstractEventStorageEngine.Builder {
             private AxonServerConfiguration configuration;
             private AxonServerConnectionManager connectionManager;
             private GrpcMetaDataConverter converter;
+            private Duration groupCommitLingerTime;
+            private int groupCommitMaxEvents;
 
             @Override
             public Builder snapshotSerializer(Serializer snapshotSerializer) {
@@ -782,6 +914,12 @@ private Builder converter(GrpcMetaDataConverter converter) {
                 return this;
             }
 
+            private Builder groupCommit(Duration lingerTime, int maxEvents) {
+                this.groupCommitLingerTime = lingerTime;
+                this.groupCommitMaxEvents = maxEvents;
+                return this;
+            }
+
             private AxonIQEventStorageEngine build() {
                 return new AxonIQEventStorageEngine(this);
             }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.event.axon;
+
+import io.axoniq.axonserver.connector.event.AppendEventsTransaction;
+import io.axoniq.axonserver.grpc.event.Event;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Appends the events of concurrently committing transactions to Axon Server in shared append transactions. Each call
+ * to {@link #append(List)} queues the given events and blocks until they have been committed. Queued events are
+ * collected for the configured linger time, after which they are appended and committed in as few Axon Server
+ * transactions as possible.
+ * <p>
+ * Axon Server validates the sequence numbers of the events of each aggregate within a transaction. To prevent a
+ * conflict in one batch from failing another, batches appending events to the same aggregate are never combined into
+ * one transaction; the later batch is deferred to the next transaction instead. When a combined transaction is rejected
+ * regardless, each of its batches is retried in a transaction of its own, so that only the offending batches fail. A
+ * transaction that times out is not retried, as its outcome is unknown.
+ *
+ * @since 4.6
+ */
+class GroupCommittingEventAppender {
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final String THREAD_GROUP_NAME = "AxonServerGroupCommit";
+
+    private final Supplier<AppendEventsTransaction> transactionSupplier;
+    private final long lingerTimeMillis;
+    private final int maxGroupSize;
+    private final long commitTimeoutMillis;
+
+    private final Deque<PendingAppend> queue = new ArrayDeque<>();
+    private boolean flushScheduled;
+    private boolean shutDown;
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * Instantiate a {@link GroupCommittingEventAppender} starting its append transactions through the given {@code
+     * transactionSupplier}.
+     *
+     * @param transactionSupplier supplies a new {@link AppendEventsTransaction} for every group of events to commit
+     * @param lingerTimeMillis    the time in milliseconds to collect events for, before committing them
+     * @param maxGroupSize        the maximum number of events to append in a single transaction, unless a single batch
+     *                            contains more
+     * @param commitTimeoutMillis the time in milliseconds to wait for Axon Server to confirm a commit
+     */
+    GroupCommittingEventAppender(Supplier<AppendEventsTransaction> transactionSupplier,
+                                 long lingerTimeMillis,
+                                 int maxGroupSize,
+                                 long commitTimeoutMillis) {
+        this.transactionSupplier = transactionSupplier;
+        this.lingerTimeMillis = lingerTimeMillis;
+        this.maxGroupSize = maxGroupSize;
+        this.commitTimeoutMillis = commitTimeoutMillis;
+    }
+
+    /**
+     * Appends the given {@code events} atomically, possibly together with the events of other transactions. Blocks
+     * until the events have been committed.
+     *
+     * @param events the events to append
+     * @throws RuntimeException when appending or committing the events failed
+     */
+    void append(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        PendingAppend pending = new PendingAppend(events);
+        boolean flushNow = false;
+        synchronized (queue) {
+            queue.add(pending);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                if (shutDown) {
+                    flushNow = true;
+                } else {
+                    executor().schedule(this::flush, lingerTimeMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+        try {
+            pending.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new EventStoreException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventStoreException("Interrupted while waiting for events to be committed", e);
+        }
+    }
+
+    /**
+     * Shuts down the thread committing the queued events, once the events queued so far have been committed. Events
+     * appended afterwards are committed by the appending thread, without waiting for the linger time.
+     */
+    void shutdown() {
+        synchronized (queue) {
+            shutDown = true;
+            if (flushExecutor != null) {
+                flushExecutor.shutdown();
+            }
+        }
+    }
+
+    private ScheduledExecutorService executor() {
+        if (flushExecutor == null) {
+            AxonThreadFactory threadFactory = new AxonThreadFactory(THREAD_GROUP_NAME);
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = threadFactory.newThread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return flushExecutor;
+    }
+
+    private void flush() {
+        while (true) {
+            List<PendingAppend> group;
+            synchronized (queue) {
+                group = nextGroup();
+                if (group.isEmpty()) {
+                    flushScheduled = false;
+                    return;
+                }
+            }
+            commit(group);
+        }
+    }
+
+    private List<PendingAppend> nextGroup() {
+        List<PendingAppend> group = new ArrayList<>();
+        Set<String> aggregates = new HashSet<>();
+        int groupSize = 0;
+        Iterator<PendingAppend> iterator = queue.iterator();
+        while (iterator.hasNext() && groupSize < maxGroupSize) {
+            PendingAppend pending = iterator.next();
+            boolean fits = group.isEmpty() || groupSize + pending.events.size() <= maxGroupSize;
+            if (fits && Collections.disjoint(aggregates, pending.aggregates)) {
+                iterator.remove();
+                group.add(pending);
+                aggregates.addAll(pending.aggregates);
+                groupSize += pending.events.size();
+            }
+        }
+        return group;
+    }
+
+    private void commit(List<PendingAppend> group) {
+        try {
+            appendAndCommit(group);
+            group.forEach(pending -> pending.result.complete(null));
+        } catch (Exception e) {
+            if (group.size() == 1 || e instanceof org.axonframework.messaging.ExecutionException) {
+                // after a timeout, the outcome of the transaction is unknown, so retrying could duplicate events
+                group.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            }
+            logger.debug("Failed to commit a group of [{}] appends. Retrying each append individually.",
+                         group.size(), e);
+            for (PendingAppend pending : group) {
+                try {
+                    appendAndCommit(Collections.singletonList(pending));
+                    pending.result.complete(null);
+                } catch (Exception individualFailure) {
+                    pending.result.completeExceptionally(individualFailure);
+                }
+            }
+        }
+    }
+
+    private void appendAndCommit(List<PendingAppend> group) throws Exception {
+        AppendEventsTransaction transaction = transactionSupplier.get();
+        try {
+            for (PendingAppend pending : group) {
+                pending.events.forEach(transaction::appendEvent);
+            }
+        } catch (RuntimeException e) {
+            transaction.rollback();
+            throw e;
+        }
+        try {
+            transaction.commit().get(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw new EventStoreException(e.getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new org.axonframework.messaging.ExecutionException("Timeout while executing request", e);
+        }
+    }
+
+    private static class PendingAppend {
+
+        private final List<Event> events;
+        private final Set<String> aggregates = new HashSet<>();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingAppend(List<Event> events) {
+            this.events = events;
+            for (Event event : events) {
+                if (!event.getAggregateIdentifier().isEmpty()) {
+                    aggregates.add(event.getAggregateIdentifier());
+                }
+            }
+        }
+    }
+}
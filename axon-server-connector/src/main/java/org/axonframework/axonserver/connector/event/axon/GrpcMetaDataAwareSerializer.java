@@ -23,9 +23,14 @@
 import org.axonframework.serialization.Serializer;
 
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Wrapper around standard Axon Framework serializer that can deserialize Metadata from AxonServer events.
+ * <p>
+ * Instances wrapping the same delegate are equal, as they produce and read the same serialized form. This allows
+ * messages read through one instance to reuse their serialized form when written through another, for example when
+ * forwarding events between contexts.
  *
  * @author Marc Gathier
  * @since 4.0
@@ -82,4 +87,20 @@ public SerializedType typeForClass(Class type) {
     public Converter getConverter() {
         return delegate.getConverter();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return delegate.equals(((GrpcMetaDataAwareSerializer) o).delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegate);
+    }
 }
@@ -51,26 +51,37 @@
 import org.axonframework.lifecycle.Phase;
 import org.axonframework.lifecycle.ShutdownLatch;
 import org.axonframework.messaging.Distributed;
+import org.axonframework.messaging.Message;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
 import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.DefaultSubscriptionQueryResult;
+import org.axonframework.queryhandling.GenericQueryResponseMessage;
 import org.axonframework.queryhandling.QueryBus;
 import org.axonframework.queryhandling.QueryMessage;
+import org.axonframework.queryhandling.QueryExecutionException;
 import org.axonframework.queryhandling.QueryResponseMessage;
 import org.axonframework.queryhandling.QueryUpdateEmitter;
 import org.axonframework.queryhandling.SubscriptionQueryBackpressure;
 import org.axonframework.queryhandling.SubscriptionQueryMessage;
 import org.axonframework.queryhandling.SubscriptionQueryResult;
 import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
+import org.axonframework.queryhandling.UpdateConflation;
 import org.axonframework.queryhandling.UpdateHandlerRegistration;
 import org.axonframework.serialization.Serializer;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -79,11 +90,14 @@
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static java.lang.String.format;
 import static org.axonframework.axonserver.connector.util.ProcessingInstructionHelper.priority;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -117,6 +131,7 @@ public class AxonServerQueryBus implements QueryBus, Distributed<QueryBus>, Life
     private final TargetContextResolver<? super QueryMessage<?, ?>> targetContextResolver;
     private final ShutdownLatch shutdownLatch = new ShutdownLatch();
     private final ExecutorService queryExecutor;
+    private final QueryAdmissionController admissionController;
     private final QueryHandler localSegmentAdapter;
     private final String context;
 
@@ -149,6 +164,7 @@ public AxonServerQueryBus(Builder builder) {
                 ).reversed()
         );
         queryExecutor = builder.executorServiceBuilder.apply(configuration, queryProcessQueue);
+        admissionController = builder.admissionController;
         localSegmentAdapter = new LocalSegmentAdapter();
     }
 
@@ -265,6 +281,98 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The query is routed by Axon Server like a point-to-point query, to a single handling component. As Axon Server
+     * completes such a query once it has received a single response, the handling component collects all elements and
+     * sends them back in one response. The elements are emitted by the returned Flux as they are requested.
+     * <p>
+     * Note that this backpressure is local to the querying component. The query protocol offers no way to signal
+     * demand to the handling component, which materializes the complete result before sending it.
+     */
+    @Override
+    public <Q, R> Flux<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> queryMessage) {
+        return Flux.defer(() -> {
+            shutdownLatch.ifShuttingDown(String.format(
+                    "Cannot dispatch new %s as this bus is being shut down", "streaming queries"
+            ));
+
+            QueryMessage<Q, Publisher<R>> interceptedQuery = dispatchInterceptors.intercept(queryMessage);
+            ShutdownLatch.ActivityHandle queryInTransit = shutdownLatch.registerActivity();
+            try {
+                String targetContext = targetContextResolver.resolveContext(interceptedQuery);
+                QueryRequest queryRequest =
+                        serializer.serializeRequest(interceptedQuery,
+                                                    DIRECT_QUERY_NUMBER_OF_RESULTS,
+                                                    DIRECT_QUERY_TIMEOUT_MS,
+                                                    priorityCalculator.determinePriority(interceptedQuery));
+
+                ResultStream<QueryResponse> result = axonServerConnectionManager.getConnection(targetContext)
+                                                                                .queryChannel()
+                                                                                .query(queryRequest);
+
+                //noinspection unchecked
+                Class<R> elementType = (Class<R>) queryMessage.getResponseType().getExpectedResponseType();
+                ResponseType<List<R>> elementsType = ResponseTypes.multipleInstancesOf(elementType);
+                return asFlux(result)
+                        .<QueryResponseMessage<List<R>>>handle((response, sink) -> {
+                            QueryResponseMessage<List<R>> elements =
+                                    serializer.deserializeResponse(response, elementsType);
+                            if (elements.isExceptional()) {
+                                sink.error(elements.exceptionResult());
+                            } else {
+                                sink.next(elements);
+                            }
+                        })
+                        .flatMapIterable(elements -> elements.getPayload()
+                                                             .stream()
+                                                             .map(element -> new GenericQueryResponseMessage<>(
+                                                                     elementType, element, elements.getMetaData()
+                                                             ))
+                                                             .collect(Collectors.<QueryResponseMessage<R>>toList()))
+                        .doFinally(signal -> queryInTransit.end());
+            } catch (Exception e) {
+                logger.debug("There was a problem issuing a streaming query {}.", interceptedQuery, e);
+                queryInTransit.end();
+                return Flux.error(ErrorCode.QUERY_DISPATCH_ERROR.convert(configuration.getClientId(), e));
+            }
+        });
+    }
+
+    /**
+     * Adapts the given {@code resultStream} to a {@link Flux}, which only reads responses from the stream when they
+     * are requested. Closes the stream when the Flux is cancelled.
+     */
+    private static Flux<QueryResponse> asFlux(ResultStream<QueryResponse> resultStream) {
+        return Flux.create(sink -> {
+            AtomicInteger drainRequests = new AtomicInteger();
+            Runnable drain = () -> {
+                if (drainRequests.getAndIncrement() != 0) {
+                    return;
+                }
+                do {
+                    QueryResponse next;
+                    while (sink.requestedFromDownstream() > 0 && (next = resultStream.nextIfAvailable()) != null) {
+                        sink.next(next);
+                    }
+                    if (resultStream.isClosed() && resultStream.peek() == null) {
+                        Optional<Throwable> error = resultStream.getError();
+                        if (error.isPresent()) {
+                            sink.error(ErrorCode.QUERY_DISPATCH_ERROR.convert(error.get()));
+                        } else {
+                            sink.complete();
+                        }
+                        return;
+                    }
+                } while (drainRequests.decrementAndGet() != 0);
+            };
+            sink.onRequest(requested -> drain.run());
+            sink.onDispose(resultStream::close);
+            resultStream.onAvailable(drain);
+        });
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -307,6 +415,31 @@ public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQu
         return new AxonServerSubscriptionQueryResult<>(result, subscriptionSerializer);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Axon Server delivers every update emitted by the query handling component. Hence the updates are conflated
+     * through {@link UpdateConflation#conflate(Flux)} as they are received by this bus. Although this does not reduce
+     * the number of updates sent by Axon Server, it does reduce the number of updates passed to the subscriber.
+     */
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query,
+            int updateBufferSize,
+            UpdateConflation conflation
+    ) {
+        SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> result =
+                subscriptionQuery(query, updateBufferSize);
+        if (conflation == null) {
+            return result;
+        }
+        logger.debug("Conflating updates of Subscription Query with subscription Id [{}] as they are received",
+                     query.getIdentifier());
+        return new DefaultSubscriptionQueryResult<>(result.initialResult(),
+                                                    conflation.conflate(result.updates()),
+                                                    result::cancel);
+    }
+
     @Override
     public QueryUpdateEmitter queryUpdateEmitter() {
         return updateEmitter;
@@ -353,6 +486,10 @@ public CompletableFuture<Void> shutdownDispatching() {
      * A {@link Runnable} implementation which is given to a {@link PriorityBlockingQueue} to be consumed by the query
      * {@link ExecutorService}, in order. The {@code priority} is retrieved from the provided {@link QueryRequest} and
      * used to priorities this {@link QueryProcessingTask} among others of it's kind.
+     * <p>
+     * Queries that have been waiting longer than their timeout by the time they are processed are rejected, as the
+     * sender no longer awaits their response. The {@code onCompletion} callback is invoked once the query has been
+     * fully processed or rejected.
      */
     private static class QueryProcessingTask implements Runnable {
 
@@ -362,17 +499,24 @@ private static class QueryProcessingTask implements Runnable {
         private final ReplyChannel<QueryResponse> responseHandler;
         private final QuerySerializer serializer;
         private final String clientId;
+        private final long receivedAt;
+        private final Runnable onCompletion;
 
         private QueryProcessingTask(QueryBus localSegment,
                                     QueryRequest queryRequest,
                                     ReplyChannel<QueryResponse> responseHandler,
-                                    QuerySerializer serializer, String clientId) {
+                                    QuerySerializer serializer,
+                                    String clientId,
+                                    long receivedAt,
+                                    Runnable onCompletion) {
             this.localSegment = localSegment;
             this.priority = priority(queryRequest.getProcessingInstructionsList());
             this.queryRequest = queryRequest;
             this.responseHandler = responseHandler;
             this.serializer = serializer;
             this.clientId = clientId;
+            this.receivedAt = receivedAt;
+            this.onCompletion = onCompletion;
         }
 
         public long getPriority() {
@@ -381,24 +525,47 @@ public long getPriority() {
 
         @Override
         public void run() {
+            boolean completesAsynchronously = false;
             try {
+                long timeout = ProcessingInstructionHelper.timeout(queryRequest.getProcessingInstructionsList());
+                long queueTime = System.currentTimeMillis() - receivedAt;
+                if (timeout > 0 && queueTime >= timeout) {
+                    logger.debug("Rejecting query [{}], as it has been waiting [{}ms] while its timeout is [{}ms]",
+                                 queryRequest.getQuery(), queueTime, timeout);
+                    sendError(new QueryExecutionException(format(
+                            "Query [%s] was not processed within its timeout of [%dms]",
+                            queryRequest.getQuery(), timeout
+                    ), null));
+                    return;
+                }
                 logger.debug("Will process query [{}]", queryRequest.getQuery());
                 QueryMessage<Object, Object> queryMessage = serializer.deserializeRequest(queryRequest);
-                if (ProcessingInstructionHelper.numberOfResults(queryRequest.getProcessingInstructionsList()) == 1) {
-                    localSegment.query(queryMessage).whenComplete((r, e) -> {
-                        if (e != null) {
-                            ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
-                            QueryResponse response =
-                                    QueryResponse.newBuilder()
-                                                 .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
-                                                 .setErrorMessage(ex)
-                                                 .setRequestIdentifier(queryRequest.getMessageIdentifier())
-                                                 .build();
-                            responseHandler.sendLast(response);
-                        } else {
-                            responseHandler.sendLast(
-                                    serializer.serializeResponse(r, queryRequest.getMessageIdentifier())
-                            );
+                if (queryMessage.getResponseType() instanceof PublisherResponseType) {
+                    //noinspection unchecked
+                    Flux<QueryResponseMessage<Object>> result = localSegment.streamingQuery(
+                            (QueryMessage<Object, Publisher<Object>>) (QueryMessage<?, ?>) queryMessage
+                    );
+                    // Axon Server completes the query after the first response, so all elements are sent in one
+                    List<Object> elements = result.map(Message::getPayload).collectList().block();
+                    responseHandler.sendLast(serializer.serializeResponse(
+                            new GenericQueryResponseMessage<>(elements), queryRequest.getMessageIdentifier()
+                    ));
+                } else if (ProcessingInstructionHelper.numberOfResults(
+                        queryRequest.getProcessingInstructionsList()
+                ) == 1) {
+                    CompletableFuture<QueryResponseMessage<Object>> result = localSegment.query(queryMessage);
+                    completesAsynchronously = true;
+                    result.whenComplete((r, e) -> {
+                        try {
+                            if (e != null) {
+                                sendError(e);
+                            } else {
+                                responseHandler.sendLast(
+                                        serializer.serializeResponse(r, queryRequest.getMessageIdentifier())
+                                );
+                            }
+                        } finally {
+                            onCompletion.run();
                         }
                     });
                 } else {
@@ -413,16 +580,24 @@ public void run() {
                     responseHandler.complete();
                 }
             } catch (RuntimeException | OutOfDirectMemoryError e) {
-                ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
-                responseHandler.sendLast(QueryResponse.newBuilder()
-                                                      .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
-                                                      .setErrorMessage(ex)
-                                                      .setRequestIdentifier(queryRequest.getMessageIdentifier())
-                                                      .build());
+                sendError(e);
                 logger.warn("Query Processor had an exception when processing query [{}]",
                             queryRequest.getQuery(), e);
+            } finally {
+                if (!completesAsynchronously) {
+                    onCompletion.run();
+                }
             }
         }
+
+        private void sendError(Throwable e) {
+            ErrorMessage ex = ExceptionSerializer.serialize(clientId, e);
+            responseHandler.sendLast(QueryResponse.newBuilder()
+                                                  .setErrorCode(ErrorCode.getQueryExecutionErrorCode(e).errorCode())
+                                                  .setErrorMessage(ex)
+                                                  .setRequestIdentifier(queryRequest.getMessageIdentifier())
+                                                  .build());
+        }
     }
 
     /**
@@ -450,6 +625,7 @@ public static class Builder {
                 q -> configuration.getContext();
         private ExecutorServiceBuilder executorServiceBuilder =
                 ExecutorServiceBuilder.defaultQueryExecutorServiceBuilder();
+        private QueryAdmissionController admissionController;
 
         /**
          * Sets the {@link AxonServerConnectionManager} used to create connections between this application and an Axon
@@ -592,6 +768,25 @@ public Builder executorServiceBuilder(ExecutorServiceBuilder executorServiceBuil
             return this;
         }
 
+        /**
+         * Sets the {@link QueryAdmissionController} used to limit the number of incoming queries processed
+         * concurrently, per query name. Incoming queries exceeding the limit of their query name are parked until a
+         * query with the same name completes, or rejected when too many of them are pending. When not set, incoming
+         * queries are handed to the query processing threads without any limit.
+         * <p>
+         * Regardless of this setting, queries that have been waiting for a processing thread longer than their timeout
+         * are rejected instead of being processed.
+         *
+         * @param admissionController the {@link QueryAdmissionController} used to limit the number of incoming queries
+         *                            processed concurrently, per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder admissionController(QueryAdmissionController admissionController) {
+            assertNonNull(admissionController, "QueryAdmissionController may not be null");
+            this.admissionController = admissionController;
+            return this;
+        }
+
         /**
          * Sets the request stream factory that creates a request stream based on upstream. Defaults to {@link
          * UpstreamAwareStreamObserver#getRequestStream()}.
@@ -783,10 +978,32 @@ private class LocalSegmentAdapter implements QueryHandler {
 
         @Override
         public void handle(QueryRequest query, ReplyChannel<QueryResponse> responseHandler) {
-            QueryProcessingTask processingTask = new QueryProcessingTask(
-                    localSegment, query, responseHandler, serializer, configuration.getClientId()
-            );
-            queryExecutor.submit(processingTask);
+            long receivedAt = System.currentTimeMillis();
+            if (admissionController == null) {
+                queryExecutor.submit(new QueryProcessingTask(
+                        localSegment, query, responseHandler, serializer, configuration.getClientId(), receivedAt,
+                        () -> {
+                        }
+                ));
+                return;
+            }
+            boolean admitted = admissionController.admit(query.getQuery(), permit -> queryExecutor.submit(
+                    new QueryProcessingTask(localSegment, query, responseHandler, serializer,
+                                            configuration.getClientId(), receivedAt, permit::release)
+            ));
+            if (!admitted) {
+                logger.debug("Rejecting query [{}], as too many queries with the same name are pending",
+                             query.getQuery());
+                QueryExecutionException rejection = new QueryExecutionException(format(
+                        "Query [%s] was rejected, as too many queries with the same name are pending", query.getQuery()
+                ), null);
+                ErrorMessage error = ExceptionSerializer.serialize(configuration.getClientId(), rejection);
+                responseHandler.sendLast(QueryResponse.newBuilder()
+                                                      .setErrorCode(ErrorCode.QUERY_EXECUTION_ERROR.errorCode())
+                                                      .setErrorMessage(error)
+                                                      .setRequestIdentifier(query.getMessageIdentifier())
+                                                      .build());
+            }
         }
 
         @Override
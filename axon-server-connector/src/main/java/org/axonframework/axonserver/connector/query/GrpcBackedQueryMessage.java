@@ -18,7 +18,7 @@
 
 import io.axoniq.axonserver.grpc.query.QueryRequest;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.queryhandling.QueryMessage;
@@ -58,8 +58,12 @@ public GrpcBackedQueryMessage(QueryRequest queryRequest,
                                   Serializer serializer) {
         this(
                 queryRequest,
-                new LazyDeserializingObject<>(new GrpcSerializedObject(queryRequest.getPayload()), messageSerializer),
-                new LazyDeserializingObject<>(new GrpcSerializedObject(queryRequest.getResponseType()), serializer),
+                new LazyDeserializingObject<>(
+                        new GrpcByteBufferSerializedObject(queryRequest.getPayload()), messageSerializer
+                ),
+                new LazyDeserializingObject<>(
+                        new GrpcByteBufferSerializedObject(queryRequest.getResponseType()), serializer
+                ),
                 new GrpcMetaData(queryRequest.getMetaDataMap(), messageSerializer)
         );
     }
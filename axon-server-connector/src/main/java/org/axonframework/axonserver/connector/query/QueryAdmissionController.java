@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.query;
+
+import org.axonframework.common.AxonConfigurationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Controls the admission of incoming queries to the query processing threads of the {@link AxonServerQueryBus}, per
+ * query name. Each query name is allowed a limited number of concurrently processed queries. Queries arriving while
+ * this limit is reached are parked, in order of arrival, until a query with the same name completes. Once the number
+ * of parked queries for a query name reaches the configured maximum, additional queries with that name are rejected.
+ * This way, a single expensive query type cannot occupy all query processing threads and starve the others.
+ * <p>
+ * The concurrency limit of each query name adapts to the observed latency, using an additive-increase,
+ * multiplicative-decrease scheme. Each query completing within the {@link Builder#targetLatency(Duration) target
+ * latency} slowly raises the limit, up to the {@link Builder#maxConcurrencyLimit(int) maximum}. Each query exceeding
+ * it lowers the limit by the {@link Builder#backoffRatio(double) backoff ratio}, down to the {@link
+ * Builder#minConcurrencyLimit(int) minimum}. The latency is measured from the moment a query is granted a permit,
+ * thus including the time it waits for a processing thread.
+ *
+ * @since 4.6
+ */
+public class QueryAdmissionController {
+
+    private final int initialConcurrencyLimit;
+    private final int minConcurrencyLimit;
+    private final int maxConcurrencyLimit;
+    private final int maxPendingQueries;
+    private final long targetLatencyMillis;
+    private final double backoffRatio;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, QueryNameState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate a {@link QueryAdmissionController} based on the fields contained in the {@link Builder}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link QueryAdmissionController} instance
+     */
+    protected QueryAdmissionController(Builder builder) {
+        builder.validate();
+        this.initialConcurrencyLimit = builder.initialConcurrencyLimit;
+        this.minConcurrencyLimit = builder.minConcurrencyLimit;
+        this.maxConcurrencyLimit = builder.maxConcurrencyLimit;
+        this.maxPendingQueries = builder.maxPendingQueries;
+        this.targetLatencyMillis = builder.targetLatency.toMillis();
+        this.backoffRatio = builder.backoffRatio;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link QueryAdmissionController}.
+     * <p>
+     * The initial concurrency limit defaults to {@code 16}, the minimum to {@code 1} and the maximum to {@code 256}.
+     * The maximum number of pending queries per query name defaults to {@code 1000}, the target latency to one second,
+     * the backoff ratio to {@code 0.9} and the {@link Clock} to {@link Clock#systemUTC()}.
+     *
+     * @return a Builder to be able to create a {@link QueryAdmissionController}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Requests admission of a query with the given {@code queryName}. When the concurrency limit of the query name
+     * allows it, the given {@code task} is invoked immediately, in the calling thread, with the {@link Permit} granted
+     * to the query. Otherwise, the task is parked and invoked with a permit once a query with the same name releases
+     * its permit, in the thread releasing that permit. The permit must be {@link Permit#release() released} once
+     * processing of the query has completed.
+     *
+     * @param queryName the name of the query requesting admission
+     * @param task      the task to invoke with the granted permit, typically scheduling the processing of the query
+     * @return {@code true} if the query was admitted or parked, {@code false} if it was rejected because too many
+     * queries with the same name are pending
+     */
+    public boolean admit(String queryName, Consumer<Permit> task) {
+        QueryNameState state = states.computeIfAbsent(queryName, k -> new QueryNameState(initialConcurrencyLimit));
+        Permit permit;
+        synchronized (state) {
+            if (state.inFlight < state.currentLimit()) {
+                state.inFlight++;
+                permit = new Permit(state);
+            } else if (state.pending.size() < maxPendingQueries) {
+                state.pending.add(task);
+                return true;
+            } else {
+                return false;
+            }
+        }
+        task.accept(permit);
+        return true;
+    }
+
+    /**
+     * Returns the current concurrency limit for queries with the given {@code queryName}.
+     *
+     * @param queryName the name of the query to return the concurrency limit for
+     * @return the current concurrency limit for queries with the given {@code queryName}
+     */
+    public int concurrencyLimit(String queryName) {
+        QueryNameState state = states.get(queryName);
+        if (state == null) {
+            return initialConcurrencyLimit;
+        }
+        synchronized (state) {
+            return state.currentLimit();
+        }
+    }
+
+    /**
+     * Returns the number of queries with the given {@code queryName} that are parked, waiting for a permit.
+     *
+     * @param queryName the name of the query to return the number of pending queries for
+     * @return the number of queries with the given {@code queryName} waiting for a permit
+     */
+    public int pendingQueries(String queryName) {
+        QueryNameState state = states.get(queryName);
+        if (state == null) {
+            return 0;
+        }
+        synchronized (state) {
+            return state.pending.size();
+        }
+    }
+
+    private void release(QueryNameState state, long grantedAt) {
+        long latency = clock.millis() - grantedAt;
+        List<Consumer<Permit>> admitted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+        synchronized (state) {
+            if (latency > targetLatencyMillis) {
+                state.limit = Math.max(minConcurrencyLimit, state.limit * backoffRatio);
+            } else {
+                state.limit = Math.min(maxConcurrencyLimit, state.limit + 1 / state.limit);
+            }
+            state.inFlight--;
+            while (state.inFlight < state.currentLimit() && !state.pending.isEmpty()) {
+                state.inFlight++;
+                admitted.add(state.pending.poll());
+                permits.add(new Permit(state));
+            }
+        }
+        for (int i = 0; i < admitted.size(); i++) {
+            admitted.get(i).accept(permits.get(i));
+        }
+    }
+
+    /**
+     * The admission granted to a single query. Releasing the permit makes room for the next query with the same name,
+     * and feeds the latency of the query into the concurrency limit of its query name.
+     */
+    public final class Permit {
+
+        private final QueryNameState state;
+        private final long grantedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(QueryNameState state) {
+            this.state = state;
+            this.grantedAt = clock.millis();
+        }
+
+        /**
+         * Releases this permit. Invoking this method more than once has no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                QueryAdmissionController.this.release(state, grantedAt);
+            }
+        }
+    }
+
+    private static final class QueryNameState {
+
+        private final Deque<Consumer<Permit>> pending = new ArrayDeque<>();
+        private double limit;
+        private int inFlight;
+
+        private QueryNameState(int limit) {
+            this.limit = limit;
+        }
+
+        private int currentLimit() {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link QueryAdmissionController}.
+     * <p>
+     * The initial concurrency limit defaults to {@code 16}, the minimum to {@code 1} and the maximum to {@code 256}.
+     * The maximum number of pending queries per query name defaults to {@code 1000}, the target latency to one second,
+     * the backoff ratio to {@code 0.9} and the {@link Clock} to {@link Clock#systemUTC()}.
+     */
+    public static class Builder {
+
+        private int initialConcurrencyLimit = 16;
+        private int minConcurrencyLimit = 1;
+        private int maxConcurrencyLimit = 256;
+        private int maxPendingQueries = 1000;
+        private Duration targetLatency = Duration.ofSeconds(1);
+        private double backoffRatio = 0.9;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Sets the number of queries with the same name that may be processed concurrently before any latency has
+         * been observed. Defaults to {@code 16}.
+         *
+         * @param initialConcurrencyLimit the initial concurrency limit per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder initialConcurrencyLimit(int initialConcurrencyLimit) {
+            assertStrictPositive(initialConcurrencyLimit, "The initial concurrency limit must be strictly positive");
+            this.initialConcurrencyLimit = initialConcurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lower bound of the concurrency limit per query name. Defaults to {@code 1}.
+         *
+         * @param minConcurrencyLimit the lower bound of the concurrency limit per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder minConcurrencyLimit(int minConcurrencyLimit) {
+            assertStrictPositive(minConcurrencyLimit, "The minimum concurrency limit must be strictly positive");
+            this.minConcurrencyLimit = minConcurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of the concurrency limit per query name. Defaults to {@code 256}.
+         *
+         * @param maxConcurrencyLimit the upper bound of the concurrency limit per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxConcurrencyLimit(int maxConcurrencyLimit) {
+            assertStrictPositive(maxConcurrencyLimit, "The maximum concurrency limit must be strictly positive");
+            this.maxConcurrencyLimit = maxConcurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queries with the same name that may wait for a permit. Queries arriving once this
+         * number is reached are rejected. Defaults to {@code 1000}.
+         *
+         * @param maxPendingQueries the maximum number of pending queries per query name
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxPendingQueries(int maxPendingQueries) {
+            assertThat(maxPendingQueries, n -> n >= 0, "The maximum number of pending queries may not be negative");
+            this.maxPendingQueries = maxPendingQueries;
+            return this;
+        }
+
+        /**
+         * Sets the latency queries are expected to complete within. Queries completing within this latency raise the
+         * concurrency limit of their query name, while slower queries lower it. Defaults to one second.
+         *
+         * @param targetLatency the latency queries are expected to complete within
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder targetLatency(Duration targetLatency) {
+            assertNonNull(targetLatency, "The target latency may not be null");
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        /**
+         * Sets the ratio the concurrency limit of a query name is multiplied with when a query exceeds the {@link
+         * #targetLatency(Duration) target latency}. Must be larger than {@code 0} and smaller than {@code 1}. Defaults
+         * to {@code 0.9}.
+         *
+         * @param backoffRatio the ratio to lower the concurrency limit with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            assertThat(backoffRatio, r -> r > 0 && r < 1, "The backoff ratio must be between 0 and 1");
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to measure the latency of queries. Defaults to {@link Clock#systemUTC()}.
+         *
+         * @param clock the {@link Clock} used to measure the latency of queries
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link QueryAdmissionController} as specified through this Builder.
+         *
+         * @return a {@link QueryAdmissionController} as specified through this Builder
+         */
+        public QueryAdmissionController build() {
+            return new QueryAdmissionController(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertThat(minConcurrencyLimit, min -> min <= maxConcurrencyLimit,
+                       "The minimum concurrency limit may not exceed the maximum concurrency limit");
+            assertThat(initialConcurrencyLimit,
+                       initial -> initial >= minConcurrencyLimit && initial <= maxConcurrencyLimit,
+                       "The initial concurrency limit must be between the minimum and maximum concurrency limit");
+        }
+    }
+}
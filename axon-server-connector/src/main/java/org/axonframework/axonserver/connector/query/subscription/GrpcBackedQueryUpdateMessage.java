@@ -19,7 +19,7 @@
 import io.axoniq.axonserver.grpc.query.QueryUpdate;
 import org.axonframework.axonserver.connector.ErrorCode;
 import org.axonframework.axonserver.connector.util.GrpcMetaData;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.messaging.IllegalPayloadAccessException;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
@@ -55,7 +55,9 @@
     public GrpcBackedQueryUpdateMessage(QueryUpdate queryUpdate, Serializer serializer) {
         this.queryUpdate = queryUpdate;
         this.serializedPayload = queryUpdate.hasPayload()
-                ? new LazyDeserializingObject<>(new GrpcSerializedObject(queryUpdate.getPayload()), serializer)
+                ? new LazyDeserializingObject<>(
+                        new GrpcByteBufferSerializedObject(queryUpdate.getPayload()), serializer
+                )
                 : null;
         Supplier<Object> exceptionDetails = serializedPayload == null
                 ? () -> null
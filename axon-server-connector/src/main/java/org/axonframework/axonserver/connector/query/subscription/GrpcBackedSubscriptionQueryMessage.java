@@ -18,7 +18,7 @@
 
 import io.axoniq.axonserver.grpc.query.SubscriptionQuery;
 import org.axonframework.axonserver.connector.query.GrpcBackedQueryMessage;
-import org.axonframework.axonserver.connector.util.GrpcSerializedObject;
+import org.axonframework.axonserver.connector.util.GrpcByteBufferSerializedObject;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.queryhandling.SubscriptionQueryMessage;
@@ -62,7 +62,8 @@ public GrpcBackedSubscriptionQueryMessage(SubscriptionQuery subscriptionQuery,
                 subscriptionQuery,
                 new GrpcBackedQueryMessage<>(subscriptionQuery.getQueryRequest(), messageSerializer, serializer),
                 new LazyDeserializingObject<>(
-                        new GrpcSerializedObject(subscriptionQuery.getQueryRequest().getResponseType()), serializer
+                        new GrpcByteBufferSerializedObject(subscriptionQuery.getQueryRequest().getResponseType()),
+                        serializer
                 )
         );
     }
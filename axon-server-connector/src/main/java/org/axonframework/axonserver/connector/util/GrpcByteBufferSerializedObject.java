@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.util;
+
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Wrapper that allows clients to access a gRPC {@link io.axoniq.axonserver.grpc.SerializedObject} message as a {@link
+ * SerializedObject} with {@link ByteBuffer} content. The data is exposed as a read-only view on the bytes of the gRPC
+ * message, so serializers able to read from a {@code ByteBuffer} or {@link java.io.InputStream} deserialize the payload
+ * without copying it into an intermediate byte array first.
+ *
+ * @since 4.6
+ */
+public class GrpcByteBufferSerializedObject implements SerializedObject<ByteBuffer> {
+
+    private final io.axoniq.axonserver.grpc.SerializedObject payload;
+
+    /**
+     * Initialize a {@link GrpcByteBufferSerializedObject}, wrapping a {@link io.axoniq.axonserver.grpc.SerializedObject}
+     * as a {@link SerializedObject} with {@link ByteBuffer} content.
+     *
+     * @param serializedObject a {@link io.axoniq.axonserver.grpc.SerializedObject} which will be wrapped as a {@link
+     *                         SerializedObject}
+     */
+    public GrpcByteBufferSerializedObject(io.axoniq.axonserver.grpc.SerializedObject serializedObject) {
+        this.payload = serializedObject;
+    }
+
+    @Override
+    public Class<ByteBuffer> getContentType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public SerializedType getType() {
+        return GrpcSerializedObject.serializedTypeOf(payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each invocation returns a new read-only view on the data, positioned at its start.
+     */
+    @Override
+    public ByteBuffer getData() {
+        return payload.getData().asReadOnlyByteBuffer();
+    }
+}
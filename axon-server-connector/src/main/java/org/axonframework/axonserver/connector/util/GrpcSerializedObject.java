@@ -48,15 +48,26 @@ public Class<byte[]> getContentType() {
 
     @Override
     public SerializedType getType() {
+        return serializedTypeOf(payload);
+    }
+
+    /**
+     * Returns the {@link SerializedType} described by the given gRPC {@code serializedObject}, treating an empty
+     * revision as no revision.
+     *
+     * @param serializedObject the gRPC {@link io.axoniq.axonserver.grpc.SerializedObject} to return the type of
+     * @return the {@link SerializedType} described by the given {@code serializedObject}
+     */
+    static SerializedType serializedTypeOf(io.axoniq.axonserver.grpc.SerializedObject serializedObject) {
         return new SerializedType() {
             @Override
             public String getName() {
-                return payload.getType();
+                return serializedObject.getType();
             }
 
             @Override
             public String getRevision() {
-                String revision = payload.getRevision();
+                String revision = serializedObject.getRevision();
                 return "".equals(revision) ? null : revision;
             }
         };
@@ -59,8 +59,10 @@
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -282,6 +284,38 @@ void subscribe() {
                 assertNull(dummyMessagePlatformServer.subscriptions(String.class.getName())));
     }
 
+    @Test
+    void dispatchWithLocalSegmentShortCutHandlesSubscribedCommandsLocally() throws Exception {
+        AxonServerCommandBus shortCuttingBus =
+                AxonServerCommandBus.builder()
+                                    .axonServerConnectionManager(axonServerConnectionManager)
+                                    .configuration(configuration)
+                                    .localSegment(localSegment)
+                                    .serializer(serializer)
+                                    .routingStrategy(command -> "RoutingKey")
+                                    .enabledLocalSegmentShortCut()
+                                    .build();
+        Registration registration = shortCuttingBus.subscribe(String.class.getName(), c -> "handled locally");
+        // subscribing itself uses the connection, so only look at the invocations caused by dispatching
+        clearInvocations(axonServerConnectionManager);
+
+        CompletableFuture<CommandResultMessage<?>> localResult = new CompletableFuture<>();
+        shortCuttingBus.dispatch(new GenericCommandMessage<>("this is the payload"),
+                                 (commandMessage, result) -> localResult.complete(result));
+
+        assertEquals("handled locally", localResult.get(5, TimeUnit.SECONDS).getPayload());
+        verify(axonServerConnectionManager, never()).getConnection(anyString());
+
+        registration.cancel();
+        clearInvocations(axonServerConnectionManager);
+        CompletableFuture<CommandResultMessage<?>> remoteResult = new CompletableFuture<>();
+        shortCuttingBus.dispatch(new GenericCommandMessage<>("this is the payload"),
+                                 (commandMessage, result) -> remoteResult.complete(result));
+
+        assertEquals("this is the payload", remoteResult.get(5, TimeUnit.SECONDS).getPayload());
+        verify(axonServerConnectionManager).getConnection(BOUNDED_CONTEXT);
+    }
+
     @Test
     void dispatchInterceptor() {
         List<Object> results = new LinkedList<>();
@@ -339,6 +339,48 @@ void testReadEventsWithMagicSequenceNumberAndNoSnapshotFilterIncludesSnapshots()
         assertFalse(resultStream.hasNext());
     }
 
+    @Test
+    void testReadEventStreamsStartsWithSnapshotsAppliedByAxonServer() {
+        AxonServerEventStore testSubjectWithoutSnapshotFilter =
+                AxonServerEventStore.builder()
+                                    .configuration(config)
+                                    .platformConnectionManager(axonServerConnectionManager)
+                                    .upcasterChain(upcasterChain)
+                                    .eventSerializer(JacksonSerializer.defaultSerializer())
+                                    .snapshotSerializer(JacksonSerializer.defaultSerializer())
+                                    .build();
+        String otherAggregateId = "otherAggregateId";
+
+        testSubjectWithoutSnapshotFilter.storeSnapshot(
+                new GenericDomainEventMessage<>(AGGREGATE_TYPE, AGGREGATE_ID, 1, "Snapshot1")
+        );
+        testSubjectWithoutSnapshotFilter.publish(
+                new GenericDomainEventMessage<>(AGGREGATE_TYPE, AGGREGATE_ID, 0, "Test1"),
+                new GenericDomainEventMessage<>(AGGREGATE_TYPE, AGGREGATE_ID, 1, "Test2"),
+                new GenericDomainEventMessage<>(AGGREGATE_TYPE, AGGREGATE_ID, 2, "Test3"),
+                new GenericDomainEventMessage<>(AGGREGATE_TYPE, otherAggregateId, 0, "Other1")
+        );
+
+        // Snapshot storage is async, so we need to make sure the first event through "readEvents" is the snapshot
+        assertWithin(2, TimeUnit.SECONDS, () -> {
+            DomainEventStream snapshotValidationStream = testSubjectWithoutSnapshotFilter.readEvents(AGGREGATE_ID);
+            assertTrue(snapshotValidationStream.hasNext());
+            assertEquals("Snapshot1", snapshotValidationStream.next().getPayload());
+        });
+
+        Map<String, DomainEventStream> result =
+                testSubjectWithoutSnapshotFilter.readEventStreams(Arrays.asList(AGGREGATE_ID, otherAggregateId));
+
+        assertEquals(Arrays.asList("Snapshot1", "Test3"), payloadsOf(result.get(AGGREGATE_ID)));
+        assertEquals(Collections.singletonList("Other1"), payloadsOf(result.get(otherAggregateId)));
+    }
+
+    private static List<Object> payloadsOf(DomainEventStream eventStream) {
+        List<Object> payloads = new ArrayList<>();
+        eventStream.forEachRemaining(event -> payloads.add(event.getPayload()));
+        return payloads;
+    }
+
     @Test
     void testReadEventsWithMagicSequenceNumberAndSnapshotFilterSetIgnoresSnapshots() {
         Map<String, String> testMetaData = Collections.singletonMap("key", "value");
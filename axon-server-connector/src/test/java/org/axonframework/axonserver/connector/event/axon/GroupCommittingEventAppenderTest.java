@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.event.axon;
+
+import io.axoniq.axonserver.connector.event.AppendEventsTransaction;
+import io.axoniq.axonserver.grpc.event.Event;
+import org.axonframework.axonserver.connector.AxonServerException;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link GroupCommittingEventAppender}.
+ */
+class GroupCommittingEventAppenderTest {
+
+    private static final long LINGER_TIME_MILLIS = 200;
+
+    private List<List<Event>> committedTransactions;
+    private List<Thread> transactionThreads;
+    private Predicate<List<Event>> rejectTransaction;
+    private ExecutorService executor;
+    private GroupCommittingEventAppender testSubject;
+
+    @BeforeEach
+    void setUp() {
+        committedTransactions = new CopyOnWriteArrayList<>();
+        transactionThreads = new CopyOnWriteArrayList<>();
+        rejectTransaction = events -> false;
+        executor = Executors.newFixedThreadPool(2);
+        testSubject = new GroupCommittingEventAppender(this::startTransaction, LINGER_TIME_MILLIS, 10, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private AppendEventsTransaction startTransaction() {
+        transactionThreads.add(Thread.currentThread());
+        List<Event> appended = new ArrayList<>();
+        AppendEventsTransaction transaction = mock(AppendEventsTransaction.class);
+        when(transaction.appendEvent(any())).thenAnswer(invocation -> {
+            appended.add(invocation.getArgument(0));
+            return transaction;
+        });
+        when(transaction.commit()).thenAnswer(invocation -> {
+            if (rejectTransaction.test(appended)) {
+                CompletableFuture<?> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(new AxonServerException("AXONIQ-2000", "Invalid sequence"));
+                return rejected;
+            }
+            committedTransactions.add(appended);
+            return CompletableFuture.completedFuture(null);
+        });
+        return transaction;
+    }
+
+    @Test
+    void testConcurrentAppendsForDifferentAggregatesAreCommittedTogether() throws Exception {
+        Future<?> first = executor.submit(() -> testSubject.append(singletonList(event("aggregate-1", 0))));
+        Future<?> second = executor.submit(() -> testSubject.append(singletonList(event("aggregate-2", 0))));
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, committedTransactions.size());
+        assertEquals(2, committedTransactions.get(0).size());
+    }
+
+    @Test
+    void testQueuedAppendsAreCommittedAfterShutdown() throws Exception {
+        Future<?> queued = executor.submit(() -> testSubject.append(singletonList(event("aggregate-1", 0))));
+
+        testSubject.shutdown();
+
+        queued.get(5, TimeUnit.SECONDS);
+        assertEquals(1, committedTransactions.size());
+    }
+
+    @Test
+    void testAppendsAfterShutdownAreCommittedByAppendingThread() {
+        testSubject.shutdown();
+
+        testSubject.append(singletonList(event("aggregate-1", 0)));
+
+        assertEquals(1, committedTransactions.size());
+        assertEquals(singletonList(Thread.currentThread()), transactionThreads);
+    }
+
+    @Test
+    void testConcurrentAppendsForSameAggregateAreCommittedSeparately() throws Exception {
+        Future<?> first = executor.submit(() -> testSubject.append(singletonList(event("aggregate-1", 0))));
+        Future<?> second = executor.submit(() -> testSubject.append(singletonList(event("aggregate-1", 1))));
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, committedTransactions.size());
+    }
+
+    @Test
+    void testRejectedGroupIsRetriedPerAppendSoOnlyOffendingAppendFails() throws Exception {
+        Event offending = event("aggregate-1", 42);
+        rejectTransaction = events -> events.contains(offending);
+
+        Future<?> failing = executor.submit(() -> testSubject.append(singletonList(offending)));
+        Future<?> succeeding = executor.submit(() -> testSubject.append(
+                Arrays.asList(event("aggregate-2", 0), event("aggregate-2", 1))
+        ));
+
+        succeeding.get(5, TimeUnit.SECONDS);
+        java.util.concurrent.ExecutionException failure =
+                assertThrows(java.util.concurrent.ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof AxonServerException);
+        assertEquals(1, committedTransactions.size());
+        assertEquals(2, committedTransactions.get(0).size());
+    }
+
+    private static Event event(String aggregateIdentifier, long sequenceNumber) {
+        return Event.newBuilder()
+                    .setMessageIdentifier(aggregateIdentifier + "-" + sequenceNumber)
+                    .setAggregateIdentifier(aggregateIdentifier)
+                    .setAggregateSequenceNumber(sequenceNumber)
+                    .setAggregateType("aggregate")
+                    .build();
+    }
+}
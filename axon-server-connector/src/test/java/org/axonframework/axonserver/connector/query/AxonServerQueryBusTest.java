@@ -18,12 +18,15 @@
 
 import com.google.protobuf.ByteString;
 import io.axoniq.axonserver.connector.AxonServerConnection;
+import io.axoniq.axonserver.connector.ErrorCategory;
+import io.axoniq.axonserver.connector.ReplyChannel;
 import io.axoniq.axonserver.connector.ResultStream;
 import io.axoniq.axonserver.connector.query.QueryChannel;
 import io.axoniq.axonserver.connector.query.QueryDefinition;
 import io.axoniq.axonserver.connector.query.QueryHandler;
 import io.axoniq.axonserver.grpc.ErrorMessage;
 import io.axoniq.axonserver.grpc.SerializedObject;
+import io.axoniq.axonserver.grpc.query.QueryRequest;
 import io.axoniq.axonserver.grpc.query.QueryResponse;
 import io.axoniq.axonserver.grpc.query.QueryUpdate;
 import org.axonframework.axonserver.connector.AxonServerConfiguration;
@@ -39,6 +42,7 @@
 import org.axonframework.messaging.MessageHandlerInterceptor;
 import org.axonframework.messaging.responsetypes.InstanceResponseType;
 import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.GenericQueryResponseMessage;
 import org.axonframework.queryhandling.GenericSubscriptionQueryMessage;
 import org.axonframework.queryhandling.QueryBus;
 import org.axonframework.queryhandling.QueryExecutionException;
@@ -48,13 +52,16 @@
 import org.axonframework.queryhandling.SubscriptionQueryMessage;
 import org.axonframework.queryhandling.SubscriptionQueryResult;
 import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
+import org.axonframework.queryhandling.UpdateConflation;
 import org.axonframework.serialization.Serializer;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -63,6 +70,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -70,6 +78,7 @@
 import static org.axonframework.axonserver.connector.utils.AssertUtils.assertWithin;
 import static org.axonframework.messaging.responsetypes.ResponseTypes.instanceOf;
 import static org.axonframework.messaging.responsetypes.ResponseTypes.optionalInstanceOf;
+import static org.axonframework.messaging.responsetypes.ResponseTypes.publisherOf;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -270,6 +279,29 @@ void scatterGather() {
                         && -1 == ProcessingInstructionHelper.numberOfResults(r.getProcessingInstructionsList())));
     }
 
+    @Test
+    void streamingQueryIsRoutedAsDirectQueryAndReceivesAllElements() {
+        QueryMessage<String, Publisher<String>> testQuery =
+                new GenericQueryMessage<>("Hello, World", publisherOf(String.class));
+        doReturn(Flux.just("1", "2", "3").map(GenericQueryResponseMessage::new))
+                .when(localSegment).streamingQuery(any());
+
+        testSubject.subscribe(TEST_QUERY, String.class, q -> "test");
+        ArgumentCaptor<QueryHandler> queryHandlerCaptor = ArgumentCaptor.forClass(QueryHandler.class);
+        verify(mockQueryChannel).registerQueryHandler(queryHandlerCaptor.capture(), any());
+        when(mockQueryChannel.query(any()))
+                .thenAnswer(i -> routeThroughServer(i.getArgument(0), queryHandlerCaptor.getValue()));
+
+        StepVerifier.create(testSubject.streamingQuery(testQuery).map(Message::getPayload))
+                    .expectNext("1", "2", "3")
+                    .verifyComplete();
+
+        verify(targetContextResolver).resolveContext(testQuery);
+        verify(mockQueryChannel).query(argThat(
+                r -> r.getPayload().getData().toStringUtf8().equals("<string>Hello, World</string>")
+                        && 1 == ProcessingInstructionHelper.numberOfResults(r.getProcessingInstructionsList())));
+    }
+
     @Test
     void queryForOptionalWillRequestInstanceOfFromRemoteDestination() {
         QueryMessage<String, Optional<String>> testQuery =
@@ -386,6 +418,28 @@ void testSubscriptionQueryCompletesWithExceptionOnInitialResultDeserializationEr
                     .verifyComplete();
     }
 
+    @Test
+    void testSubscriptionQueryConflatesUpdatesReceivedFromAxonServer() {
+        when(mockQueryChannel.subscriptionQuery(any(), any(), anyInt(), anyInt()))
+                .thenReturn(new SimpleSubscriptionQueryResult("<string>Hello world</string>",
+                                                              stubUpdate("<string>a1</string>"),
+                                                              stubUpdate("<string>b1</string>"),
+                                                              stubUpdate("<string>a2</string>")));
+        UpdateConflation conflation =
+                UpdateConflation.latestPerKey(Duration.ofHours(1), payload -> ((String) payload).charAt(0));
+
+        SubscriptionQueryResult<QueryResponseMessage<String>, SubscriptionQueryUpdateMessage<String>> queryResult =
+                testSubject.subscriptionQuery(new GenericSubscriptionQueryMessage<>(
+                        "Say hi", "test", instanceOf(String.class), instanceOf(String.class)
+                ), 64, conflation);
+        Flux<SubscriptionQueryUpdateMessage<String>> updates = queryResult.updates();
+        queryResult.close();
+
+        StepVerifier.create(updates.map(Message::getPayload))
+                    .expectNext("a2", "b1")
+                    .verifyComplete();
+    }
+
     @Test
     void testAfterShutdownDispatchingAnShutdownInProgressExceptionOnSubscriptionQueryInvocation() {
         SubscriptionQueryMessage<String, String, String> testSubscriptionQuery =
@@ -397,6 +451,52 @@ void testAfterShutdownDispatchingAnShutdownInProgressExceptionOnSubscriptionQuer
                      () -> testSubject.subscriptionQuery(testSubscriptionQuery));
     }
 
+    /**
+     * Passes the given {@code request} to the given {@code handler} the way Axon Server does, which completes a query
+     * once it has received the requested number of results.
+     */
+    private ResultStream<QueryResponse> routeThroughServer(QueryRequest request, QueryHandler handler)
+            throws Exception {
+        long numberOfResults = ProcessingInstructionHelper.numberOfResults(request.getProcessingInstructionsList());
+        List<QueryResponse> responses = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        handler.handle(request, new ReplyChannel<QueryResponse>() {
+            @Override
+            public void send(QueryResponse response) {
+                if (numberOfResults <= 0 || responses.size() < numberOfResults) {
+                    responses.add(response);
+                }
+            }
+
+            @Override
+            public void sendAck() {
+            }
+
+            @Override
+            public void sendNack(ErrorMessage errorMessage) {
+            }
+
+            @Override
+            public void complete() {
+                completed.complete(null);
+            }
+
+            @Override
+            public void completeWithError(ErrorMessage errorMessage) {
+                completed.complete(null);
+            }
+
+            @Override
+            public void completeWithError(ErrorCategory errorCategory, String message) {
+                completed.complete(null);
+            }
+        });
+        completed.get(5, TimeUnit.SECONDS);
+        StubResultStream<QueryResponse> result = new StubResultStream<>(responses.toArray(new QueryResponse[0]));
+        result.close();
+        return result;
+    }
+
     private QueryResponse stubResponse(String payload) {
         return QueryResponse.newBuilder()
                             .setRequestIdentifier("request")
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.axonserver.connector.query;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link QueryAdmissionController}.
+ */
+class QueryAdmissionControllerTest {
+
+    private static final String QUERY_NAME = "someQuery";
+    private static final String OTHER_QUERY_NAME = "otherQuery";
+
+    private Clock clock;
+    private List<QueryAdmissionController.Permit> granted;
+    private QueryAdmissionController testSubject;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        granted = new ArrayList<>();
+        testSubject = QueryAdmissionController.builder()
+                                              .initialConcurrencyLimit(2)
+                                              .minConcurrencyLimit(1)
+                                              .maxConcurrencyLimit(4)
+                                              .maxPendingQueries(1)
+                                              .targetLatency(Duration.ofMillis(100))
+                                              .backoffRatio(0.5)
+                                              .clock(clock)
+                                              .build();
+    }
+
+    @Test
+    void testQueriesBeyondConcurrencyLimitArePendingUntilPermitIsReleased() {
+        assertTrue(testSubject.admit(QUERY_NAME, granted::add));
+        assertTrue(testSubject.admit(QUERY_NAME, granted::add));
+        assertTrue(testSubject.admit(QUERY_NAME, granted::add));
+
+        assertEquals(2, granted.size());
+        assertEquals(1, testSubject.pendingQueries(QUERY_NAME));
+
+        granted.get(0).release();
+
+        assertEquals(3, granted.size());
+        assertEquals(0, testSubject.pendingQueries(QUERY_NAME));
+    }
+
+    @Test
+    void testQueriesAreRejectedWhenTooManyArePending() {
+        testSubject.admit(QUERY_NAME, granted::add);
+        testSubject.admit(QUERY_NAME, granted::add);
+        testSubject.admit(QUERY_NAME, granted::add);
+
+        assertFalse(testSubject.admit(QUERY_NAME, granted::add));
+    }
+
+    @Test
+    void testConcurrencyLimitIsAppliedPerQueryName() {
+        testSubject.admit(QUERY_NAME, granted::add);
+        testSubject.admit(QUERY_NAME, granted::add);
+
+        assertTrue(testSubject.admit(OTHER_QUERY_NAME, granted::add));
+        assertEquals(3, granted.size());
+    }
+
+    @Test
+    void testSlowQueriesLowerAndFastQueriesRaiseConcurrencyLimit() {
+        testSubject.admit(QUERY_NAME, granted::add);
+        when(clock.millis()).thenReturn(500L);
+        granted.get(0).release();
+
+        assertEquals(1, testSubject.concurrencyLimit(QUERY_NAME));
+
+        for (int i = 0; i < 10; i++) {
+            testSubject.admit(QUERY_NAME, granted::add);
+            granted.get(granted.size() - 1).release();
+        }
+
+        assertTrue(testSubject.concurrencyLimit(QUERY_NAME) > 1);
+        assertTrue(testSubject.concurrencyLimit(QUERY_NAME) <= 4);
+    }
+
+    @Test
+    void testReleasingPermitTwiceHasNoEffect() {
+        testSubject.admit(QUERY_NAME, granted::add);
+        testSubject.admit(QUERY_NAME, granted::add);
+        testSubject.admit(QUERY_NAME, granted::add);
+
+        granted.get(0).release();
+        granted.get(0).release();
+
+        assertEquals(3, granted.size());
+        assertTrue(testSubject.admit(QUERY_NAME, granted::add));
+        assertEquals(3, granted.size());
+        assertEquals(1, testSubject.pendingQueries(QUERY_NAME));
+    }
+
+    @Test
+    void testBuildWithInitialLimitOutsideBoundsThrowsAxonConfigurationException() {
+        QueryAdmissionController.Builder builder = QueryAdmissionController.builder()
+                                                                           .maxConcurrencyLimit(4)
+                                                                           .initialConcurrencyLimit(8);
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.disruptor.commandhandling;
+
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link LocalAggregateCache} holding at most a fixed number of aggregates, evicting the least recently used one
+ * when that number is exceeded. Evicted aggregates are handed to an eviction handler, allowing them to be moved to a
+ * second level cache.
+ * <p>
+ * This implementation holds strong references and uses no synchronization whatsoever. It must only be accessed by the
+ * thread of the {@link CommandHandlerInvoker} owning it.
+ *
+ * @param <T> the type of the aggregate root
+ * @since 4.6
+ */
+class BoundedLocalAggregateCache<T> implements LocalAggregateCache<T> {
+
+    private final int maxSize;
+    private final BiConsumer<String, EventSourcedAggregate<T>> evictionHandler;
+    private final LinkedHashMap<String, EventSourcedAggregate<T>> delegate;
+
+    /**
+     * Creates a cache holding at most {@code maxSize} aggregates, invoking the given {@code evictionHandler} for each
+     * aggregate that is evicted to make room for another.
+     *
+     * @param maxSize         the maximum number of aggregates to hold
+     * @param evictionHandler the handler to invoke with the identifier and aggregate of each evicted entry
+     */
+    BoundedLocalAggregateCache(int maxSize, BiConsumer<String, EventSourcedAggregate<T>> evictionHandler) {
+        this.maxSize = maxSize;
+        this.evictionHandler = evictionHandler;
+        this.delegate = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value) {
+        EventSourcedAggregate<T> previous = delegate.put(key, value);
+        Iterator<Map.Entry<String, EventSourcedAggregate<T>>> iterator = delegate.entrySet().iterator();
+        while (delegate.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<String, EventSourcedAggregate<T>> eldest = iterator.next();
+            iterator.remove();
+            evictionHandler.accept(eldest.getKey(), eldest.getValue());
+        }
+        return previous;
+    }
+
+    @Override
+    public EventSourcedAggregate<T> get(Object key) {
+        //noinspection SuspiciousMethodCalls
+        return delegate.get(key);
+    }
+
+    @Override
+    public EventSourcedAggregate<T> remove(Object key) {
+        //noinspection SuspiciousMethodCalls
+        return delegate.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+}
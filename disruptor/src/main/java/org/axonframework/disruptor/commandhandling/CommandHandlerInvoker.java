@@ -66,6 +66,8 @@ public class CommandHandlerInvoker implements EventHandler<CommandHandlingEntry>
     private final Map<Class<?>, DisruptorRepository<?>> repositories = new ConcurrentHashMap<>();
     private final Cache cache;
     private final int segmentId;
+    private final int maxCachedAggregates;
+    private final InvokerCacheStatistics statistics;
 
     /**
      * Returns the Repository instance for Aggregate with given {@code typeIdentifier} used by the CommandHandlerInvoker
@@ -92,8 +94,36 @@ public static <T> DisruptorRepository<T> getRepository(Class<?> type) {
      * @param segmentId The id of the segment this invoker should handle
      */
     public CommandHandlerInvoker(Cache cache, int segmentId) {
+        this(cache, segmentId, 0);
+    }
+
+    /**
+     * Create an aggregate invoker instance for the given {@code segment} and {@code cache}, which keeps at most {@code
+     * maxCachedAggregates} aggregates per aggregate type in memory. Aggregates exceeding that number are evicted to
+     * the given {@code cache}, least recently used first. The in-memory aggregates are held in a plain map which is
+     * only accessed by this invoker's thread.
+     * <p>
+     * If {@code maxCachedAggregates} is not a positive number, aggregates are weakly referenced instead, leaving their
+     * removal up to the garbage collector.
+     *
+     * @param cache               The cache temporarily storing aggregate instances
+     * @param segmentId           The id of the segment this invoker should handle
+     * @param maxCachedAggregates The maximum number of aggregates per type kept in memory by this invoker
+     */
+    public CommandHandlerInvoker(Cache cache, int segmentId, int maxCachedAggregates) {
         this.cache = cache;
         this.segmentId = segmentId;
+        this.maxCachedAggregates = maxCachedAggregates;
+        this.statistics = new InvokerCacheStatistics(segmentId);
+    }
+
+    /**
+     * Returns the statistics on the aggregate lookups performed by this invoker.
+     *
+     * @return the statistics on the aggregate lookups performed by this invoker
+     */
+    public InvokerCacheStatistics getCacheStatistics() {
+        return statistics;
     }
 
     @Override
@@ -165,7 +195,9 @@ public <T> Repository<T> createRepository(EventStore eventStore,
                         parameterResolverFactory,
                         handlerDefinition,
                         snapshotTriggerDefinition,
-                        repositoryProvider
+                        repositoryProvider,
+                        maxCachedAggregates,
+                        statistics
                 )
         );
     }
@@ -198,9 +230,10 @@ public void onShutdown() {
         private final RepositoryProvider repositoryProvider;
         private final SnapshotTriggerDefinition snapshotTriggerDefinition;
         private final AggregateFactory<T> aggregateFactory;
-        private final FirstLevelCache<T> firstLevelCache = new FirstLevelCache<>();
+        private final LocalAggregateCache<T> firstLevelCache;
         private final Cache cache;
         private final AggregateModel<T> model;
+        private final InvokerCacheStatistics statistics;
 
         private DisruptorRepository(AggregateFactory<T> aggregateFactory,
                                     Cache cache,
@@ -208,7 +241,9 @@ private DisruptorRepository(AggregateFactory<T> aggregateFactory,
                                     ParameterResolverFactory parameterResolverFactory,
                                     HandlerDefinition handlerDefinition,
                                     SnapshotTriggerDefinition snapshotTriggerDefinition,
-                                    RepositoryProvider repositoryProvider) {
+                                    RepositoryProvider repositoryProvider,
+                                    int maxCachedAggregates,
+                                    InvokerCacheStatistics statistics) {
             this.aggregateFactory = aggregateFactory;
             this.cache = cache;
             this.eventStore = eventStore;
@@ -217,6 +252,16 @@ private DisruptorRepository(AggregateFactory<T> aggregateFactory,
                     aggregateFactory.getAggregateType(), parameterResolverFactory, handlerDefinition
             );
             this.repositoryProvider = repositoryProvider;
+            this.statistics = statistics;
+            this.firstLevelCache = maxCachedAggregates > 0
+                    ? new BoundedLocalAggregateCache<>(maxCachedAggregates, this::evict)
+                    : new FirstLevelCache<>();
+        }
+
+        private void evict(String aggregateIdentifier, EventSourcedAggregate<T> aggregate) {
+            logger.debug("Aggregate {} evicted from first level cache.", aggregateIdentifier);
+            cache.put(aggregateIdentifier, new AggregateCacheEntry<>(aggregate));
+            statistics.recordEviction();
         }
 
         @Override
@@ -236,7 +281,9 @@ public Aggregate<T> load(String aggregateIdentifier, Long expectedVersion) {
         public Aggregate<T> load(String aggregateIdentifier) {
             ((CommandHandlingEntry) CurrentUnitOfWork.get()).registerAggregateIdentifier(aggregateIdentifier);
             EventSourcedAggregate<T> aggregateRoot = firstLevelCache.get(aggregateIdentifier);
-            if (aggregateRoot == null) {
+            if (aggregateRoot != null) {
+                statistics.recordLocalHit();
+            } else {
                 Object cachedItem = cache.get(aggregateIdentifier);
                 if (cachedItem instanceof AggregateCacheEntry) {
                     EventSourcedAggregate<T> cachedAggregate = ((AggregateCacheEntry<T>) cachedItem).recreateAggregate(
@@ -250,11 +297,16 @@ public Aggregate<T> load(String aggregateIdentifier) {
                             return null;
                         }
                     });
+                    if (aggregateRoot != null) {
+                        statistics.recordCacheHit();
+                        firstLevelCache.put(aggregateIdentifier, aggregateRoot);
+                    }
                 }
             }
             if (aggregateRoot == null) {
                 logger.debug("Aggregate {} not in first level cache, loading fresh one from Event Store",
                              aggregateIdentifier);
+                statistics.recordMiss();
                 DomainEventStream eventStream = eventStore.readEvents(aggregateIdentifier);
                 SnapshotTrigger trigger = snapshotTriggerDefinition.prepareTrigger(aggregateFactory.getAggregateType());
                 if (!eventStream.hasNext()) {
@@ -79,6 +79,7 @@
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
@@ -180,6 +181,7 @@ public class DisruptorCommandBus implements CommandBus {
      * <li>The {@link WaitStrategy} defaults to a {@link BlockingWaitStrategy}.</li>
      * <li>The {@code invokerThreadCount} defaults to {@code 1}.</li>
      * <li>The {@link Cache} defaults to {@link NoCache#INSTANCE}.</li>
+     * <li>The {@code invokerCacheSize} defaults to an unbounded number of weakly referenced aggregates.</li>
      * <li>The {@link DuplicateCommandHandlerResolver} defaults to {@link DuplicateCommandHandlerResolution#logAndOverride()}.</li>
      * </ul>
      * The (2) Threads required for command execution are created immediately. Additional threads are used to invoke
@@ -246,7 +248,9 @@ protected DisruptorCommandBus(Builder builder) {
                                     builder.producerType,
                                     builder.waitStrategy);
         // Configure invoker Threads
-        commandHandlerInvokers = initializeInvokerThreads(builder.invokerThreadCount, builder.cache);
+        commandHandlerInvokers = initializeInvokerThreads(builder.invokerThreadCount,
+                                                          builder.cache,
+                                                          builder.invokerCacheSize);
 
         disruptor.setDefaultExceptionHandler(new ExceptionHandler());
         disruptor.handleEventsWith(commandHandlerInvokers).then(publishers);
@@ -262,9 +266,9 @@ private EventPublisher[] initializePublisherThreads(int publisherThreadCount,
         return publishers;
     }
 
-    private CommandHandlerInvoker[] initializeInvokerThreads(int invokerThreadCount, Cache cache) {
+    private CommandHandlerInvoker[] initializeInvokerThreads(int invokerThreadCount, Cache cache, int cacheSize) {
         CommandHandlerInvoker[] invokers = new CommandHandlerInvoker[invokerThreadCount];
-        Arrays.setAll(invokers, t -> new CommandHandlerInvoker(cache, t));
+        Arrays.setAll(invokers, t -> new CommandHandlerInvoker(cache, t, cacheSize));
         return invokers;
     }
 
@@ -531,6 +535,18 @@ public <T> Repository<T> createRepository(EventStore eventStore,
         return new DisruptorRepository<>(aggregateFactory.getAggregateType());
     }
 
+    /**
+     * Returns the statistics on the aggregate lookups of each of the command handler invoker threads, in the order of
+     * the segments they handle.
+     *
+     * @return the statistics on the aggregate lookups per invoker thread
+     */
+    public List<InvokerCacheStatistics> invokerCacheStatistics() {
+        return Arrays.stream(commandHandlerInvokers)
+                     .map(CommandHandlerInvoker::getCacheStatistics)
+                     .collect(Collectors.toList());
+    }
+
     @Override
     public Registration subscribe(String commandName, MessageHandler<? super CommandMessage<?>> handler) {
         logger.debug("Subscribing command with name [{}]", commandName);
@@ -616,6 +632,7 @@ public void onResult(CommandMessage<?> commandMessage, CommandResultMessage<?> c
      * <li>The {@link WaitStrategy} defaults to a {@link BlockingWaitStrategy}.</li>
      * <li>The {@code invokerThreadCount} defaults to {@code 1}.</li>
      * <li>The {@link Cache} defaults to {@link NoCache#INSTANCE}.</li>
+     * <li>The {@code invokerCacheSize} defaults to an unbounded number of weakly referenced aggregates.</li>
      * <li>The {@link DuplicateCommandHandlerResolver} defaults to {@link DuplicateCommandHandlerResolution#logAndOverride()}.</li>
      * </ul>
      * The (2) Threads required for command execution are created immediately. Additional threads are used to invoke
@@ -652,6 +669,7 @@ public static class Builder {
         private WaitStrategy waitStrategy = new BlockingWaitStrategy();
         private int invokerThreadCount = 1;
         private Cache cache = NoCache.INSTANCE;
+        private int invokerCacheSize = 0;
         private DuplicateCommandHandlerResolver duplicateCommandHandlerResolver = DuplicateCommandHandlerResolution.logAndOverride();
         private CommandCallback<Object, Object> defaultCommandCallback = FailureLoggingCommandCallback.INSTANCE;
 
@@ -920,6 +938,27 @@ public Builder cache(Cache cache) {
             return this;
         }
 
+        /**
+         * Sets the maximum number of aggregates, per aggregate type, each invoker thread keeps in memory. Each invoker
+         * thread owns a plain, unsynchronized map of the aggregates in its segment. When the map exceeds this size, the
+         * least recently used aggregate is evicted to the {@link #cache(Cache) cache}.
+         * <p/>
+         * The size should comfortably exceed the number of distinct aggregates a single invoker may have in flight in
+         * the ring buffer. If an aggregate is evicted before its changes have been published, a subsequent command may
+         * load a stale aggregate, which is detected by the event store and recovered by rescheduling the command.
+         * <p/>
+         * By default, the number of aggregates is not bounded and aggregates are weakly referenced, leaving their
+         * removal up to the garbage collector.
+         *
+         * @param invokerCacheSize the maximum number of aggregates per type to keep in memory for each invoker thread
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder invokerCacheSize(int invokerCacheSize) {
+            assertStrictPositive(invokerCacheSize, "The invoker cache size must be at least 1");
+            this.invokerCacheSize = invokerCacheSize;
+            return this;
+        }
+
         /**
          * Sets the {@link DuplicateCommandHandlerResolver} used to resolves the road to take when a duplicate command
          * handler is subscribed. Defaults to {@link DuplicateCommandHandlerResolution#logAndOverride() Log and
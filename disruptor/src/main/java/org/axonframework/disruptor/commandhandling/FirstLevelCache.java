@@ -41,7 +41,7 @@
  * @author Premanand Chandrasekaran
  * @since 3.3.1
  */
-class FirstLevelCache<T> {
+class FirstLevelCache<T> implements LocalAggregateCache<T> {
 
     private final Map<String, WeakValue> delegate;
     private final ReferenceQueue<EventSourcedAggregate<T>> queue;
@@ -70,6 +70,7 @@ private FirstLevelCache(int capacity) {
      * @param value The value to store in the cache
      * @return the previous value associated with this key, or {@code null} if it didn't exist
      */
+    @Override
     public EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value) {
         processQueue();
         WeakValue valueRef = new WeakValue(key, value, queue);
@@ -82,6 +83,7 @@ public EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value)
      * @param key The key to find the entry for
      * @return the entry previously stored, or {@code null} if no entry exists or when it has been garbage collected
      */
+    @Override
     public EventSourcedAggregate<T> get(Object key) {
         processQueue();
         //noinspection SuspiciousMethodCalls
@@ -94,6 +96,7 @@ public EventSourcedAggregate<T> get(Object key) {
      * @param key The key of the entry to remove
      * @return the entry stored, or {@code null} if no entry was known for this key
      */
+    @Override
     public EventSourcedAggregate<T> remove(Object key) {
         //noinspection SuspiciousMethodCalls
         return getReferenceValue(delegate.remove(key));
@@ -111,6 +114,7 @@ private void processQueue() {
         }
     }
 
+    @Override
     public int size() {
         processQueue();
         return delegate.size();
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.disruptor.commandhandling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics on the aggregate lookups performed by a single {@link CommandHandlerInvoker}, which owns the segment of
+ * aggregates with the given {@link #segmentId()}. Counters are only updated by the invoker's thread, but may be read
+ * from any thread.
+ *
+ * @since 4.6
+ */
+public class InvokerCacheStatistics {
+
+    private final int segmentId;
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Initialize statistics for the invoker handling the segment with given {@code segmentId}.
+     *
+     * @param segmentId the id of the segment the invoker handles
+     */
+    public InvokerCacheStatistics(int segmentId) {
+        this.segmentId = segmentId;
+    }
+
+    void recordLocalHit() {
+        localHits.incrementAndGet();
+    }
+
+    void recordCacheHit() {
+        cacheHits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    void recordEviction() {
+        evictions.incrementAndGet();
+    }
+
+    /**
+     * Returns the id of the segment the invoker handles.
+     *
+     * @return the id of the segment the invoker handles
+     */
+    public int segmentId() {
+        return segmentId;
+    }
+
+    /**
+     * Returns the number of aggregates found in the invoker's own aggregate map.
+     *
+     * @return the number of aggregates found in the invoker's own aggregate map
+     */
+    public long localHits() {
+        return localHits.get();
+    }
+
+    /**
+     * Returns the number of aggregates not found in the invoker's own aggregate map, but in the second level cache.
+     *
+     * @return the number of aggregates found in the second level cache
+     */
+    public long cacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Returns the number of aggregates that had to be sourced from the event store.
+     *
+     * @return the number of aggregates that had to be sourced from the event store
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of aggregates evicted from the invoker's own aggregate map to the second level cache.
+     *
+     * @return the number of evicted aggregates
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the fraction of lookups served from the invoker's own aggregate map, or {@code 0} if no lookups have been
+     * performed yet.
+     *
+     * @return the fraction of lookups served from the invoker's own aggregate map
+     */
+    public double hitRate() {
+        long hits = localHits();
+        long total = hits + cacheHits() + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "InvokerCacheStatistics{segmentId=" + segmentId
+                + ", localHits=" + localHits()
+                + ", cacheHits=" + cacheHits()
+                + ", misses=" + misses()
+                + ", evictions=" + evictions() + '}';
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.disruptor.commandhandling;
+
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+
+/**
+ * In-memory store of the aggregates loaded by a single {@link CommandHandlerInvoker}, consulted before the second
+ * level {@link org.axonframework.common.caching.Cache} and the event store.
+ *
+ * @param <T> the type of the aggregate root
+ * @since 4.6
+ */
+interface LocalAggregateCache<T> {
+
+    /**
+     * Puts the given {@code value} in the cache under given {@code key}.
+     *
+     * @param key   The key to store the entry under
+     * @param value The value to store in the cache
+     * @return the previous value associated with this key, or {@code null} if it didn't exist
+     */
+    EventSourcedAggregate<T> put(String key, EventSourcedAggregate<T> value);
+
+    /**
+     * Returns the entry stored under the given {@code key}, or {@code null} if it doesn't exist.
+     *
+     * @param key The key to find the entry for
+     * @return the entry previously stored, or {@code null} if no entry exists
+     */
+    EventSourcedAggregate<T> get(Object key);
+
+    /**
+     * Remove an entry under given {@code key}, if it exists.
+     *
+     * @param key The key of the entry to remove
+     * @return the entry stored, or {@code null} if no entry was known for this key
+     */
+    EventSourcedAggregate<T> remove(Object key);
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache
+     */
+    int size();
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.disruptor.commandhandling;
+
+import org.axonframework.eventsourcing.EventSourcedAggregate;
+import org.junit.jupiter.api.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link BoundedLocalAggregateCache}.
+ */
+class BoundedLocalAggregateCacheTest {
+
+    private Map<String, EventSourcedAggregate<Object>> evicted;
+    private BoundedLocalAggregateCache<Object> testSubject;
+
+    @BeforeEach
+    void setUp() {
+        evicted = new LinkedHashMap<>();
+        testSubject = new BoundedLocalAggregateCache<>(2, evicted::put);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenMaxSizeIsExceeded() {
+        EventSourcedAggregate<Object> first = aggregate();
+        EventSourcedAggregate<Object> second = aggregate();
+        EventSourcedAggregate<Object> third = aggregate();
+
+        testSubject.put("first", first);
+        testSubject.put("second", second);
+        testSubject.get("first");
+        testSubject.put("third", third);
+
+        assertEquals(2, testSubject.size());
+        assertSame(first, testSubject.get("first"));
+        assertNull(testSubject.get("second"));
+        assertSame(third, testSubject.get("third"));
+        assertEquals(1, evicted.size());
+        assertSame(second, evicted.get("second"));
+    }
+
+    @Test
+    void testReplacingEntryDoesNotEvict() {
+        EventSourcedAggregate<Object> original = aggregate();
+        EventSourcedAggregate<Object> replacement = aggregate();
+
+        testSubject.put("first", original);
+        testSubject.put("second", aggregate());
+
+        assertSame(original, testSubject.put("first", replacement));
+        assertEquals(2, testSubject.size());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void testRemovedEntryIsNotEvicted() {
+        EventSourcedAggregate<Object> cached = aggregate();
+        testSubject.put("first", cached);
+
+        assertSame(cached, testSubject.remove("first"));
+        assertEquals(0, testSubject.size());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventSourcedAggregate<Object> aggregate() {
+        return mock(EventSourcedAggregate.class);
+    }
+}
@@ -146,6 +146,54 @@ void testLoadFromRepositoryLoadsFromCache() throws Exception {
         verify(mockEventStore, never()).readEvents(eq(aggregateIdentifier));
     }
 
+    @Test
+    void testBoundedInvokerCacheEvictsLeastRecentlyUsedAggregateToCache() throws Exception {
+        testSubject = new CommandHandlerInvoker(mockCache, 0, 1);
+        final Repository<StubAggregate> repository = testSubject
+                .createRepository(mockEventStore, new GenericAggregateFactory<>(StubAggregate.class),
+                                  snapshotTriggerDefinition,
+                                  ClasspathParameterResolverFactory.forClass(StubAggregate.class));
+        when(mockEventStore.readEvents(any())).thenAnswer(invocationOnMock -> {
+            String id = invocationOnMock.getArgument(0);
+            return DomainEventStream.of(new GenericDomainEventMessage<>("StubAggregate", id, 0, id));
+        });
+
+        handleCommandLoading(repository, "first");
+        verify(mockCache).put(eq("first"), notNull());
+        verify(mockCache, never()).put(eq("second"), any());
+
+        handleCommandLoading(repository, "second");
+        verify(mockCache, times(2)).put(eq("first"), notNull());
+        verify(mockCache).put(eq("second"), notNull());
+
+        handleCommandLoading(repository, "second");
+        verify(mockCache, times(2)).put(eq("first"), notNull());
+        verify(mockCache).put(eq("second"), notNull());
+        verify(mockEventStore).readEvents("first");
+        verify(mockEventStore).readEvents("second");
+
+        InvokerCacheStatistics statistics = testSubject.getCacheStatistics();
+        assertEquals(0, statistics.segmentId());
+        assertEquals(1, statistics.localHits());
+        assertEquals(0, statistics.cacheHits());
+        assertEquals(2, statistics.misses());
+        assertEquals(1, statistics.evictions());
+        assertEquals(1d / 3, statistics.hitRate(), 0.0001);
+    }
+
+    private void handleCommandLoading(Repository<StubAggregate> repository, String aggregateIdentifier)
+            throws Exception {
+        commandHandlingEntry.reset(mockCommandMessage, mockCommandHandler, 0, 0, null,
+                                   Collections.emptyList(),
+                                   Collections.emptyList());
+        when(mockCommandHandler.handle(eq(mockCommandMessage)))
+                .thenAnswer(invocationOnMock -> repository.load(aggregateIdentifier));
+
+        testSubject.onEvent(commandHandlingEntry, 0, true);
+
+        assertFalse(commandHandlingEntry.getResult().isExceptional());
+    }
+
     @Test
     void testAddToRepositoryAddsInCache() throws Exception {
         final Repository<StubAggregate> repository = testSubject
@@ -16,6 +16,7 @@
 
 package org.axonframework.eventsourcing;
 
+import org.axonframework.common.Registration;
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.lock.LockFactory;
 import org.axonframework.eventsourcing.eventstore.EventStore;
@@ -24,6 +25,10 @@
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
 /**
@@ -74,6 +79,19 @@ protected CachingEventSourcingRepository(Builder<T> builder) {
         this.repositoryProvider = builder.repositoryProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Aggregates that are present in the cache are not prefetched.
+     */
+    @Override
+    public Registration prefetch(Collection<String> aggregateIdentifiers) {
+        List<String> uncachedIdentifiers = aggregateIdentifiers.stream()
+                                                               .filter(identifier -> !cache.containsKey(identifier))
+                                                               .collect(Collectors.toList());
+        return super.prefetch(uncachedIdentifiers);
+    }
+
     @Override
     protected void validateOnLoad(Aggregate<T> aggregate, Long expectedVersion) {
         CurrentUnitOfWork.get().onRollback(u -> cache.remove(aggregate.identifierAsString()));
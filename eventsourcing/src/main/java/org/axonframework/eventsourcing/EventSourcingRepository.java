@@ -16,6 +16,7 @@
 
 package org.axonframework.eventsourcing;
 
+import org.axonframework.common.Registration;
 import org.axonframework.common.caching.Cache;
 import org.axonframework.common.lock.LockFactory;
 import org.axonframework.eventhandling.DomainEventMessage;
@@ -34,7 +35,12 @@
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -56,6 +62,7 @@
     private final AggregateFactory<T> aggregateFactory;
     private final RepositoryProvider repositoryProvider;
     private final Predicate<? super DomainEventMessage<?>> eventStreamFilter;
+    private final ConcurrentMap<String, PrefetchedEvents> prefetchedEvents = new ConcurrentHashMap<>();
 
     /**
      * Instantiate a {@link EventSourcingRepository} based on the fields contained in the {@link Builder}.
@@ -108,6 +115,43 @@ public static <T> Builder<T> builder(Class<T> aggregateType) {
         return new Builder<>(aggregateType);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation reads the event streams of all given aggregates at once through {@link
+     * EventStore#readEventStreams(Collection)}. Each prefetched stream is used at most once, by the first load of the
+     * aggregate it belongs to. Prefetched streams are discarded as soon as the aggregate they belong to is saved by this
+     * repository, to prevent stale streams from being used.
+     */
+    @Override
+    public Registration prefetch(Collection<String> aggregateIdentifiers) {
+        Map<String, PrefetchedEvents> prefetched = new HashMap<>();
+        aggregateIdentifiers.forEach(aggregateIdentifier -> {
+            PrefetchedEvents placeholder = new PrefetchedEvents();
+            prefetchedEvents.put(aggregateIdentifier, placeholder);
+            prefetched.put(aggregateIdentifier, placeholder);
+        });
+        Registration registration = () -> {
+            prefetched.forEach(prefetchedEvents::remove);
+            return true;
+        };
+        if (!prefetched.isEmpty()) {
+            try {
+                eventStore.readEventStreams(prefetched.keySet())
+                          .forEach((aggregateIdentifier, eventStream) -> {
+                              PrefetchedEvents placeholder = prefetched.get(aggregateIdentifier);
+                              if (placeholder != null) {
+                                  placeholder.eventStream = eventStream;
+                              }
+                          });
+            } catch (RuntimeException e) {
+                registration.cancel();
+                throw e;
+            }
+        }
+        return registration;
+    }
+
     /**
      * Perform the actual loading of an aggregate. The necessary locks have been obtained.
      *
@@ -144,7 +188,10 @@ protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Lo
      *         one was configured
      */
     protected DomainEventStream readEvents(String aggregateIdentifier) {
-        DomainEventStream fullStream = eventStore.readEvents(aggregateIdentifier);
+        PrefetchedEvents prefetched = prefetchedEvents.remove(aggregateIdentifier);
+        DomainEventStream fullStream = prefetched != null && prefetched.eventStream != null
+                ? prefetched.eventStream
+                : eventStore.readEvents(aggregateIdentifier);
         return eventStreamFilter != null ? fullStream.filter(eventStreamFilter) : fullStream;
     }
 
@@ -174,10 +221,21 @@ protected EventSourcedAggregate<T> doCreateNewForLock(Callable<T> factoryMethod)
 
     @Override
     protected void doSaveWithLock(EventSourcedAggregate<T> aggregate) {
+        discardPrefetchedEvents(aggregate.identifierAsString());
     }
 
     @Override
     protected void doDeleteWithLock(EventSourcedAggregate<T> aggregate) {
+        discardPrefetchedEvents(aggregate.identifierAsString());
+    }
+
+    private void discardPrefetchedEvents(String aggregateIdentifier) {
+        if (aggregateIdentifier == null) {
+            return;
+        }
+        prefetchedEvents.remove(aggregateIdentifier);
+        // streams prefetched before the transaction commits would not contain the changes of this Unit of Work
+        CurrentUnitOfWork.ifStarted(uow -> uow.afterCommit(u -> prefetchedEvents.remove(aggregateIdentifier)));
     }
 
     /**
@@ -189,6 +247,11 @@ public AggregateFactory<T> getAggregateFactory() {
         return aggregateFactory;
     }
 
+    private static class PrefetchedEvents {
+
+        private volatile DomainEventStream eventStream;
+    }
+
     /**
      * Builder class to instantiate a {@link EventSourcingRepository}. Can also be used to instantiate a
      * {@link CachingEventSourcingRepository}. This Builder will check whether a {@link Cache} is provided. If this
@@ -35,7 +35,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -91,6 +94,32 @@ public DomainEventStream readEvents(String aggregateIdentifier, long firstSequen
         return upcastAndDeserializeDomainEvents(input, getEventSerializer(), upcasterChain);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation reads the serialized event data of all given aggregates through {@link
+     * #readEventData(Map)}, after which the entries are grouped per aggregate and upcast and deserialized per
+     * aggregate.
+     */
+    @Override
+    public Map<String, DomainEventStream> readEventStreams(Map<String, Long> firstSequenceNumbers) {
+        Map<String, List<DomainEventData<?>>> eventDataPerAggregate = new HashMap<>();
+        firstSequenceNumbers.keySet()
+                            .forEach(aggregateIdentifier -> eventDataPerAggregate.put(aggregateIdentifier,
+                                                                                      new ArrayList<>()));
+        try (Stream<? extends DomainEventData<?>> input = readEventData(firstSequenceNumbers)) {
+            input.forEach(eventData -> eventDataPerAggregate
+                    .computeIfAbsent(eventData.getAggregateIdentifier(), id -> new ArrayList<>())
+                    .add(eventData));
+        }
+        Map<String, DomainEventStream> result = new HashMap<>();
+        eventDataPerAggregate.forEach((aggregateIdentifier, eventData) -> result.put(
+                aggregateIdentifier,
+                upcastAndDeserializeDomainEvents(eventData.stream(), getEventSerializer(), upcasterChain)
+        ));
+        return result;
+    }
+
     @Override
     public Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
         return readSnapshotData(aggregateIdentifier)
@@ -199,6 +228,24 @@ private String buildExceptionMessage(EventMessage<?> failedEvent) {
      */
     protected abstract Stream<? extends DomainEventData<?>> readEventData(String identifier, long firstSequenceNumber);
 
+    /**
+     * Returns a {@link Stream} of serialized event data entries for all aggregates identified by the keys of the given
+     * {@code firstSequenceNumbers}. For each aggregate, only entries with a sequence number equal or larger than the
+     * sequence number mapped to its identifier are returned. The entries of a single aggregate should be ordered by
+     * sequence number.
+     * <p>
+     * Implementations are encouraged to retrieve the entries of all aggregates with a single query. By default, this
+     * method concatenates the results of {@link #readEventData(String, long)} for each of the aggregates.
+     *
+     * @param firstSequenceNumbers the sequence number of the first expected event entry, per aggregate identifier
+     * @return a Stream of serialized event entries for the given aggregates
+     */
+    protected Stream<? extends DomainEventData<?>> readEventData(Map<String, Long> firstSequenceNumbers) {
+        return firstSequenceNumbers.entrySet()
+                                   .stream()
+                                   .flatMap(entry -> readEventData(entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Returns a global {@link Stream} containing all serialized event data entries in the event storage that have a
      * {@link TrackingToken} greater than the given {@code trackingToken}. Event entries in the stream should be ordered
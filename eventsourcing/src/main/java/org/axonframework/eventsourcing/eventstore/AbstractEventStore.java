@@ -27,7 +27,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -72,12 +75,7 @@ protected void prepareCommit(List<? extends EventMessage<?>> events) {
      */
     @Override
     public DomainEventStream readEvents(String aggregateIdentifier) {
-        Optional<DomainEventMessage<?>> optionalSnapshot;
-        try {
-            optionalSnapshot = storageEngine.readSnapshot(aggregateIdentifier);
-        } catch (Exception | LinkageError e) {
-            optionalSnapshot = handleSnapshotReadingError(aggregateIdentifier, e);
-        }
+        Optional<DomainEventMessage<?>> optionalSnapshot = readSnapshot(aggregateIdentifier);
         DomainEventStream eventStream;
         if (optionalSnapshot.isPresent()) {
             DomainEventMessage<?> snapshot = optionalSnapshot.get();
@@ -92,6 +90,49 @@ public DomainEventStream readEvents(String aggregateIdentifier) {
         return DomainEventStream.concat(eventStream, DomainEventStream.of(domainEventMessages));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation reads the last stored snapshot of each of the aggregates, after which the events following
+     * those snapshots are read for all aggregates at once through {@link EventStorageEngine#readEventStreams(Map)}.
+     * Each returned {@link DomainEventStream} starts with the snapshot of its aggregate, if present.
+     */
+    @Override
+    public Map<String, DomainEventStream> readEventStreams(Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventMessage<?>> snapshots = new HashMap<>();
+        Map<String, Long> firstSequenceNumbers = new HashMap<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            Optional<DomainEventMessage<?>> optionalSnapshot = readSnapshot(aggregateIdentifier);
+            optionalSnapshot.ifPresent(snapshot -> snapshots.put(aggregateIdentifier, snapshot));
+            firstSequenceNumbers.put(aggregateIdentifier,
+                                     optionalSnapshot.map(snapshot -> snapshot.getSequenceNumber() + 1)
+                                                     .orElse(0L));
+        }
+        Map<String, DomainEventStream> storedStreams = storageEngine.readEventStreams(firstSequenceNumbers);
+        Map<String, DomainEventStream> result = new HashMap<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            DomainEventStream eventStream =
+                    storedStreams.getOrDefault(aggregateIdentifier, DomainEventStream.empty());
+            DomainEventMessage<?> snapshot = snapshots.get(aggregateIdentifier);
+            if (snapshot != null) {
+                eventStream = DomainEventStream.concat(DomainEventStream.of(snapshot), eventStream);
+            }
+            Stream<? extends DomainEventMessage<?>> domainEventMessages =
+                    stagedDomainEventMessages(aggregateIdentifier);
+            result.put(aggregateIdentifier,
+                       DomainEventStream.concat(eventStream, DomainEventStream.of(domainEventMessages)));
+        }
+        return result;
+    }
+
+    private Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier) {
+        try {
+            return storageEngine.readSnapshot(aggregateIdentifier);
+        } catch (Exception | LinkageError e) {
+            return handleSnapshotReadingError(aggregateIdentifier, e);
+        }
+    }
+
     /**
      * Invoked when an error ({@link Exception} or {@link LinkageError}) occurs while attempting to read a snapshot
      * event. This method can be overridden to change the default behavior, which is to log the exception (warn level)
@@ -143,6 +143,21 @@ protected Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trac
         return StreamSupport.stream(spliterator, false);
     }
 
+    /**
+     * Returns a lazy stream of the items returned by repeated invocations of the given {@code fetchFunction}. The
+     * function is given the last item of the previous batch, or {@code null} when fetching the first batch. No further
+     * batches are fetched once a batch matches the given {@code finalBatchPredicate}.
+     *
+     * @param fetchFunction       function fetching the next batch, given the last item of the previous batch
+     * @param finalBatchPredicate predicate indicating whether a batch is the final one
+     * @param <T>                 the type of items in the stream
+     * @return a stream of the items in the fetched batches
+     */
+    protected static <T> Stream<T> batchedStream(Function<T, List<? extends T>> fetchFunction,
+                                                Predicate<List<? extends T>> finalBatchPredicate) {
+        return StreamSupport.stream(new EventStreamSpliterator<>(fetchFunction, finalBatchPredicate), false);
+    }
+
     /**
      * Returns the maximum number of event entries to be fetched per batch.
      *
@@ -22,7 +22,9 @@
 import org.axonframework.eventhandling.TrackingToken;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -113,6 +115,27 @@ default DomainEventStream readEvents(String aggregateIdentifier) {
      */
     DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber);
 
+    /**
+     * Get a {@link DomainEventStream} for each of the aggregates identified by the keys of the given {@code
+     * firstSequenceNumbers}, each containing the events of that aggregate having a sequence number that is equal or
+     * larger than the sequence number mapped to its identifier. Aggregates for which no events are found are mapped to
+     * an empty stream.
+     * <p>
+     * Implementations are encouraged to read the events of all given aggregates with a single query. By default this
+     * method invokes {@link #readEvents(String, long)} for each of the given aggregates.
+     *
+     * @param firstSequenceNumbers the expected sequence number of the first event in the returned stream, per
+     *                             aggregate identifier
+     * @return a non-blocking DomainEventStream per given aggregate identifier
+     */
+    default Map<String, DomainEventStream> readEventStreams(Map<String, Long> firstSequenceNumbers) {
+        Map<String, DomainEventStream> result = new HashMap<>();
+        firstSequenceNumbers.forEach((aggregateIdentifier, firstSequenceNumber) -> result.put(
+                aggregateIdentifier, readEvents(aggregateIdentifier, firstSequenceNumber)
+        ));
+        return result;
+    }
+
     /**
      * Try to load a snapshot event of the aggregate with given {@code aggregateIdentifier}. If the storage engine has
      * no snapshot event of the aggregate, an empty Optional is returned.
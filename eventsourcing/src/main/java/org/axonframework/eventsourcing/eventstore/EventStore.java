@@ -23,6 +23,9 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.messaging.StreamableMessageSource;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -68,6 +71,24 @@ default DomainEventStream readEvents(String aggregateIdentifier, long firstSeque
                     wholeStream::getLastSequenceNumber);
     }
 
+    /**
+     * Open an event stream for each of the given {@code aggregateIdentifiers}, containing all domain events belonging
+     * to that aggregate. Aggregates for which the event store holds no events are mapped to an empty stream.
+     * <p>
+     * The returned streams are <em>finite</em>, ending with the last known event of each aggregate. Implementations are
+     * encouraged to read the events of all given aggregates at once. By default this method invokes {@link
+     * #readEvents(String)} for each of the given aggregates.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates whose events to fetch
+     * @return a stream of all currently stored events per aggregate identifier
+     */
+    default Map<String, DomainEventStream> readEventStreams(Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> result = new HashMap<>();
+        aggregateIdentifiers.forEach(aggregateIdentifier -> result.put(aggregateIdentifier,
+                                                                       readEvents(aggregateIdentifier)));
+        return result;
+    }
+
     /**
      * Stores the given (temporary) {@code snapshot} event. This snapshot replaces the segment of the event stream
      * identified by the {@code snapshot}'s {@link DomainEventMessage#getAggregateIdentifier() Aggregate Identifier} up
@@ -43,6 +43,7 @@ public PreparedStatement createDomainEventTable(Connection connection,
                 schema.payloadRevisionColumn() + " VARCHAR(255),\n" +
                 schema.payloadTypeColumn() + " VARCHAR(255) NOT NULL,\n" +
                 schema.timestampColumn() + " " + timestampType() + " ,\n" +
+                metaDataKeyColumns(schema) +
                 "PRIMARY KEY (" + schema.globalIndexColumn() + "),\n" +
                 "UNIQUE (" + schema.aggregateIdentifierColumn() + ", " +
                 schema.sequenceNumberColumn() + "),\n" +
@@ -71,6 +72,22 @@ public PreparedStatement createSnapshotEventTable(Connection connection,
         return connection.prepareStatement(sql);
     }
 
+    /**
+     * Returns the sql to define the columns in which the values of {@link EventSchema#metaDataKeyColumns() selected
+     * meta data entries} are stored, each followed by a comma and a line break. The columns are sized to the {@link
+     * EventSchema#metaDataKeyColumnLength() configured length}.
+     *
+     * @param schema The event schema with the names of the meta data columns
+     * @return the sql for the meta data columns, or an empty String if there are none
+     */
+    protected String metaDataKeyColumns(EventSchema schema) {
+        StringBuilder sql = new StringBuilder();
+        schema.metaDataKeyColumns().values()
+              .forEach(column -> sql.append(column)
+                                    .append(" VARCHAR(").append(schema.metaDataKeyColumnLength()).append("),\n"));
+        return sql.toString();
+    }
+
     /**
      * Returns the sql to register the auto incrementing global sequence column.
      *
@@ -16,6 +16,11 @@
 
 package org.axonframework.eventsourcing.eventstore.jdbc;
 
+import org.axonframework.eventhandling.TrackingToken;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -30,6 +35,9 @@ public class EventSchema {
             aggregateIdentifierColumn, sequenceNumberColumn, typeColumn, payloadTypeColumn, payloadRevisionColumn,
             payloadColumn, metaDataColumn;
 
+    private final Map<String, String> metaDataKeyColumns;
+    private final int metaDataKeyColumnLength;
+
     private final Function<EventSchema, String> domainEventFields, trackedEventFields;
 
     /**
@@ -52,6 +60,8 @@ private EventSchema(Builder builder) {
         payloadRevisionColumn = builder.payloadRevisionColumn;
         payloadColumn = builder.payloadColumn;
         metaDataColumn = builder.metaDataColumn;
+        metaDataKeyColumns = Collections.unmodifiableMap(new LinkedHashMap<>(builder.metaDataKeyColumns));
+        metaDataKeyColumnLength = builder.metaDataKeyColumnLength;
         domainEventFields = builder.domainEventFields;
         trackedEventFields = builder.trackedEventFields;
     }
@@ -173,6 +183,27 @@ public String metaDataColumn() {
         return metaDataColumn;
     }
 
+    /**
+     * Get the meta data keys of which the values are stored in a dedicated column of the domain event table, mapped to
+     * the name of that column. These columns are written next to the serialized metadata and are meant to filter
+     * events on, without having to deserialize their metadata.
+     *
+     * @return the names of the columns storing meta data values, per meta data key
+     */
+    public Map<String, String> metaDataKeyColumns() {
+        return metaDataKeyColumns;
+    }
+
+    /**
+     * Get the maximum number of characters of the values stored in the {@link #metaDataKeyColumns() columns storing
+     * meta data values}.
+     *
+     * @return the maximum length of the values stored in the meta data columns
+     */
+    public int metaDataKeyColumnLength() {
+        return metaDataKeyColumnLength;
+    }
+
     /**
      * Get a comma separated list of domain event column names to select from an event or snapshot entry.
      *
@@ -209,6 +240,8 @@ public static class Builder {
         private String payloadRevisionColumn = "payloadRevision";
         private String payloadColumn = "payload";
         private String metaDataColumn = "metaData";
+        private final Map<String, String> metaDataKeyColumns = new LinkedHashMap<>();
+        private int metaDataKeyColumnLength = 255;
 
         private Function<EventSchema, String> domainEventFields = eventSchema ->
                 String.join(", ",
@@ -357,6 +390,38 @@ public Builder metaDataColumn(String metaDataColumn) {
             return this;
         }
 
+        /**
+         * Stores the value of the meta data entry with given {@code metaDataKey} in a dedicated column with given
+         * {@code columnName} of the domain event table, next to the serialized metadata. The value is stored in its
+         * {@link Object#toString() String} form, or as {@code null} if the event has no entry for the key. By default,
+         * no meta data entries are stored in dedicated columns.
+         * <p>
+         * Such a column allows events to be filtered on the meta data value in SQL, for example through {@link
+         * JdbcEventStorageEngine#readEventsWithMetaData(TrackingToken, String, Object)}. Note that only events
+         * appended after the column has been introduced have it filled. Appending an event of which the value
+         * exceeds the {@link #metaDataKeyColumnLength(int) length of the column} fails.
+         *
+         * @param metaDataKey the key of the meta data entry to store in a dedicated column
+         * @param columnName  the name of the column to store the meta data value in
+         * @return the modified Builder instance
+         */
+        public Builder metaDataKeyColumn(String metaDataKey, String columnName) {
+            this.metaDataKeyColumns.put(metaDataKey, columnName);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of characters of the values stored in the columns configured through {@link
+         * #metaDataKeyColumn(String, String)}. Defaults to 255.
+         *
+         * @param metaDataKeyColumnLength the maximum length of the values stored in the meta data columns
+         * @return the modified Builder instance
+         */
+        public Builder metaDataKeyColumnLength(int metaDataKeyColumnLength) {
+            this.metaDataKeyColumnLength = metaDataKeyColumnLength;
+            return this;
+        }
+
         /**
          * Set a comma separated list of domain event column names to select from an event or snapshot entry. Defaults
          * to:
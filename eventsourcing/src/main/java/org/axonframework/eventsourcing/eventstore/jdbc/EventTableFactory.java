@@ -49,4 +49,23 @@ public interface EventTableFactory {
      * @throws SQLException when an exception occurs while creating the prepared statement
      */
     PreparedStatement createSnapshotEventTable(Connection connection, EventSchema schema) throws SQLException;
+
+    /**
+     * Creates a PreparedStatement that allows for the creation of an index on the column with given {@code
+     * columnName}, which stores the value of one of the {@link EventSchema#metaDataKeyColumns() selected meta data
+     * entries}. The index includes the global index column, allowing filtered events to be read in order.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param schema     The event schema with the name of the table and its columns
+     * @param columnName The name of the column storing a meta data value
+     * @return The statement to create the index, ready to be executed
+     *
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    default PreparedStatement createMetaDataKeyColumnIndex(Connection connection, EventSchema schema,
+                                                           String columnName) throws SQLException {
+        String sql = "CREATE INDEX " + schema.domainEventTable() + "_" + columnName
+                + " ON " + schema.domainEventTable() + " (" + columnName + ", " + schema.globalIndexColumn() + ")";
+        return connection.prepareStatement(sql);
+    }
 }
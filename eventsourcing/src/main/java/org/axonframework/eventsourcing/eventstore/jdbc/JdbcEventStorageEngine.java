@@ -18,8 +18,10 @@
 
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.DateTimeUtils;
+import org.axonframework.common.io.ChunkedByteArrayOutputStream;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.JdbcUtils;
+import org.axonframework.common.jdbc.JdbcUtils.SqlFunction;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.eventhandling.DomainEventData;
@@ -30,6 +32,7 @@
 import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.eventhandling.TrackedDomainEventData;
 import org.axonframework.eventhandling.TrackedEventData;
+import org.axonframework.eventhandling.TrackedEventMessage;
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.EventStoreException;
@@ -44,7 +47,9 @@
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.JdbcEventStorageEngineStatements;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.LastSequenceNumberForStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregateStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregatesStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithGapsStatementBuilder;
+import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithMetaDataStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataWithoutGapsStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadSnapshotDataStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.TimestampWriter;
@@ -55,6 +60,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -66,6 +73,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -83,6 +91,7 @@
 import static org.axonframework.common.jdbc.JdbcUtils.executeQuery;
 import static org.axonframework.common.jdbc.JdbcUtils.executeUpdates;
 import static org.axonframework.common.jdbc.JdbcUtils.nextAndExtract;
+import static org.axonframework.eventhandling.EventUtils.upcastAndDeserializeTrackedEvents;
 
 /**
  * An {@link org.axonframework.eventsourcing.eventstore.EventStorageEngine} implementation that uses JDBC to store and
@@ -111,6 +120,7 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final ConnectionProvider connectionProvider;
     private final TransactionManager transactionManager;
     private final Class<?> dataType;
+    private final Class<?> snapshotDataType;
     private final EventSchema schema;
     private final int maxGapOffset;
     private final long lowestGlobalSequence;
@@ -125,9 +135,11 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final FetchTrackedEventsStatementBuilder fetchTrackedEvents;
     private final CleanGapsStatementBuilder cleanGaps;
     private final ReadEventDataForAggregateStatementBuilder readEventDataForAggregate;
+    private final ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates;
     private final ReadSnapshotDataStatementBuilder readSnapshotData;
     private final ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps;
     private final ReadEventDataWithGapsStatementBuilder readEventDataWithGaps;
+    private final ReadEventDataWithMetaDataStatementBuilder readEventDataWithMetaData;
     private int gapTimeout;
     private int gapCleaningThreshold;
 
@@ -145,6 +157,7 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.connectionProvider = builder.connectionProvider;
         this.transactionManager = builder.transactionManager;
         this.dataType = builder.dataType;
+        this.snapshotDataType = builder.snapshotDataType != null ? builder.snapshotDataType : builder.dataType;
         this.schema = builder.schema;
         this.lowestGlobalSequence = builder.lowestGlobalSequence;
         this.maxGapOffset = builder.maxGapOffset;
@@ -161,9 +174,11 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.fetchTrackedEvents = builder.fetchTrackedEvents;
         this.cleanGaps = builder.cleanGaps;
         this.readEventDataForAggregate = builder.readEventDataForAggregate;
+        this.readEventDataForAggregates = builder.readEventDataForAggregates;
         this.readSnapshotData = builder.readSnapshotData;
         this.readEventDataWithoutGaps = builder.readEventDataWithoutGaps;
         this.readEventDataWithGaps = builder.readEventDataWithGaps;
+        this.readEventDataWithMetaData = builder.readEventDataWithMetaData;
     }
 
     /**
@@ -176,6 +191,7 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} instance.</li>
      * <li>The {@code batchSize} defaults to an integer of size {@code 100}.</li>
      * <li>The {@code dataType} is defaulted to the {@code byte[]} type.</li>
+     * <li>The {@code snapshotDataType} is defaulted to the configured {@code dataType}.</li>
      * <li>The {@link EventSchema} defaults to an {@link EventSchema#EventSchema()} call.</li>
      * <li>The {@code maxGapOffset} defaults to an  integer of size {@code 10000}.</li>
      * <li>The {@code lowestGlobalSequence} defaults to a long of size {@code 1}.</li>
@@ -192,9 +208,11 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code fetchTrackedEvents} defaults to {@link JdbcEventStorageEngineStatements#fetchTrackedEvents}.</li>
      * <li>The {@code cleanGaps} defaults to {@link JdbcEventStorageEngineStatements#cleanGaps}.</li>
      * <li>The {@code readEventDataForAggregate} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregate}.</li>
+     * <li>The {@code readEventDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates}.</li>
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
+     * <li>The {@code readEventDataWithMetaData} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithMetaData}.</li>
      * </ul>
      * <p>
      * The event and snapshot {@link Serializer}, {@link ConnectionProvider} and {@link TransactionManager} are <b>hard
@@ -284,7 +302,7 @@ protected PreparedStatement createHeadToken(Connection connection) throws SQLExc
      */
     protected PreparedStatement appendSnapshot(Connection connection, DomainEventMessage<?> snapshot,
                                                Serializer serializer) throws SQLException {
-        return appendSnapshot.build(connection, schema, dataType, snapshot, serializer, this::writeTimestamp);
+        return appendSnapshot.build(connection, schema, snapshotDataType, snapshot, serializer, this::writeTimestamp);
     }
 
     /**
@@ -344,6 +362,20 @@ protected PreparedStatement readEventData(Connection connection, String identifi
         return readEventDataForAggregate.build(connection, schema, identifier, firstSequenceNumber, batchSize);
     }
 
+    /**
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#readEventStreams(Map)}.
+     *
+     * @param connection           The connection to the database.
+     * @param firstSequenceNumbers The expected sequence number of the first returned entry, per aggregate identifier.
+     *
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventData(Connection connection, Map<String, Long> firstSequenceNumbers)
+            throws SQLException {
+        return readEventDataForAggregates.build(connection, schema, firstSequenceNumbers);
+    }
+
     /**
      * Creates a statement to be used at {@link JdbcEventStorageEngine#readSnapshotData(String)}.
      *
@@ -389,17 +421,41 @@ protected PreparedStatement readEventDataWithGaps(Connection connection, long gl
     }
 
     /**
-     * Performs the DDL queries to create the schema necessary for this storage engine implementation.
+     * Creates a statement to be used at {@link JdbcEventStorageEngine#readEventsWithMetaData(TrackingToken, String,
+     * Object)}.
+     *
+     * @param connection  The connection to the database.
+     * @param columnName  The name of the column storing the value of the meta data entry to filter on.
+     * @param value       The meta data value that returned entries should have.
+     * @param globalIndex The global index of the last entry that should not be returned.
+     * @param batchSize   The maximum number of items to include in the batch.
+     *
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    protected PreparedStatement readEventDataWithMetaData(Connection connection, String columnName, Object value,
+                                                          long globalIndex, int batchSize) throws SQLException {
+        return readEventDataWithMetaData.build(connection, schema, columnName, value, globalIndex, batchSize);
+    }
+
+    /**
+     * Performs the DDL queries to create the schema necessary for this storage engine implementation. This includes an
+     * index for each of the {@link EventSchema#metaDataKeyColumns() columns storing meta data values}.
      *
      * @param schemaFactory Factory of the event schema.
      *
      * @throws EventStoreException when an error occurs executing SQL statements.
      */
     public void createSchema(EventTableFactory schemaFactory) {
+        List<SqlFunction> statements = new ArrayList<>();
+        statements.add(connection -> schemaFactory.createDomainEventTable(connection, schema));
+        statements.add(connection -> schemaFactory.createSnapshotEventTable(connection, schema));
+        schema.metaDataKeyColumns().values().forEach(columnName -> statements.add(
+                connection -> schemaFactory.createMetaDataKeyColumnIndex(connection, schema, columnName)
+        ));
         executeUpdates(getConnection(), e -> {
-                           throw new EventStoreException("Failed to create event tables", e);
-                       }, connection -> schemaFactory.createDomainEventTable(connection, schema),
-                       connection -> schemaFactory.createSnapshotEventTable(connection, schema));
+            throw new EventStoreException("Failed to create event tables", e);
+        }, statements.toArray(new SqlFunction[0]));
     }
 
     @Override
@@ -499,6 +555,80 @@ protected List<? extends DomainEventData<?>> fetchDomainEvents(String aggregateI
                 ));
     }
 
+    @Override
+    protected Stream<? extends DomainEventData<?>> readEventData(Map<String, Long> firstSequenceNumbers) {
+        if (firstSequenceNumbers.isEmpty()) {
+            return Stream.empty();
+        }
+        List<? extends DomainEventData<?>> result = transactionManager.fetchInTransaction(
+                () -> executeQuery(
+                        getConnection(),
+                        connection -> readEventData(connection, firstSequenceNumbers),
+                        JdbcUtils.listResults(this::getDomainEventData),
+                        e -> new EventStoreException(
+                                format("Failed to read events for aggregates %s", firstSequenceNumbers.keySet()), e
+                        )
+                ));
+        return result.stream();
+    }
+
+    /**
+     * Reads the events of which the meta data entry with given {@code metaDataKey} has given {@code value}, filtering
+     * them in SQL rather than deserializing the metadata of every event. This requires the given {@code metaDataKey}
+     * to be stored in a dedicated column, as configured through {@link EventSchema.Builder#metaDataKeyColumn(String,
+     * String)}. The value is compared with the {@link Object#toString() String} form it was stored in.
+     * <p>
+     * Events are read in order of their global index, in batches of the configured {@code batchSize}, starting after
+     * the position of the given {@code trackingToken}, or from the start of the event store if it is {@code null}.
+     * <p>
+     * Note that the tokens of the returned events do not track gaps in the global index, as events not matching the
+     * filter are indistinguishable from gaps. Events that were appended in transactions that were not committed yet
+     * while reading may be skipped. This method is therefore meant for querying the event store, rather than as a
+     * source for event processors.
+     *
+     * @param trackingToken the {@link GapAwareTrackingToken} after which to read events, or {@code null} to read from
+     *                      the start
+     * @param metaDataKey   the key of the meta data entry to filter on
+     * @param value         the value the meta data entry must have
+     * @return a stream of the events with the given meta data value
+     */
+    public Stream<? extends TrackedEventMessage<?>> readEventsWithMetaData(TrackingToken trackingToken,
+                                                                          String metaDataKey,
+                                                                          Object value) {
+        isTrue(trackingToken == null || trackingToken instanceof GapAwareTrackingToken,
+               () -> "Unsupported token format: " + trackingToken);
+        String columnName = schema.metaDataKeyColumns().get(metaDataKey);
+        isTrue(columnName != null, () -> format("Meta data key [%s] is not stored in a dedicated column", metaDataKey));
+        isTrue(value != null, () -> "The meta data value to filter on may not be null");
+
+        long firstIndex = trackingToken == null ? -1 : ((GapAwareTrackingToken) trackingToken).getIndex();
+        Stream<TrackedEventData<?>> input = batchedStream(
+                lastItem -> fetchEventsWithMetaData(
+                        columnName, value,
+                        lastItem == null ? firstIndex : ((GapAwareTrackingToken) lastItem.trackingToken()).getIndex()
+                ),
+                batch -> batch.size() < batchSize()
+        );
+        return upcastAndDeserializeTrackedEvents(input, getEventSerializer(), upcasterChain);
+    }
+
+    private List<TrackedEventData<?>> fetchEventsWithMetaData(String columnName, Object value, long globalIndex) {
+        return transactionManager.fetchInTransaction(
+                () -> executeQuery(
+                        getConnection(),
+                        connection -> readEventDataWithMetaData(connection, columnName, value, globalIndex,
+                                                                batchSize()),
+                        JdbcUtils.listResults(resultSet -> new TrackedDomainEventData<>(
+                                GapAwareTrackingToken.newInstance(resultSet.getLong(schema.globalIndexColumn()),
+                                                                  Collections.emptySortedSet()),
+                                readTrackedEventEntry(resultSet)
+                        )),
+                        e -> new EventStoreException(
+                                format("Failed to read events with meta data value in column [%s]", columnName), e
+                        )
+                ));
+    }
+
     @Override
     protected boolean fetchForAggregateUntilEmpty() {
         return true;
@@ -657,20 +787,7 @@ protected PreparedStatement readEventData(Connection connection, TrackingToken l
     protected TrackedEventData<?> getTrackedEventData(ResultSet resultSet,
                                                       GapAwareTrackingToken previousToken) throws SQLException {
         long globalSequence = resultSet.getLong(schema.globalIndexColumn());
-
-        String aggregateIdentifier = resultSet.getString(schema.aggregateIdentifierColumn());
-        String eventIdentifier = resultSet.getString(schema.eventIdentifierColumn());
-        GenericDomainEventEntry<?> domainEvent = new GenericDomainEventEntry<>(
-                resultSet.getString(schema.typeColumn()),
-                eventIdentifier.equals(aggregateIdentifier) ? null : aggregateIdentifier,
-                resultSet.getLong(schema.sequenceNumberColumn()),
-                eventIdentifier,
-                readTimeStamp(resultSet, schema.timestampColumn()),
-                resultSet.getString(schema.payloadTypeColumn()),
-                resultSet.getString(schema.payloadRevisionColumn()),
-                readPayload(resultSet, schema.payloadColumn()),
-                readPayload(resultSet, schema.metaDataColumn())
-        );
+        GenericDomainEventEntry<?> domainEvent = readTrackedEventEntry(resultSet);
 
         // Now that we have the event itself, we can calculate the token.
         boolean allowGaps = domainEvent.getTimestamp().isAfter(gapTimeoutFrame());
@@ -693,6 +810,22 @@ protected TrackedEventData<?> getTrackedEventData(ResultSet resultSet,
         return new TrackedDomainEventData<>(token, domainEvent);
     }
 
+    private GenericDomainEventEntry<?> readTrackedEventEntry(ResultSet resultSet) throws SQLException {
+        String aggregateIdentifier = resultSet.getString(schema.aggregateIdentifierColumn());
+        String eventIdentifier = resultSet.getString(schema.eventIdentifierColumn());
+        return new GenericDomainEventEntry<>(
+                resultSet.getString(schema.typeColumn()),
+                eventIdentifier.equals(aggregateIdentifier) ? null : aggregateIdentifier,
+                resultSet.getLong(schema.sequenceNumberColumn()),
+                eventIdentifier,
+                readTimeStamp(resultSet, schema.timestampColumn()),
+                resultSet.getString(schema.payloadTypeColumn()),
+                resultSet.getString(schema.payloadRevisionColumn()),
+                readPayload(resultSet, schema.payloadColumn()),
+                readPayload(resultSet, schema.metaDataColumn())
+        );
+    }
+
     private Instant gapTimeoutFrame() {
         return GenericEventMessage.clock.instant().minus(gapTimeout, ChronoUnit.MILLIS);
     }
@@ -733,8 +866,8 @@ protected DomainEventData<?> getSnapshotData(ResultSet resultSet) throws SQLExce
                                              readTimeStamp(resultSet, schema.timestampColumn()),
                                              resultSet.getString(schema.payloadTypeColumn()),
                                              resultSet.getString(schema.payloadRevisionColumn()),
-                                             readPayload(resultSet, schema.payloadColumn()),
-                                             readPayload(resultSet, schema.metaDataColumn()));
+                                             readSnapshotPayload(resultSet, schema.payloadColumn()),
+                                             readSnapshotPayload(resultSet, schema.metaDataColumn()));
     }
 
     /**
@@ -768,6 +901,10 @@ protected void writeTimestamp(PreparedStatement preparedStatement, int position,
     /**
      * Reads a serialized object from the given {@code resultSet} at given {@code columnIndex}. The resultSet is
      * positioned in the row that contains the data. This method must not change the row in the result set.
+     * <p>
+     * When the {@code dataType} is an {@link InputStream}, the data is copied from the column's binary stream into a
+     * {@link ChunkedByteArrayOutputStream}, as the data is deserialized after the result set has been closed. The
+     * returned stream can only be read once, unless it is {@link InputStream#reset() reset} in between.
      *
      * @param resultSet  The resultSet containing the stored data.
      * @param columnName The name of the column containing the payload.
@@ -775,14 +912,53 @@ protected void writeTimestamp(PreparedStatement preparedStatement, int position,
      * @return an object describing the serialized data.
      * @throws SQLException when an exception occurs reading from the resultSet.
      */
-    @SuppressWarnings("unchecked")
     protected <T> T readPayload(ResultSet resultSet, String columnName) throws SQLException {
-        if (byte[].class.equals(dataType)) {
+        return readData(resultSet, columnName, dataType);
+    }
+
+    /**
+     * Reads a serialized snapshot object from the given {@code resultSet} at given {@code columnIndex}. The resultSet
+     * is positioned in the row that contains the data. This method must not change the row in the result set.
+     * <p>
+     * When the {@code snapshotDataType} is an {@link InputStream}, the data is copied from the column's binary stream
+     * into a {@link ChunkedByteArrayOutputStream}, so that large snapshots are never held in a single array. The
+     * resulting stream is read directly by the snapshot {@link Serializer}.
+     *
+     * @param resultSet  The resultSet containing the stored data.
+     * @param columnName The name of the column containing the payload.
+     *
+     * @return an object describing the serialized data.
+     * @throws SQLException when an exception occurs reading from the resultSet.
+     */
+    protected <T> T readSnapshotPayload(ResultSet resultSet, String columnName) throws SQLException {
+        return readData(resultSet, columnName, snapshotDataType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readData(ResultSet resultSet, String columnName, Class<?> type) throws SQLException {
+        if (byte[].class.equals(type)) {
             return (T) resultSet.getBytes(columnName);
         }
+        if (InputStream.class.equals(type)) {
+            return (T) readChunked(resultSet.getBinaryStream(columnName));
+        }
         return (T) resultSet.getObject(columnName);
     }
 
+    private InputStream readChunked(InputStream binaryStream) throws SQLException {
+        if (binaryStream == null) {
+            return null;
+        }
+        // the stream is only valid while the result set is open, while the data is deserialized after it is closed
+        try (InputStream source = binaryStream) {
+            ChunkedByteArrayOutputStream buffer = new ChunkedByteArrayOutputStream();
+            buffer.writeFrom(source);
+            return buffer.toInputStream();
+        } catch (IOException e) {
+            throw new SQLException("Unable to read the binary stream of a serialized object", e);
+        }
+    }
+
     /**
      * Returns a comma separated list of domain event column names to select from an event or snapshot entry.
      *
@@ -864,6 +1040,7 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code snapshotFilter} defaults to a {@link SnapshotFilter#allowAll()} instance.</li>
      * <li>The {@code batchSize} defaults to an integer of size {@code 100}.</li>
      * <li>The {@code dataType} is defaulted to the {@code byte[]} type.</li>
+     * <li>The {@code snapshotDataType} is defaulted to the configured {@code dataType}.</li>
      * <li>The {@link EventSchema} defaults to an {@link EventSchema#EventSchema()} call.</li>
      * <li>The {@code maxGapOffset} defaults to an  integer of size {@code 10000}.</li>
      * <li>The {@code lowestGlobalSequence} defaults to a long of size {@code 1}.</li>
@@ -880,9 +1057,11 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
      * <li>The {@code fetchTrackedEvents} defaults to {@link JdbcEventStorageEngineStatements#fetchTrackedEvents}.</li>
      * <li>The {@code cleanGaps} defaults to {@link JdbcEventStorageEngineStatements#cleanGaps}.</li>
      * <li>The {@code readEventDataForAggregate} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregate}.</li>
+     * <li>The {@code readEventDataForAggregates} defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates}.</li>
      * <li>The {@code readSnapshotData} defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData}.</li>
      * <li>The {@code readEventDataWithoutGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithoutGaps}.</li>
      * <li>The {@code readEventDataWithGaps} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithGaps}.</li>
+     * <li>The {@code readEventDataWithMetaData} defaults to {@link JdbcEventStorageEngineStatements#readEventDataWithMetaData}.</li>
      * </ul>
      * <p>
      * The event and snapshot {@link Serializer}, {@link ConnectionProvider} and {@link TransactionManager} are <b>hard
@@ -893,6 +1072,7 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private ConnectionProvider connectionProvider;
         private TransactionManager transactionManager;
         private Class<?> dataType = byte[].class;
+        private Class<?> snapshotDataType;
         private EventSchema schema = new EventSchema();
         private int maxGapOffset = DEFAULT_MAX_GAP_OFFSET;
         private long lowestGlobalSequence = DEFAULT_LOWEST_GLOBAL_SEQUENCE;
@@ -910,9 +1090,11 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private FetchTrackedEventsStatementBuilder fetchTrackedEvents = JdbcEventStorageEngineStatements::fetchTrackedEvents;
         private CleanGapsStatementBuilder cleanGaps = JdbcEventStorageEngineStatements::cleanGaps;
         private ReadEventDataForAggregateStatementBuilder readEventDataForAggregate = JdbcEventStorageEngineStatements::readEventDataForAggregate;
+        private ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates = JdbcEventStorageEngineStatements::readEventDataForAggregates;
         private ReadSnapshotDataStatementBuilder readSnapshotData = JdbcEventStorageEngineStatements::readSnapshotData;
         private ReadEventDataWithoutGapsStatementBuilder readEventDataWithoutGaps = JdbcEventStorageEngineStatements::readEventDataWithoutGaps;
         private ReadEventDataWithGapsStatementBuilder readEventDataWithGaps = JdbcEventStorageEngineStatements::readEventDataWithGaps;
+        private ReadEventDataWithMetaDataStatementBuilder readEventDataWithMetaData = JdbcEventStorageEngineStatements::readEventDataWithMetaData;
 
         private Builder() {
             persistenceExceptionResolver(new JdbcSQLErrorCodesResolver());
@@ -1043,6 +1225,21 @@ public Builder readEventDataForAggregate(ReadEventDataForAggregateStatementBuild
             return this;
         }
 
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventData(Connection, Map)}.
+         * Defaults to {@link JdbcEventStorageEngineStatements#readEventDataForAggregates(Connection, EventSchema,
+         * Map)}
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readEventDataForAggregates(
+                ReadEventDataForAggregatesStatementBuilder readEventDataForAggregates
+        ) {
+            assertNonNull(readEventDataForAggregates, "readEventDataForAggregates may not be null");
+            this.readEventDataForAggregates = readEventDataForAggregates;
+            return this;
+        }
+
         /**
          * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(Connection, String)}.
          * Defaults to {@link JdbcEventStorageEngineStatements#readSnapshotData(Connection, EventSchema, String)}
@@ -1081,6 +1278,20 @@ public Builder readEventDataWithGaps(ReadEventDataWithGapsStatementBuilder readE
             return this;
         }
 
+        /**
+         * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventDataWithMetaData(Connection,
+         * String, Object, long, int)}. Defaults to {@link
+         * JdbcEventStorageEngineStatements#readEventDataWithMetaData(Connection, EventSchema, String, Object, long,
+         * int)}
+         *
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readEventDataWithMetaData(ReadEventDataWithMetaDataStatementBuilder readEventDataWithMetaData) {
+            assertNonNull(readEventDataWithMetaData, "readEventDataWithMetaData may not be null");
+            this.readEventDataWithMetaData = readEventDataWithMetaData;
+            return this;
+        }
+
         @Override
         public JdbcEventStorageEngine.Builder snapshotSerializer(Serializer snapshotSerializer) {
             super.snapshotSerializer(snapshotSerializer);
@@ -1178,6 +1389,9 @@ public Builder transactionManager(TransactionManager transactionManager) {
         /**
          * Sets the {@code dataType} specifying the serialized type of the Event Message's payload and Meta Data.
          * Defaults to the {@code byte[]} {@link Class}.
+         * <p>
+         * When set to {@link InputStream}, serialized data is stored and read through binary streams. Note that such a
+         * stream can only be read once, so upcasters should not read the same serialized data more than once.
          *
          * @param dataType a {@link Class} specifying the serialized type of the Event Message's payload and Meta Data
          *
@@ -1189,6 +1403,25 @@ public Builder dataType(Class<?> dataType) {
             return this;
         }
 
+        /**
+         * Sets the {@code snapshotDataType} specifying the serialized type of the snapshot's payload and Meta Data.
+         * Defaults to the configured {@code dataType}.
+         * <p>
+         * Use {@link InputStream} to have large snapshots written to and read from the database as a stream of bounded
+         * chunks, rather than as a single {@code byte[]}. This requires the snapshot {@link Serializer} to be able to
+         * serialize to an {@link InputStream} directly, like the {@code JacksonSerializer} and {@code
+         * XStreamSerializer} do.
+         *
+         * @param snapshotDataType a {@link Class} specifying the serialized type of the snapshot's payload and Meta
+         *                         Data
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder snapshotDataType(Class<?> snapshotDataType) {
+            assertNonNull(snapshotDataType, "snapshotDataType may not be null");
+            this.snapshotDataType = snapshotDataType;
+            return this;
+        }
+
         /**
          * Sets the {@link EventSchema} describing the database schema of event entries. Defaults to {@link
          * EventSchema#EventSchema()}.
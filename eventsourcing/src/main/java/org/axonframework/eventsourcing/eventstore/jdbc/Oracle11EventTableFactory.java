@@ -44,6 +44,7 @@ public PreparedStatement createDomainEventTable(Connection connection, EventSche
                 schema.payloadRevisionColumn() + " VARCHAR(255),\n" +
                 schema.payloadTypeColumn() + " VARCHAR(255) NOT NULL,\n" +
                 schema.timestampColumn() + " VARCHAR(255) NOT NULL,\n" +
+                metaDataKeyColumns(schema) +
                 "PRIMARY KEY (" + schema.globalIndexColumn() + "),\n" +
                 "UNIQUE (" + schema.aggregateIdentifierColumn() + ", " +
                 schema.sequenceNumberColumn() + "),\n" +
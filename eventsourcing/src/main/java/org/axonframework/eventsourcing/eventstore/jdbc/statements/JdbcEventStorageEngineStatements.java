@@ -16,26 +16,33 @@
 
 package org.axonframework.eventsourcing.eventstore.jdbc.statements;
 
+import org.axonframework.common.io.ChunkedByteArrayOutputStream;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GapAwareTrackingToken;
 import org.axonframework.eventhandling.GenericDomainEventMessage;
 import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
 import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
 import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.jpa.DomainEventEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 
+import static java.lang.String.format;
 import static org.axonframework.common.DateTimeUtils.formatInstant;
 
 /**
@@ -83,7 +90,10 @@ public static PreparedStatement createTokenAt(Connection connection, EventSchema
      * {@code "INSERT INTO [domainEventTable] ([domainEventFields]) VALUES (?,?,?,?,?,?,?,?,?)" }
      * <p/>
      * <b>NOTE:</b> each "?" is a domain event field from {@link EventSchema#domainEventFields()} and should
-     * <b>always</b> be present for the PreparedStatement to work.
+     * <b>always</b> be present for the PreparedStatement to work. The columns of the {@link
+     * EventSchema#metaDataKeyColumns() selected meta data entries}, if any, are appended to the domain event fields,
+     * each with an additional "?". An {@link EventStoreException} is thrown if the value of such an entry exceeds the
+     * {@link EventSchema#metaDataKeyColumnLength() length of its column}.
      *
      * @param connection      The connection to the database.
      * @param schema          The EventSchema to be used.
@@ -102,9 +112,22 @@ public static PreparedStatement appendEvents(Connection connection,
                                                  Serializer serializer,
                                                  TimestampWriter timestampWriter)
             throws SQLException {
-        final String sql = "INSERT INTO " + schema.domainEventTable() + " (" + schema.domainEventFields() + ") "
-                + "VALUES (?,?,?,?,?,?,?,?,?)";
+        List<String> metaDataKeys = new ArrayList<>(schema.metaDataKeyColumns().keySet());
+        StringBuilder metaDataColumns = new StringBuilder();
+        StringBuilder metaDataParameters = new StringBuilder();
+        for (String metaDataKey : metaDataKeys) {
+            metaDataColumns.append(", ").append(schema.metaDataKeyColumns().get(metaDataKey));
+            metaDataParameters.append(",?");
+        }
+        List<String[]> metaDataValues = new ArrayList<>(events.size());
+        for (EventMessage<?> event : events) {
+            metaDataValues.add(metaDataColumnValues(schema, metaDataKeys, event));
+        }
+        final String sql = "INSERT INTO " + schema.domainEventTable()
+                + " (" + schema.domainEventFields() + metaDataColumns + ") "
+                + "VALUES (?,?,?,?,?,?,?,?,?" + metaDataParameters + ")";
         PreparedStatement statement = connection.prepareStatement(sql);
+        int eventIndex = 0;
         for (EventMessage<?> eventMessage : events) {
             DomainEventMessage<?> event = asDomainEventMessage(eventMessage);
             SerializedObject<?> payload = event.serializePayload(serializer, dataType);
@@ -116,13 +139,36 @@ public static PreparedStatement appendEvents(Connection connection,
             timestampWriter.writeTimestamp(statement, 5, event.getTimestamp());
             statement.setString(6, payload.getType().getName());
             statement.setString(7, payload.getType().getRevision());
-            statement.setObject(8, payload.getData());
-            statement.setObject(9, metaData.getData());
+            setData(statement, 8, payload.getData());
+            setData(statement, 9, metaData.getData());
+            String[] values = metaDataValues.get(eventIndex++);
+            for (int i = 0; i < values.length; i++) {
+                statement.setString(10 + i, values[i]);
+            }
             statement.addBatch();
         }
         return statement;
     }
 
+    private static String[] metaDataColumnValues(EventSchema schema,
+                                                 List<String> metaDataKeys,
+                                                 EventMessage<?> event) {
+        String[] values = new String[metaDataKeys.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = event.getMetaData().get(metaDataKeys.get(i));
+            values[i] = value == null ? null : value.toString();
+            if (values[i] != null && values[i].length() > schema.metaDataKeyColumnLength()) {
+                throw new EventStoreException(format(
+                        "Cannot append event [%s], as the value of its meta data entry [%s] is %d characters long. "
+                                + "Column [%s] holds at most %d characters.",
+                        event.getIdentifier(), metaDataKeys.get(i), values[i].length(),
+                        schema.metaDataKeyColumns().get(metaDataKeys.get(i)), schema.metaDataKeyColumnLength()
+                ));
+            }
+        }
+        return values;
+    }
+
     /**
      * Converts an {@link EventMessage} to a {@link DomainEventMessage}. If the message already is a {@link
      * DomainEventMessage} it will be returned as is. Otherwise a new {@link GenericDomainEventMessage} is made with
@@ -235,8 +281,8 @@ public static PreparedStatement appendSnapshot(Connection connection,
         timestampWriter.writeTimestamp(statement, 5, snapshot.getTimestamp());
         statement.setString(6, payload.getType().getName());
         statement.setString(7, payload.getType().getRevision());
-        statement.setObject(8, payload.getData());
-        statement.setObject(9, metaData.getData());
+        setData(statement, 8, payload.getData());
+        setData(statement, 9, metaData.getData());
         return statement;
     }
 
@@ -352,6 +398,74 @@ public static PreparedStatement readEventDataForAggregate(Connection connection,
         return statement;
     }
 
+    /**
+     * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventsWithMetaData(TrackingToken,
+     * String, Object)}. Defaults to:
+     * <p/>
+     * {@code "SELECT [trackedEventFields] FROM [domainEventTable] WHERE [metaDataKeyColumn] = ?1 AND
+     * [globalIndexColumn] > ?2 ORDER BY [globalIndexColumn] ASC" }
+     * <p/>
+     * <b>NOTE:</b> "?1" is the {@link Object#toString() String} form of the meta data value and "?2" is the
+     * globalIndex parameter from {@link JdbcEventStorageEngine#readEventsWithMetaData(TrackingToken, String, Object)}
+     * and they should <b>always</b> be present for the PreparedStatement to work. The number of returned rows is
+     * limited to the given {@code batchSize}.
+     *
+     * @param connection  The connection to the database.
+     * @param schema      The EventSchema to be used
+     * @param columnName  The name of the column storing the value of the meta data entry to filter on.
+     * @param value       The meta data value that returned entries should have.
+     * @param globalIndex The global index of the last entry that should not be returned.
+     * @param batchSize   The maximum number of items to include in the batch.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readEventDataWithMetaData(Connection connection, EventSchema schema,
+                                                              String columnName, Object value, long globalIndex,
+                                                              int batchSize) throws SQLException {
+        final String sql = "SELECT " + schema.trackedEventFields() + " FROM " + schema.domainEventTable()
+                + " WHERE " + columnName + " = ? AND " + schema.globalIndexColumn() + " > ?"
+                + " ORDER BY " + schema.globalIndexColumn() + " ASC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, value.toString());
+        statement.setLong(2, globalIndex);
+        statement.setMaxRows(batchSize);
+        return statement;
+    }
+
+    /**
+     * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readEventStreams(Map)}. Defaults to:
+     * <p/>
+     * {@code "SELECT [trackedEventFields] FROM [domainEventTable] WHERE ([aggregateIdentifierColumn] = ? AND
+     * [sequenceNumberColumn] >= ?) OR ... ORDER BY [aggregateIdentifierColumn] ASC, [sequenceNumberColumn] ASC" }
+     * <p/>
+     * <b>NOTE:</b> every pair of "?" parameters is an aggregate identifier and its first sequence number, as given by
+     * the {@code firstSequenceNumbers}.
+     *
+     * @param connection           The connection to the database.
+     * @param schema               The EventSchema to be used
+     * @param firstSequenceNumbers The expected sequence number of the first returned entry, per aggregate identifier.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    public static PreparedStatement readEventDataForAggregates(Connection connection, EventSchema schema,
+                                                               Map<String, Long> firstSequenceNumbers)
+            throws SQLException {
+        String condition = "(" + schema.aggregateIdentifierColumn() + " = ? AND "
+                + schema.sequenceNumberColumn() + " >= ?)";
+        final String sql =
+                "SELECT " + schema.trackedEventFields() + " FROM " + schema.domainEventTable() + " WHERE "
+                        + String.join(" OR ", Collections.nCopies(firstSequenceNumbers.size(), condition))
+                        + " ORDER BY " + schema.aggregateIdentifierColumn() + " ASC, "
+                        + schema.sequenceNumberColumn() + " ASC";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        int parameterIndex = 1;
+        for (Map.Entry<String, Long> entry : firstSequenceNumbers.entrySet()) {
+            statement.setString(parameterIndex++, entry.getKey());
+            statement.setLong(parameterIndex++, entry.getValue());
+        }
+        return statement;
+    }
+
     /**
      * Set the PreparedStatement to be used on {@link JdbcEventStorageEngine#readSnapshotData(String)}. Defaults to:
      * <p/>
@@ -443,4 +557,35 @@ public static PreparedStatement readEventDataWithGaps(Connection connection, Eve
         }
         return statement;
     }
+
+    private static void setData(PreparedStatement statement, int position, Object data) throws SQLException {
+        if (data instanceof InputStream) {
+            ChunkedByteArrayOutputStream buffer = buffer((InputStream) data);
+            // not every driver supports binary streams of unknown length
+            statement.setBinaryStream(position, buffer.toInputStream(), buffer.size());
+        } else {
+            statement.setObject(position, data);
+        }
+    }
+
+    /**
+     * Copies the given {@code data} into a chunked buffer, so that the driver gets a stream of known length. The
+     * serialized data may be cached by the message and read again, for instance when the statement is retried, so
+     * the given stream is reset after it has been copied if it supports doing so.
+     */
+    private static ChunkedByteArrayOutputStream buffer(InputStream data) throws SQLException {
+        try {
+            if (data.markSupported()) {
+                data.mark(Integer.MAX_VALUE);
+            }
+            ChunkedByteArrayOutputStream buffer = new ChunkedByteArrayOutputStream();
+            buffer.writeFrom(data);
+            if (data.markSupported()) {
+                data.reset();
+            }
+            return buffer;
+        } catch (IOException e) {
+            throw new SQLException("Unable to read the serialized data to store", e);
+        }
+    }
 }
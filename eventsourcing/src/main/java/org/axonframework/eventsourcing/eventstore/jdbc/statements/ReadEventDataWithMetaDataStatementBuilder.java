@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.eventstore.jdbc.statements;
+
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.jdbc.EventSchema;
+import org.axonframework.eventsourcing.eventstore.jdbc.JdbcEventStorageEngine;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Contract which defines how to build a PreparedStatement for use on {@link
+ * JdbcEventStorageEngine#readEventsWithMetaData(TrackingToken, String, Object)}
+ *
+ * @since 4.6
+ */
+@FunctionalInterface
+public interface ReadEventDataWithMetaDataStatementBuilder {
+
+    /**
+     * Creates a statement to read tracked event entries of which the column with given {@code columnName} holds the
+     * {@link Object#toString() String} form of given {@code value}. Only entries with a global index larger than the
+     * given {@code globalIndex} should be returned, in order of their global index and at most {@code batchSize} at
+     * a time.
+     *
+     * @param connection  The connection to the database.
+     * @param schema      The EventSchema to be used
+     * @param columnName  The name of the column storing the value of the meta data entry to filter on.
+     * @param value       The meta data value that returned entries should have.
+     * @param globalIndex The global index of the last entry that should not be returned.
+     * @param batchSize   The maximum number of items to include in the batch.
+     * @return The newly created {@link PreparedStatement}.
+     * @throws SQLException when an exception occurs while creating the prepared statement.
+     */
+    PreparedStatement build(Connection connection, EventSchema schema, String columnName, Object value,
+                            long globalIndex, int batchSize) throws SQLException;
+}
@@ -38,6 +38,8 @@
 import java.util.List;
 import java.util.UUID;
 
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.axonframework.messaging.MetaData.emptyInstance;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -106,6 +108,37 @@ void testLoadAndSaveAggregate() {
         assertSame(event3, aggregate.invoke(TestAggregate::getLiveEvents).get(0).getPayload());
     }
 
+    @Test
+    void testLoadUsesPrefetchedEventStream() {
+        String identifier = UUID.randomUUID().toString();
+        DomainEventMessage<?> event =
+                new GenericDomainEventMessage<>("type", identifier, (long) 1, "Mock contents", emptyInstance());
+        when(mockEventStore.readEventStreams(anyCollection()))
+                .thenReturn(singletonMap(identifier, DomainEventStream.of(event)));
+
+        testSubject.prefetch(singletonList(identifier));
+        Aggregate<TestAggregate> aggregate = testSubject.load(identifier, null);
+
+        assertEquals(1, aggregate.invoke(TestAggregate::getHandledEvents).size());
+        assertSame(event, aggregate.invoke(TestAggregate::getHandledEvents).get(0));
+        verify(mockEventStore, never()).readEvents(identifier);
+    }
+
+    @Test
+    void testPrefetchedEventStreamIsDiscardedWhenRegistrationIsCancelled() {
+        String identifier = UUID.randomUUID().toString();
+        DomainEventMessage<?> event =
+                new GenericDomainEventMessage<>("type", identifier, (long) 1, "Mock contents", emptyInstance());
+        when(mockEventStore.readEventStreams(anyCollection()))
+                .thenReturn(singletonMap(identifier, DomainEventStream.of(event)));
+        when(mockEventStore.readEvents(identifier)).thenReturn(DomainEventStream.of(event));
+
+        testSubject.prefetch(singletonList(identifier)).cancel();
+        testSubject.load(identifier, null);
+
+        verify(mockEventStore).readEvents(identifier);
+    }
+
     @Test
     void testFilterEventsByType() {
         String identifier = UUID.randomUUID().toString();
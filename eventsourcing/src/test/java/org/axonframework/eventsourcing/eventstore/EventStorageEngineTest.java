@@ -28,7 +28,9 @@
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Collections.singletonMap;
@@ -125,6 +127,26 @@ public void testReadPartialStream() {
         assertEquals(3L, testSubject.readEvents(AGGREGATE, 2).asStream().count());
     }
 
+    @Test
+    public void testReadEventStreamsOfSeveralAggregates() {
+        testSubject.appendEvents(createEvents(4));
+        testSubject.appendEvents(createEvent("otherAggregate", 0), createEvent("otherAggregate", 1));
+
+        Map<String, Long> firstSequenceNumbers = new HashMap<>();
+        firstSequenceNumbers.put(AGGREGATE, 2L);
+        firstSequenceNumbers.put("otherAggregate", 0L);
+        firstSequenceNumbers.put("nonExistentAggregate", 0L);
+        Map<String, DomainEventStream> result = testSubject.readEventStreams(firstSequenceNumbers);
+
+        assertEquals(Arrays.asList(2L, 3L), result.get(AGGREGATE).asStream()
+                                                   .map(DomainEventMessage::getSequenceNumber)
+                                                   .collect(toList()));
+        assertEquals(Arrays.asList(0L, 1L), result.get("otherAggregate").asStream()
+                                                  .map(DomainEventMessage::getSequenceNumber)
+                                                  .collect(toList()));
+        assertFalse(result.get("nonExistentAggregate").hasNext());
+    }
+
     @Test
     public void testStoreAndLoadSnapshot() {
         testSubject.storeSnapshot(createEvent(0));
@@ -27,16 +27,19 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngineTest;
 import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.JdbcEventStorageEngineStatements;
 import org.axonframework.eventsourcing.eventstore.jdbc.statements.ReadEventDataForAggregateStatementBuilder;
 import org.axonframework.eventsourcing.eventstore.jpa.SQLErrorCodesResolver;
 import org.axonframework.eventsourcing.utils.TestSerializer;
+import org.axonframework.messaging.MetaData;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -46,6 +49,7 @@
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
@@ -59,6 +63,7 @@
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -124,6 +129,89 @@ void testStoreTwoExactSameSnapshots() {
         testSubject.storeSnapshot(createEvent(1));
     }
 
+    @Test
+    void testStoreAndLoadSnapshotAsStream() {
+        setTestSubject(testSubject = createEngine(engineBuilder -> engineBuilder.snapshotDataType(InputStream.class)));
+
+        testStoreAndLoadSnapshot();
+    }
+
+    @Test
+    void testStoreAndLoadEventsAsStream() {
+        setTestSubject(testSubject = createEngine(engineBuilder -> engineBuilder.dataType(InputStream.class)));
+        List<DomainEventMessage<?>> events = createEvents(3);
+
+        testSubject.appendEvents(events);
+
+        List<? extends DomainEventMessage<?>> aggregateEvents =
+                testSubject.readEvents(AGGREGATE).asStream().collect(toList());
+        List<? extends TrackedEventMessage<?>> trackedEvents =
+                testSubject.readEvents(null, false).collect(toList());
+        assertEquals(3, aggregateEvents.size());
+        assertEquals(3, trackedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).getPayload(), aggregateEvents.get(i).getPayload());
+            assertEquals(events.get(i).getMetaData(), aggregateEvents.get(i).getMetaData());
+            assertEquals(events.get(i).getPayload(), trackedEvents.get(i).getPayload());
+            assertEquals(events.get(i).getMetaData(), trackedEvents.get(i).getMetaData());
+        }
+    }
+
+    @Test
+    void testReadEventsWithMetaDataFiltersOnMetaDataColumn() {
+        EventSchema testSchema = EventSchema.builder()
+                                            .metaDataKeyColumn("tenant", "tenantId")
+                                            .build();
+        setTestSubject(testSubject = createEngine(engineBuilder -> engineBuilder.schema(testSchema).batchSize(2)));
+        List<DomainEventMessage<?>> events = LongStream.range(0, 10)
+                                                       .mapToObj(i -> createEvent(
+                                                               "type", UUID.randomUUID().toString(), AGGREGATE, i,
+                                                               "payload" + i, MetaData.with("tenant", "tenant" + i % 3)
+                                                       ))
+                                                       .collect(toList());
+        testSubject.appendEvents(events);
+
+        List<? extends TrackedEventMessage<?>> result =
+                testSubject.readEventsWithMetaData(null, "tenant", "tenant1").collect(toList());
+
+        assertEquals(Arrays.asList("payload1", "payload4", "payload7"),
+                     result.stream().map(TrackedEventMessage::getPayload).collect(toList()));
+        assertEquals(Arrays.asList("payload4", "payload7"),
+                     testSubject.readEventsWithMetaData(result.get(0).trackingToken(), "tenant", "tenant1")
+                                .map(TrackedEventMessage::getPayload)
+                                .collect(toList()));
+    }
+
+    @Test
+    void testAppendEventsRejectsMetaDataValueExceedingColumnLength() {
+        EventSchema testSchema = EventSchema.builder()
+                                            .metaDataKeyColumn("tenant", "tenantId")
+                                            .metaDataKeyColumnLength(10)
+                                            .build();
+        setTestSubject(testSubject = createEngine(engineBuilder -> engineBuilder.schema(testSchema)));
+        testSubject.appendEvents(createEvent("type", UUID.randomUUID().toString(), AGGREGATE, 0,
+                                             "payload0", MetaData.with("tenant", "0123456789")));
+
+        EventStoreException exception = assertThrows(EventStoreException.class, () -> testSubject.appendEvents(
+                createEvent("type", UUID.randomUUID().toString(), AGGREGATE, 1,
+                            "payload1", MetaData.with("tenant", "0123456789a"))
+        ));
+
+        assertTrue(exception.getMessage().contains("[tenant]"));
+        assertTrue(exception.getMessage().contains("[tenantId]"));
+        assertEquals(Collections.singletonList("payload0"),
+                     testSubject.readEventsWithMetaData(null, "tenant", "0123456789")
+                                .map(TrackedEventMessage::getPayload)
+                                .collect(toList()));
+        assertEquals(0L, testSubject.lastSequenceNumberFor(AGGREGATE).orElse(-1L));
+    }
+
+    @Test
+    void testReadEventsWithMetaDataRejectsKeyWithoutColumn() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> testSubject.readEventsWithMetaData(null, "tenant", "tenant1"));
+    }
+
     @Test
     void testLoadLastSequenceNumber() {
         String aggregateId = UUID.randomUUID().toString();
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.Registration;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.unitofwork.RollbackConfiguration;
+import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+
+/**
+ * Specialization of the {@link SimpleCommandBus} that queues incoming commands and processes them in batches, on
+ * threads provided by an {@link Executor}. Before the commands in a batch are handled, each subscribed handler that
+ * implements {@link CommandBatchPreparer} is given the opportunity to prepare for all commands in the batch it is
+ * about to handle. This allows, for example, the aggregates targeted by a batch to be loaded with a single query.
+ * <p/>
+ * Each command is still handled individually, in its own {@link org.axonframework.messaging.unitofwork.UnitOfWork},
+ * in the order in which it was taken from the queue. A failing command does not affect the other commands in the
+ * batch.
+ * <p/>
+ * Up to {@code maxConcurrentBatches} batches are processed concurrently, each by a single thread. Note that you should
+ * call {@link #shutdown()} to stop any threads waiting for new tasks.
+ *
+ * @since 4.6
+ */
+public class BatchingCommandBus extends SimpleCommandBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingCommandBus.class);
+
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final Queue<QueuedCommand<?, ?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeBatchProcessors = new AtomicInteger();
+
+    /**
+     * Instantiate a {@link BatchingCommandBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration} and
+     * {@link Executor} are not {@code null}, and will throw an {@link AxonConfigurationException} if any of them is
+     * {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link BatchingCommandBus} instance
+     */
+    protected BatchingCommandBus(Builder builder) {
+        super(builder);
+        this.executor = builder.executor;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxConcurrentBatches = builder.maxConcurrentBatches;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link BatchingCommandBus}.
+     * <p>
+     * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link MessageMonitor} is
+     * defaulted to a {@link NoOpMessageMonitor}, {@link RollbackConfiguration} defaults to a
+     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}, the {@link DuplicateCommandHandlerResolver} defaults to
+     * {@link DuplicateCommandHandlerResolution#logAndOverride()}, the {@code maxBatchSize} defaults to {@code 32}, the
+     * {@code maxConcurrentBatches} defaults to {@code 1} and the {@link Executor} defaults to a
+     * {@link Executors#newCachedThreadPool}. The TransactionManager, MessageMonitor, RollbackConfiguration and Executor
+     * are <b>hard requirements</b>. Thus setting them to {@code null} will result in an
+     * {@link AxonConfigurationException}.
+     *
+     * @return a Builder to be able to create a {@link BatchingCommandBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    protected <C, R> void handle(CommandMessage<C> command,
+                                 MessageHandler<? super CommandMessage<?>> handler,
+                                 CommandCallback<? super C, ? super R> callback) {
+        queue.add(new QueuedCommand<>(command, handler, callback));
+        scheduleBatchProcessor();
+    }
+
+    private void scheduleBatchProcessor() {
+        int active = activeBatchProcessors.get();
+        while (active < maxConcurrentBatches && !queue.isEmpty()) {
+            if (activeBatchProcessors.compareAndSet(active, active + 1)) {
+                executor.execute(this::processBatches);
+                return;
+            }
+            active = activeBatchProcessors.get();
+        }
+    }
+
+    private void processBatches() {
+        try {
+            List<QueuedCommand<?, ?>> batch = nextBatch();
+            while (!batch.isEmpty()) {
+                processBatch(batch);
+                batch = nextBatch();
+            }
+        } finally {
+            activeBatchProcessors.decrementAndGet();
+        }
+        // commands may have been queued after the last poll, but before the processor was marked inactive
+        scheduleBatchProcessor();
+    }
+
+    private List<QueuedCommand<?, ?>> nextBatch() {
+        List<QueuedCommand<?, ?>> batch = new ArrayList<>();
+        QueuedCommand<?, ?> next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Processes the given {@code batch} of queued commands. All handlers implementing {@link CommandBatchPreparer} are
+     * invoked with the commands they are about to handle, after which each command is handled individually.
+     *
+     * @param batch the commands to process
+     */
+    private void processBatch(List<QueuedCommand<?, ?>> batch) {
+        List<Registration> preparations = prepare(batch);
+        try {
+            batch.forEach(QueuedCommand::handle);
+        } finally {
+            preparations.forEach(Registration::cancel);
+        }
+    }
+
+    private List<Registration> prepare(List<QueuedCommand<?, ?>> batch) {
+        Map<CommandBatchPreparer, List<CommandMessage<?>>> commandsPerPreparer = new IdentityHashMap<>();
+        for (QueuedCommand<?, ?> queuedCommand : batch) {
+            if (queuedCommand.handler instanceof CommandBatchPreparer) {
+                commandsPerPreparer.computeIfAbsent((CommandBatchPreparer) queuedCommand.handler,
+                                                    h -> new ArrayList<>())
+                                   .add(queuedCommand.command);
+            }
+        }
+        List<Registration> preparations = new ArrayList<>(commandsPerPreparer.size());
+        commandsPerPreparer.forEach((preparer, commands) -> {
+            try {
+                Registration preparation = preparer.prepareBatch(commands);
+                if (preparation != null) {
+                    preparations.add(preparation);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to prepare a batch of [{}] commands. Commands will be handled without preparation.",
+                            commands.size(), e);
+            }
+        });
+        return preparations;
+    }
+
+    /**
+     * Shuts down the Executor used to process batches of commands. If the {@code Executor} provided in the builder
+     * does not implement {@code ExecutorService}, this method does nothing.
+     */
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+            try {
+                ((ExecutorService) executor).awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // we've been interrupted. Reset the interruption flag and continue
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private class QueuedCommand<C, R> {
+
+        private final CommandMessage<C> command;
+        private final MessageHandler<? super CommandMessage<?>> handler;
+        private final CommandCallback<? super C, ? super R> callback;
+
+        private QueuedCommand(CommandMessage<C> command,
+                              MessageHandler<? super CommandMessage<?>> handler,
+                              CommandCallback<? super C, ? super R> callback) {
+            this.command = command;
+            this.handler = handler;
+            this.callback = callback;
+        }
+
+        private void handle() {
+            AtomicBoolean callbackInvoked = new AtomicBoolean();
+            try {
+                BatchingCommandBus.super.handle(command, handler, (CommandCallback<C, R>) (c, result) -> {
+                    callbackInvoked.set(true);
+                    callback.onResult(c, result);
+                });
+            } catch (Exception e) {
+                logger.warn("An error occurred while handling command [{}] in a batch.",
+                            command.getCommandName(), e);
+                if (!callbackInvoked.get()) {
+                    callback.onResult(command, asCommandResultMessage(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link BatchingCommandBus}.
+     * <p>
+     * The {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration},
+     * {@link DuplicateCommandHandlerResolver} and {@link Executor} are respectively defaulted to a
+     * {@link NoTransactionManager}, a {@link NoOpMessageMonitor}, a
+     * {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS}, a
+     * {@link DuplicateCommandHandlerResolution#logAndOverride()} and a {@link Executors#newCachedThreadPool}. The
+     * {@code maxBatchSize} defaults to {@code 32} and the {@code maxConcurrentBatches} to {@code 1}. The
+     * TransactionManager, MessageMonitor, RollbackConfiguration and Executor are <b>hard requirements</b>. Thus
+     * setting them to {@code null} will result in an {@link AxonConfigurationException}.
+     */
+    public static class Builder extends SimpleCommandBus.Builder {
+
+        private Executor executor = Executors.newCachedThreadPool(
+                new AxonThreadFactory(BatchingCommandBus.class.getSimpleName())
+        );
+        private int maxBatchSize = 32;
+        private int maxConcurrentBatches = 1;
+
+        @Override
+        public Builder transactionManager(TransactionManager transactionManager) {
+            super.transactionManager(transactionManager);
+            return this;
+        }
+
+        @Override
+        public Builder messageMonitor(MessageMonitor<? super CommandMessage<?>> messageMonitor) {
+            super.messageMonitor(messageMonitor);
+            return this;
+        }
+
+        @Override
+        public Builder rollbackConfiguration(RollbackConfiguration rollbackConfiguration) {
+            super.rollbackConfiguration(rollbackConfiguration);
+            return this;
+        }
+
+        @Override
+        public Builder defaultCommandCallback(CommandCallback<Object, Object> defaultCommandCallback) {
+            super.defaultCommandCallback(defaultCommandCallback);
+            return this;
+        }
+
+        @Override
+        public Builder duplicateCommandHandlerResolver(
+                DuplicateCommandHandlerResolver duplicateCommandHandlerResolver) {
+            super.duplicateCommandHandlerResolver(duplicateCommandHandlerResolver);
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} which provides the threads processing batches of commands.
+         *
+         * @param executor a {@link Executor} providing the threads processing batches of commands
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder executor(Executor executor) {
+            assertNonNull(executor, "Executor may not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of commands taken from the queue to form a single batch. Defaults to {@code 32}.
+         *
+         * @param maxBatchSize the maximum number of commands in a single batch
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            assertStrictPositive(maxBatchSize, "The maxBatchSize should be a strictly positive number");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches processed concurrently, each by its own thread. Defaults to {@code 1}.
+         *
+         * @param maxConcurrentBatches the maximum number of batches processed concurrently
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxConcurrentBatches(int maxConcurrentBatches) {
+            assertStrictPositive(maxConcurrentBatches,
+                                 "The maxConcurrentBatches should be a strictly positive number");
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link BatchingCommandBus} as specified through this Builder.
+         *
+         * @return a {@link BatchingCommandBus} as specified through this Builder
+         */
+        @Override
+        public BatchingCommandBus build() {
+            return new BatchingCommandBus(this);
+        }
+    }
+}
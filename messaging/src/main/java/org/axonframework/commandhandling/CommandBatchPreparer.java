@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.Registration;
+
+import java.util.List;
+
+/**
+ * Contract for command handlers that are able to prepare the resources required to handle a batch of commands in one
+ * go, before each of the commands is handled individually. A {@link BatchingCommandBus} will invoke {@link
+ * #prepareBatch(List)} for every handler subscribed to the commands in a batch that implements this interface.
+ * <p>
+ * A typical use case is to load the state of all aggregates targeted by the batch with a single query, instead of a
+ * query per command.
+ *
+ * @since 4.6
+ */
+@FunctionalInterface
+public interface CommandBatchPreparer {
+
+    /**
+     * Prepare the handling of the given {@code commands}, which are all handled by this handler. Each of the commands
+     * is handled individually, in its own Unit of Work, after this method returns. Any failure to prepare is not
+     * propagated to the commands; they will be handled as if no preparation took place.
+     * <p>
+     * The returned {@link Registration} is cancelled once all commands in the batch have been handled, allowing any
+     * prepared resources that have not been used to be released.
+     *
+     * @param commands the commands in the batch that will be handled by this handler
+     * @return a handle to release any resources prepared for the batch
+     */
+    Registration prepareBatch(List<? extends CommandMessage<?>> commands);
+}
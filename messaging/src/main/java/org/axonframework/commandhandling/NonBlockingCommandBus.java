@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.lock.Lock;
+import org.axonframework.common.lock.LockFactory;
+import org.axonframework.common.lock.NullLockFactory;
+import org.axonframework.common.lock.PessimisticLockFactory;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.RollbackConfiguration;
+import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static org.axonframework.commandhandling.GenericCommandResultMessage.asCommandResultMessage;
+
+/**
+ * Specialization of the {@link SimpleCommandBus} which does not block any thread while a command handler completes
+ * its work asynchronously. Command handlers may return a {@link CompletionStage}, such as a {@link CompletableFuture},
+ * or a Project Reactor {@code Mono} to signal that their result becomes available later.
+ * <p>
+ * When a handler returns an incomplete result, the {@link UnitOfWork} of the command is detached from the dispatching
+ * thread, which is then free to dispatch other commands. Once the result completes, the Unit of Work is resumed on the
+ * completing thread, where it is committed or rolled back, after which the {@link CommandCallback} is notified. All
+ * other results are processed exactly like the {@link SimpleCommandBus} does.
+ * <p>
+ * As the commit phases may run on a different thread than the one that started the Unit of Work, the configured
+ * {@link TransactionManager} should not bind its transactions to the current thread. Commands dispatched from within
+ * another Unit of Work are always completed before the dispatching thread continues, as the nested Unit of Work needs
+ * to be committed before its parent.
+ * <p>
+ * Locks {@link UnitOfWork#registerLock(Lock) registered} with the Unit of Work, such as the aggregate locks obtained
+ * by a locking repository, are handed over to the completing thread along with the Unit of Work. This is supported by
+ * the locks of both the default {@link PessimisticLockFactory} and the {@link NullLockFactory}. A Unit of Work {@link
+ * UnitOfWork#isThreadBound() marked as thread bound}, for example because it holds a lock of a custom {@link
+ * LockFactory} which cannot be handed over, is completed on the dispatching thread, which waits for the result.
+ *
+ * @since 4.6
+ */
+public class NonBlockingCommandBus extends SimpleCommandBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(NonBlockingCommandBus.class);
+    private static final boolean REACTOR_PRESENT = isReactorPresent();
+
+    /**
+     * Instantiate a {@link NonBlockingCommandBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link TransactionManager}, {@link MessageMonitor} and {@link RollbackConfiguration} are not
+     * {@code null}, and will throw an {@link AxonConfigurationException} if any of them is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link NonBlockingCommandBus} instance
+     */
+    protected NonBlockingCommandBus(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link NonBlockingCommandBus}.
+     * <p>
+     * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link MessageMonitor} is
+     * defaulted to a {@link NoOpMessageMonitor}, {@link RollbackConfiguration} defaults to a {@link
+     * RollbackConfigurationType#UNCHECKED_EXCEPTIONS} and the {@link DuplicateCommandHandlerResolver} defaults to
+     * {@link DuplicateCommandHandlerResolution#logAndOverride()}. The TransactionManager, MessageMonitor and
+     * RollbackConfiguration are <b>hard requirements</b>. Thus setting them to {@code null} will result in an {@link
+     * AxonConfigurationException}.
+     *
+     * @return a Builder to be able to create a {@link NonBlockingCommandBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    protected <C, R> void handleInUnitOfWork(CommandMessage<C> command,
+                                             UnitOfWork<CommandMessage<?>> unitOfWork,
+                                             InterceptorChain chain,
+                                             CommandCallback<? super C, ? super R> callback) {
+        Object result;
+        try {
+            result = chain.proceed();
+        } catch (Exception | Error e) {
+            // executeWithResult commits as soon as its task returns, so the handler is invoked before it. Its failure
+            // is rethrown within executeWithResult, which rolls back according to the rollback configuration.
+            complete(command, unitOfWork, null, e, callback);
+            return;
+        }
+        CompletableFuture<?> future = asCompletableFuture(result);
+        if (future == null) {
+            complete(command, unitOfWork, result, null, callback);
+        } else if (future.isDone() || !unitOfWork.isRoot() || unitOfWork.isThreadBound()) {
+            try {
+                complete(command, unitOfWork, future.join(), null, callback);
+            } catch (CompletionException | CancellationException e) {
+                complete(command, unitOfWork, null, unwrap(e), callback);
+            }
+        } else {
+            unitOfWork.detachLocks();
+            CurrentUnitOfWork.clear(unitOfWork);
+            future.whenComplete((value, failure) -> {
+                CurrentUnitOfWork.set(unitOfWork);
+                unitOfWork.attachLocks();
+                complete(command, unitOfWork, value, unwrap(failure), callback);
+            });
+        }
+    }
+
+    private <C, R> void complete(CommandMessage<C> command,
+                                 UnitOfWork<CommandMessage<?>> unitOfWork,
+                                 Object value,
+                                 Throwable failure,
+                                 CommandCallback<? super C, ? super R> callback) {
+        ResultMessage<?> resultMessage = unitOfWork.executeWithResult(() -> {
+            if (failure instanceof Exception) {
+                throw (Exception) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return value;
+        }, getRollbackConfiguration());
+        try {
+            callback.onResult(command, asCommandResultMessage(resultMessage));
+        } catch (Exception e) {
+            logger.warn("Callback of command [{}] failed.", command.getCommandName(), e);
+        }
+    }
+
+    private static CompletableFuture<?> asCompletableFuture(Object result) {
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<?>) result).toCompletableFuture();
+        }
+        if (REACTOR_PRESENT && MonoAdapter.isMono(result)) {
+            return MonoAdapter.toFuture(result);
+        }
+        return null;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private static boolean isReactorPresent() {
+        try {
+            Class.forName("reactor.core.publisher.Mono", false, NonBlockingCommandBus.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Isolates the references to Project Reactor, which is an optional dependency.
+     */
+    private static class MonoAdapter {
+
+        private static boolean isMono(Object result) {
+            return result instanceof Mono;
+        }
+
+        private static CompletableFuture<?> toFuture(Object mono) {
+            return ((Mono<?>) mono).toFuture();
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link NonBlockingCommandBus}.
+     * <p>
+     * The {@link TransactionManager}, {@link MessageMonitor}, {@link RollbackConfiguration} and {@link
+     * DuplicateCommandHandlerResolver} are respectively defaulted to a {@link NoTransactionManager}, a {@link
+     * NoOpMessageMonitor}, a {@link RollbackConfigurationType#UNCHECKED_EXCEPTIONS} and a {@link
+     * DuplicateCommandHandlerResolution#logAndOverride()}. The TransactionManager, MessageMonitor and
+     * RollbackConfiguration are <b>hard requirements</b>. Thus setting them to {@code null} will result in an {@link
+     * AxonConfigurationException}.
+     */
+    public static class Builder extends SimpleCommandBus.Builder {
+
+        @Override
+        public Builder transactionManager(TransactionManager transactionManager) {
+            super.transactionManager(transactionManager);
+            return this;
+        }
+
+        @Override
+        public Builder messageMonitor(MessageMonitor<? super CommandMessage<?>> messageMonitor) {
+            super.messageMonitor(messageMonitor);
+            return this;
+        }
+
+        @Override
+        public Builder rollbackConfiguration(RollbackConfiguration rollbackConfiguration) {
+            super.rollbackConfiguration(rollbackConfiguration);
+            return this;
+        }
+
+        @Override
+        public Builder defaultCommandCallback(CommandCallback<Object, Object> defaultCommandCallback) {
+            super.defaultCommandCallback(defaultCommandCallback);
+            return this;
+        }
+
+        @Override
+        public Builder duplicateCommandHandlerResolver(
+                DuplicateCommandHandlerResolver duplicateCommandHandlerResolver) {
+            super.duplicateCommandHandlerResolver(duplicateCommandHandlerResolver);
+            return this;
+        }
+
+        /**
+         * Initializes a {@link NonBlockingCommandBus} as specified through this Builder.
+         *
+         * @return a {@link NonBlockingCommandBus} as specified through this Builder
+         */
+        public NonBlockingCommandBus build() {
+            return new NonBlockingCommandBus(this);
+        }
+    }
+}
@@ -178,6 +178,24 @@ protected <C, R> void handle(CommandMessage<C> command,
         unitOfWork.attachTransaction(transactionManager);
         InterceptorChain chain = new DefaultInterceptorChain<>(unitOfWork, handlerInterceptors, handler);
 
+        handleInUnitOfWork(command, unitOfWork, chain, callback);
+    }
+
+    /**
+     * Proceeds the given {@code chain} in the given, started {@code unitOfWork}, commits or rolls back the Unit of
+     * Work depending on the outcome and notifies the {@code callback} of the result.
+     *
+     * @param command    The actual command to handle
+     * @param unitOfWork The started Unit of Work in which the command is handled
+     * @param chain      The interceptor chain invoking the handler of the command
+     * @param callback   The callback to notify of the result
+     * @param <C>        The type of payload of the command
+     * @param <R>        The type of result expected from the command handler
+     */
+    protected <C, R> void handleInUnitOfWork(CommandMessage<C> command,
+                                             UnitOfWork<CommandMessage<?>> unitOfWork,
+                                             InterceptorChain chain,
+                                             CommandCallback<? super C, ? super R> callback) {
         CommandResultMessage<R> resultMessage =
                 asCommandResultMessage(unitOfWork.executeWithResult(chain::proceed, rollbackConfiguration));
         callback.onResult(command, resultMessage);
@@ -244,6 +262,15 @@ public void setRollbackConfiguration(RollbackConfiguration rollbackConfiguration
         this.rollbackConfiguration = rollbackConfiguration;
     }
 
+    /**
+     * Returns the {@link RollbackConfiguration} that decides when the {@link UnitOfWork} is rolled back.
+     *
+     * @return the {@link RollbackConfiguration} that decides when the {@link UnitOfWork} is rolled back
+     */
+    protected RollbackConfiguration getRollbackConfiguration() {
+        return rollbackConfiguration;
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleCommandBus}.
      * <p>
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} that buffers written bytes in a list of bounded chunks, rather than in a single array that
+ * is copied into a larger one whenever it runs full. The buffered content is exposed as an {@link InputStream} that
+ * reads the chunks in place, through {@link #toInputStream()}.
+ * <p>
+ * This allows large content, such as the serialized state of a big aggregate, to be buffered without ever allocating
+ * a single array of the full size of the content. Such arrays are expensive for most garbage collectors, as they
+ * typically need to be allocated outside the regular young generation.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @since 4.6
+ */
+public class ChunkedByteArrayOutputStream extends OutputStream {
+
+    /**
+     * The default maximum size of a single chunk, which is well below the size at which common garbage collectors
+     * treat an array as a large object.
+     */
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 64 * 1024;
+
+    private static final int INITIAL_CHUNK_SIZE = 256;
+
+    private final int maxChunkSize;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private long size;
+
+    /**
+     * Initialize a stream that buffers its content in chunks of at most {@link #DEFAULT_MAX_CHUNK_SIZE} bytes.
+     */
+    public ChunkedByteArrayOutputStream() {
+        this(DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Initialize a stream that buffers its content in chunks of at most {@code maxChunkSize} bytes. Chunks start
+     * small and double in size up to this maximum, so that small content does not occupy a full chunk.
+     *
+     * @param maxChunkSize the maximum number of bytes in a single chunk
+     */
+    public ChunkedByteArrayOutputStream(int maxChunkSize) {
+        if (maxChunkSize <= 0) {
+            throw new IllegalArgumentException("The maximum chunk size must be positive");
+        }
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity();
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        int remaining = length;
+        int readPosition = offset;
+        while (remaining > 0) {
+            ensureCapacity();
+            int count = Math.min(remaining, current.length - position);
+            System.arraycopy(bytes, readPosition, current, position, count);
+            position += count;
+            readPosition += count;
+            remaining -= count;
+        }
+        size += length;
+    }
+
+    /**
+     * Writes all bytes remaining in the given {@code inputStream} to this stream. The given stream is not closed.
+     *
+     * @param inputStream the stream to read the bytes to write from
+     * @return the number of bytes written
+     * @throws IOException when reading from the given {@code inputStream} fails
+     */
+    public long writeFrom(InputStream inputStream) throws IOException {
+        long written = 0;
+        int count;
+        do {
+            ensureCapacity();
+            count = inputStream.read(current, position, current.length - position);
+            if (count > 0) {
+                position += count;
+                size += count;
+                written += count;
+            }
+        } while (count >= 0);
+        return written;
+    }
+
+    /**
+     * Returns the number of bytes written to this stream.
+     *
+     * @return the number of bytes written to this stream
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns an {@link InputStream} providing the bytes written to this stream so far. The returned stream reads the
+     * buffered chunks in place, without copying them. Bytes written to this stream after this method is invoked are
+     * not guaranteed to be visible in the returned stream.
+     * <p>
+     * Like a {@link java.io.ByteArrayInputStream}, the returned stream supports {@link InputStream#mark(int)} and
+     * {@link InputStream#reset()}, and is reset to its start if no position has been marked.
+     *
+     * @return an InputStream providing the bytes written to this stream
+     */
+    public InputStream toInputStream() {
+        List<byte[]> content = new ArrayList<>(chunks);
+        return new ChunkInputStream(content, content.isEmpty() ? 0 : position);
+    }
+
+    private void ensureCapacity() {
+        if (current == null || position == current.length) {
+            int chunkSize = current == null ? INITIAL_CHUNK_SIZE : current.length * 2;
+            current = new byte[Math.min(chunkSize, maxChunkSize)];
+            chunks.add(current);
+            position = 0;
+        }
+    }
+
+    private static final class ChunkInputStream extends InputStream {
+
+        private final List<byte[]> chunks;
+        private final int lastChunkLength;
+        private int chunkIndex;
+        private int position;
+        private int markedChunkIndex;
+        private int markedPosition;
+
+        private ChunkInputStream(List<byte[]> chunks, int lastChunkLength) {
+            this.chunks = chunks;
+            this.lastChunkLength = lastChunkLength;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            markedChunkIndex = chunkIndex;
+            markedPosition = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            chunkIndex = markedChunkIndex;
+            position = markedPosition;
+        }
+
+        @Override
+        public int read() {
+            if (!hasRemaining()) {
+                return -1;
+            }
+            return chunks.get(chunkIndex)[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (offset < 0 || length < 0 || length > bytes.length - offset) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (length == 0) {
+                return 0;
+            }
+            int read = 0;
+            while (read < length && hasRemaining()) {
+                int count = Math.min(length - read, chunkLength(chunkIndex) - position);
+                System.arraycopy(chunks.get(chunkIndex), position, bytes, offset + read, count);
+                position += count;
+                read += count;
+            }
+            return read == 0 ? -1 : read;
+        }
+
+        @Override
+        public int available() {
+            if (!hasRemaining()) {
+                return 0;
+            }
+            long available = chunkLength(chunkIndex) - position;
+            for (int i = chunkIndex + 1; i < chunks.size() && available < Integer.MAX_VALUE; i++) {
+                available += chunkLength(i);
+            }
+            return (int) Math.min(available, Integer.MAX_VALUE);
+        }
+
+        private boolean hasRemaining() {
+            while (chunkIndex < chunks.size() && position == chunkLength(chunkIndex)) {
+                chunkIndex++;
+                position = 0;
+            }
+            return chunkIndex < chunks.size();
+        }
+
+        private int chunkLength(int index) {
+            return index == chunks.size() - 1 ? lastChunkLength : chunks.get(index).length;
+        }
+    }
+}
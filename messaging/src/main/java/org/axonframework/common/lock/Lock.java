@@ -49,4 +49,42 @@ default void close() {
      * @return true if the lock is still valid, or false if it has been released
      */
     boolean isHeld();
+
+    /**
+     * Indicates whether this lock is bound to the thread that obtained it, meaning that it cannot be handed over to
+     * another thread through {@link #detach()} and {@link #attach()}. Defaults to {@code true}, as locks are typically
+     * released by the thread that obtained them. The locks of the {@link PessimisticLockFactory} and the {@link
+     * NullLockFactory} are not bound to a thread.
+     *
+     * @return {@code true} if this lock cannot be handed over to another thread, {@code false} otherwise
+     * @since 4.6
+     */
+    default boolean isThreadBound() {
+        return true;
+    }
+
+    /**
+     * Detaches this lock from the current thread, in order to hand it over to another thread. The lock remains held
+     * while detached, so no thread is able to obtain it, until the thread taking it over invokes {@link #attach()}.
+     * Does nothing if the current thread does not hold this lock.
+     * <p>
+     * This method is only invoked on locks which are not {@link #isThreadBound() bound to a thread}. By default, it
+     * does nothing, which suffices for locks that do not keep track of the thread holding them.
+     *
+     * @since 4.6
+     */
+    default void detach() {
+    }
+
+    /**
+     * Attaches this lock, previously {@link #detach() detached} by another thread, to the current thread. From then
+     * on, the current thread holds the lock and is able to release it. Does nothing if this lock is not detached.
+     * <p>
+     * This method is only invoked on locks which are not {@link #isThreadBound() bound to a thread}. By default, it
+     * does nothing, which suffices for locks that do not keep track of the thread holding them.
+     *
+     * @since 4.6
+     */
+    default void attach() {
+    }
 }
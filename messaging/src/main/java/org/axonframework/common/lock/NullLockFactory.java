@@ -50,6 +50,11 @@ public void release() {
         public boolean isHeld() {
             return true;
         }
+
+        @Override
+        public boolean isThreadBound() {
+            return false;
+        }
     };
 
 }
@@ -26,7 +26,7 @@
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 
 import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.synchronizedSet;
@@ -40,6 +40,10 @@
  * Each thread can hold the same lock multiple times. The lock will only be released for other threads when the lock
  * has been released as many times as it was obtained.
  * <p/>
+ * The thread holding a lock may hand it over to another thread, by {@link Lock#detach() detaching} it, after which the
+ * other thread {@link Lock#attach() attaches} it. This allows a Unit of Work holding locks to be completed by another
+ * thread than the one that started it.
+ * <p/>
  * This lock can be used to ensure thread safe access to a number of objects, such as Aggregates and Sagas.
  *
  * @author Allard Buijze
@@ -137,17 +141,94 @@ private DisposableLock lockFor(String identifier) {
         return locks.computeIfAbsent(identifier, DisposableLock::new);
     }
 
-    private static final class PubliclyOwnedReentrantLock extends ReentrantLock {
+    /**
+     * A reentrant lock, similar to a non-fair {@link java.util.concurrent.locks.ReentrantLock}, which exposes the
+     * thread owning it and which can be handed over from the thread holding it to another thread.
+     */
+    private static final class HandoverReentrantLock extends AbstractQueuedSynchronizer {
 
         private static final long serialVersionUID = -2259228494514612163L;
 
+        private boolean tryLock() {
+            return tryAcquire(1);
+        }
+
+        private boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+            return tryAcquireNanos(1, unit.toNanos(timeout));
+        }
+
+        private void unlock() {
+            release(1);
+        }
+
+        private boolean isLocked() {
+            return getState() != 0;
+        }
+
+        private boolean isHeldByCurrentThread() {
+            return isHeldExclusively();
+        }
+
+        private boolean isHeldBy(Thread thread) {
+            return thread.equals(getExclusiveOwnerThread());
+        }
+
+        private int getHoldCount() {
+            return isHeldExclusively() ? getState() : 0;
+        }
+
+        private void detach() {
+            if (isHeldExclusively()) {
+                setExclusiveOwnerThread(null);
+                // writing the state publishes the new owner to other threads
+                setState(getState());
+            }
+        }
+
+        private void attach() {
+            if (isLocked() && getExclusiveOwnerThread() == null) {
+                setExclusiveOwnerThread(Thread.currentThread());
+                setState(getState());
+            }
+        }
+
+        @Override
+        protected boolean tryAcquire(int acquires) {
+            Thread current = Thread.currentThread();
+            int holdCount = getState();
+            if (holdCount == 0) {
+                if (compareAndSetState(0, acquires)) {
+                    setExclusiveOwnerThread(current);
+                    return true;
+                }
+            } else if (current == getExclusiveOwnerThread()) {
+                int nextHoldCount = holdCount + acquires;
+                if (nextHoldCount < 0) {
+                    throw new Error("Maximum lock count exceeded");
+                }
+                setState(nextHoldCount);
+                return true;
+            }
+            return false;
+        }
+
         @Override
-        public Collection<Thread> getQueuedThreads() { // NOSONAR
-            return super.getQueuedThreads();
+        protected boolean tryRelease(int releases) {
+            if (!isHeldExclusively()) {
+                throw new IllegalMonitorStateException();
+            }
+            int holdCount = getState() - releases;
+            boolean free = holdCount == 0;
+            if (free) {
+                setExclusiveOwnerThread(null);
+            }
+            setState(holdCount);
+            return free;
         }
 
-        public boolean isHeldBy(Thread thread) {
-            return thread.equals(getOwner());
+        @Override
+        protected boolean isHeldExclusively() {
+            return getExclusiveOwnerThread() == Thread.currentThread();
         }
     }
 
@@ -235,12 +316,12 @@ public PessimisticLockFactory build() {
     private class DisposableLock implements Lock {
 
         private final String identifier;
-        private final PubliclyOwnedReentrantLock lock;
+        private final HandoverReentrantLock lock;
         private volatile boolean isClosed = false;
 
         private DisposableLock(String identifier) {
             this.identifier = identifier;
-            this.lock = new PubliclyOwnedReentrantLock();
+            this.lock = new HandoverReentrantLock();
         }
 
         @Override
@@ -257,6 +338,21 @@ public boolean isHeld() {
             return lock.isHeldByCurrentThread();
         }
 
+        @Override
+        public boolean isThreadBound() {
+            return false;
+        }
+
+        @Override
+        public void detach() {
+            lock.detach();
+        }
+
+        @Override
+        public void attach() {
+            lock.attach();
+        }
+
         public boolean lock() {
             if (lock.getQueueLength() >= maximumQueued) {
                 throw new LockAcquisitionFailedException("Failed to acquire lock for identifier " + identifier + ": too many queued threads.");
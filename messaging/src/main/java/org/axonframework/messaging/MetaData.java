@@ -28,6 +28,11 @@
 /**
  * Represents MetaData that is passed along with a payload in a Message. Typically, the MetaData contains information
  * about the message payload that isn't "domain-specific". Examples are originating IP-address or executing User ID.
+ * <p>
+ * Adding a single entry to a MetaData instance, through {@link #and(String, Object)} for example, does not copy the
+ * existing entries. Instead, the new instance shares the entries of the original one, until a number of entries has
+ * been added this way. Commonly used keys, like {@code traceId} and {@code correlationId}, are replaced by a shared
+ * instance when MetaData is created from a Map, reducing the memory held by deserialized MetaData.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -37,6 +42,8 @@ public class MetaData implements Map<String, Object>, Serializable {
     private static final long serialVersionUID = -7892913866303912970L;
     private static final MetaData EMPTY_META_DATA = new MetaData();
     private static final String UNSUPPORTED_MUTATION_MSG = "Metadata is immutable.";
+    private static final int MAX_SHARED_ADDITIONS = 8;
+    private static final Map<String, String> COMMON_KEYS = commonKeys("traceId", "correlationId");
 
     private final Map<String, Object> values;
 
@@ -52,7 +59,51 @@ private MetaData() {
      * @param items the items to populate the MetaData with
      */
     public MetaData(Map<String, ?> items) {
-        values = Collections.unmodifiableMap(new HashMap<>(items));
+        this(items, true);
+    }
+
+    /**
+     * Initializes a MetaData instance with the given {@code items}, which are only copied if {@code copy} is {@code
+     * true}.
+     *
+     * @param items the items to populate the MetaData with
+     * @param copy  whether the items should be copied, or may be used as is
+     */
+    @SuppressWarnings("unchecked")
+    private MetaData(Map<String, ?> items, boolean copy) {
+        this.values = copy ? Collections.unmodifiableMap(internedCopyOf(items)) : (Map<String, Object>) items;
+    }
+
+    /**
+     * Creates a MetaData instance using the given {@code values} without copying them. Only to be used for Maps which
+     * are not modified after construction, like those created by the operations of this class.
+     *
+     * @param values the immutable values of the MetaData
+     * @return a MetaData instance backed by the given {@code values}
+     */
+    private static MetaData wrap(Map<String, Object> values) {
+        return new MetaData(values, false);
+    }
+
+    private static Map<String, Object> internedCopyOf(Map<String, ?> items) {
+        Map<String, Object> copy = new HashMap<>(Math.max((int) (items.size() / .75f) + 1, 16));
+        items.forEach((key, value) -> copy.put(internKey(key), value));
+        return copy;
+    }
+
+    private static String internKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        return COMMON_KEYS.getOrDefault(key, key);
+    }
+
+    private static Map<String, String> commonKeys(String... keys) {
+        Map<String, String> commonKeys = new HashMap<>();
+        for (String key : keys) {
+            commonKeys.put(key, key);
+        }
+        return commonKeys;
     }
 
     /**
@@ -104,9 +155,12 @@ public static MetaData with(String key, Object value) {
      * @return a MetaData instance with an additional entry
      */
     public MetaData and(String key, Object value) {
-        HashMap<String, Object> newValues = new HashMap<>(values);
-        newValues.put(key, value);
-        return new MetaData(newValues);
+        if (values instanceof SharedValues && ((SharedValues) values).additions >= MAX_SHARED_ADDITIONS) {
+            HashMap<String, Object> newValues = new HashMap<>(values);
+            newValues.put(internKey(key), value);
+            return wrap(Collections.unmodifiableMap(newValues));
+        }
+        return wrap(new SharedValues(values, internKey(key), value));
     }
 
     /**
@@ -238,9 +292,13 @@ public MetaData mergedWith(Map<String, ?> additionalEntries) {
         if (isEmpty()) {
             return MetaData.from(additionalEntries);
         }
+        if (additionalEntries.size() == 1) {
+            Entry<String, ?> entry = additionalEntries.entrySet().iterator().next();
+            return and(entry.getKey(), entry.getValue());
+        }
         Map<String, Object> merged = new HashMap<>(values);
-        merged.putAll(additionalEntries);
-        return new MetaData(merged);
+        additionalEntries.forEach((key, value) -> merged.put(internKey(key), value));
+        return wrap(Collections.unmodifiableMap(merged));
     }
 
     /**
@@ -255,9 +313,9 @@ public MetaData withoutKeys(Set<String> keys) {
         if (keys.isEmpty()) {
             return this;
         }
-        Map<String, ?> modified = new HashMap<>(values);
+        Map<String, Object> modified = new HashMap<>(values);
         keys.forEach(modified::remove);
-        return new MetaData(modified);
+        return wrap(Collections.unmodifiableMap(modified));
     }
 
     /**
@@ -271,6 +329,16 @@ public MetaData subset(String... keys) {
         return MetaData.from(Stream.of(keys).filter(this::containsKey).collect(new MetaDataCollector(this::get)));
     }
 
+    /**
+     * Java Serialization specification method that will ensure MetaData sharing the entries of another instance is
+     * written with a regular, serializable, copy of its entries.
+     *
+     * @return the MetaData instance to serialize
+     */
+    private Object writeReplace() {
+        return values instanceof SharedValues ? new MetaData(values) : this;
+    }
+
     /**
      * Java Serialization specification method that will ensure that deserialization will maintain a single instance of
      * empty MetaData.
@@ -297,6 +365,77 @@ public String toString() {
         return values.isEmpty() ? sb.toString() : sb.substring(skipInitialListingAppendString);
     }
 
+    /**
+     * Immutable Map adding a single entry to a base Map, without copying the entries of that base. Lookups of single
+     * keys walk the chain of additions, while operations on the entries as a whole use a flattened copy, which is
+     * created once, on first use.
+     */
+    private static final class SharedValues extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> base;
+        private final String key;
+        private final Object value;
+        private final int additions;
+        private final int size;
+        private volatile Map<String, Object> flattened;
+
+        private SharedValues(Map<String, Object> base, String key, Object value) {
+            this.base = base;
+            this.key = key;
+            this.value = value;
+            this.additions = base instanceof SharedValues ? ((SharedValues) base).additions + 1 : 1;
+            this.size = base.containsKey(key) ? base.size() : base.size() + 1;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Map<String, Object> current = this;
+            while (current instanceof SharedValues) {
+                SharedValues shared = (SharedValues) current;
+                if (Objects.equals(shared.key, key)) {
+                    return shared.value;
+                }
+                current = shared.base;
+            }
+            return current.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            Map<String, Object> current = this;
+            while (current instanceof SharedValues) {
+                SharedValues shared = (SharedValues) current;
+                if (Objects.equals(shared.key, key)) {
+                    return true;
+                }
+                current = shared.base;
+            }
+            return current.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> result = flattened;
+            if (result == null) {
+                Map<String, Object> copy = new HashMap<>(base);
+                copy.put(key, value);
+                result = Collections.unmodifiableMap(copy);
+                flattened = result;
+            }
+            return result.entrySet();
+        }
+    }
+
     /**
      * Collector implementation that, unlike {@link java.util.stream.Collectors#toMap(Function, Function)} allows
      * {@code null} values.
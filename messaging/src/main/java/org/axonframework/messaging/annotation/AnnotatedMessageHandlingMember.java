@@ -24,18 +24,26 @@
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
  * Implementation of a {@link MessageHandlingMember} that is used to invoke message handler methods on the target type.
+ * <p>
+ * The handler is invoked through a {@link MethodHandle} that is prepared once, when the member is created, rather than
+ * through reflection on each invocation. Parameters resolved by a {@link FixedValueParameterResolver} are resolved up
+ * front as well.
  *
  * @param <T> the target type
  * @author Allard Buijze
@@ -44,6 +52,7 @@
 public class AnnotatedMessageHandlingMember<T> implements MessageHandlingMember<T> {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
     private final Class<?> payloadType;
     private final int parameterCount;
@@ -51,6 +60,9 @@
     private final Executable executable;
     private final Class<? extends Message<?>> messageType;
     private final HandlerAttributes attributes;
+    private final MethodHandle invoker;
+    private final Object[] fixedParameterValues;
+    private final int[] resolvedParameterIndices;
 
     /**
      * Initializes a new instance that will invoke the given {@code executable} (method) on a target to handle a message
@@ -91,6 +103,56 @@ public AnnotatedMessageHandlingMember(Executable executable,
         }
         this.payloadType = supportedPayloadType;
         this.attributes = new AnnotatedHandlerAttributes(executable);
+        this.invoker = createInvoker(executable);
+        this.fixedParameterValues = new Object[parameterCount];
+        this.resolvedParameterIndices = preResolveFixedParameters(parameterResolvers, fixedParameterValues);
+    }
+
+    /**
+     * Creates a {@link MethodHandle} of type {@code (Object target, Object[] parameters)Object} invoking the given
+     * {@code executable}, or returns {@code null} if no such handle can be created, in which case the executable is
+     * invoked reflectively.
+     */
+    private static MethodHandle createInvoker(Executable executable) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle;
+            if (executable instanceof Method) {
+                handle = lookup.unreflect((Method) executable).asFixedArity();
+                if (Modifier.isStatic(executable.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+            } else if (executable instanceof Constructor) {
+                handle = MethodHandles.dropArguments(
+                        lookup.unreflectConstructor((Constructor<?>) executable).asFixedArity(), 0, Object.class
+                );
+            } else {
+                return null;
+            }
+            return handle.asSpreader(Object[].class, executable.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.debug("Unable to create a method handle for [{}]. Falling back to reflection.",
+                         executable.toGenericString(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the values of parameters resolved to a fixed value in the given {@code fixedParameterValues}, returning
+     * the indices of the parameters that need to be resolved for each message.
+     */
+    private static int[] preResolveFixedParameters(ParameterResolver<?>[] parameterResolvers,
+                                                   Object[] fixedParameterValues) {
+        int[] resolvedParameterIndices = new int[parameterResolvers.length];
+        int resolvedParameterCount = 0;
+        for (int i = 0; i < parameterResolvers.length; i++) {
+            if (parameterResolvers[i].getClass() == FixedValueParameterResolver.class) {
+                fixedParameterValues[i] = parameterResolvers[i].resolveParameterValue(null);
+            } else {
+                resolvedParameterIndices[resolvedParameterCount++] = i;
+            }
+        }
+        return Arrays.copyOf(resolvedParameterIndices, resolvedParameterCount);
     }
 
     @Override
@@ -147,6 +209,17 @@ protected boolean parametersMatch(Message<?> message) {
 
     @Override
     public Object handle(Message<?> message, T target) throws Exception {
+        if (invoker != null) {
+            Object[] parameterValues = resolveParameterValues(message);
+            try {
+                return (Object) invoker.invokeExact((Object) target, parameterValues);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new MessageHandlerInvocationException(
+                        String.format("Error handling an object of type [%s]", message.getPayloadType()), t);
+            }
+        }
         try {
             if (executable instanceof Method) {
                 return ((Method) executable).invoke(target, resolveParameterValues(message));
@@ -171,8 +244,8 @@ private void checkAndRethrowForExceptionOrError(ReflectiveOperationException e)
     }
 
     private Object[] resolveParameterValues(Message<?> message) {
-        Object[] params = new Object[parameterCount];
-        for (int i = 0; i < parameterCount; i++) {
+        Object[] params = parameterCount == 0 ? fixedParameterValues : fixedParameterValues.clone();
+        for (int i : resolvedParameterIndices) {
             params[i] = parameterResolvers[i].resolveParameterValue(message);
         }
         return params;
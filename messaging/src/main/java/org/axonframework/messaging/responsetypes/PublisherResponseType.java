@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.responsetypes;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.axonframework.common.TypeReflectionUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Type;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.axonframework.common.ReflectionUtils.unwrapIfType;
+
+/**
+ * A {@link ResponseType} implementation that will match with query handlers which return a {@link Publisher}, a
+ * {@link Stream}, an {@link Iterable}, an array or a single instance of the expected response type. If matching
+ * succeeds, the {@link ResponseType#convert(Object)} function will be called, which will turn the query handler its
+ * response into a {@link Publisher} emitting instances of {@code R}.
+ * <p>
+ * This response type is used to describe streaming queries, for which the response elements are provided to the
+ * caller as they are requested, rather than as a single result containing all elements.
+ *
+ * @param <R> The type of the elements of the response, which will be matched against and converted to
+ * @since 4.6
+ */
+public class PublisherResponseType<R> extends AbstractResponseType<Publisher<R>> {
+
+    /**
+     * Instantiate a {@link PublisherResponseType} with the given {@code expectedElementType} as the type to be matched
+     * against and which the convert function will use as the generic for the {@link Publisher} return value.
+     *
+     * @param expectedElementType the element type which is expected to be matched against and returned
+     */
+    @JsonCreator
+    @ConstructorProperties({"expectedResponseType"})
+    public PublisherResponseType(@JsonProperty("expectedResponseType") Class<R> expectedElementType) {
+        super(expectedElementType);
+    }
+
+    /**
+     * Match the query handler its response {@link java.lang.reflect.Type} with this implementation its element type
+     * {@code R}. Will return true if the response type is a {@link Publisher}, {@link Stream}, {@link Iterable} or
+     * array of the expected type, or if the expected type is assignable to the response type, taking generic types
+     * into account.
+     *
+     * @param responseType the response {@link java.lang.reflect.Type} of the query handler which is matched against
+     * @return true if the response type is a {@link Publisher}, {@link Stream}, {@link Iterable}, array or single
+     * instance of the expected type
+     */
+    @Override
+    public boolean matches(Type responseType) {
+        Type unwrapped = unwrapIfType(responseType, Future.class);
+        return isPublisherOfExpectedType(unwrapped) ||
+                isStreamOfExpectedType(unwrapped) ||
+                isIterableOfExpectedType(unwrapped) ||
+                isGenericArrayOfExpectedType(unwrapped) ||
+                isArrayOfExpectedType(unwrapped) ||
+                isGenericAssignableFrom(unwrapped) ||
+                isAssignableFrom(unwrapped);
+    }
+
+    /**
+     * Converts the given {@code response} into a {@link Publisher} emitting instances of {@code R}. Publishers are
+     * adapted as is, while the elements of a {@link Stream}, {@link Iterable} or array are emitted as they are
+     * requested. Any other non-null response is emitted as the single element of the returned Publisher.
+     *
+     * @param response the query handler its response to convert into a {@link Publisher}
+     * @return a {@link Publisher} emitting the elements of the given {@code response}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Publisher<R> convert(Object response) {
+        if (response == null) {
+            return Flux.empty();
+        } else if (response instanceof Publisher) {
+            return Flux.from((Publisher<R>) response);
+        } else if (response instanceof Stream) {
+            return Flux.fromStream((Stream<R>) response);
+        } else if (response instanceof Iterable) {
+            return Flux.fromIterable((Iterable<R>) response);
+        } else if (response.getClass().isArray() && !response.getClass().getComponentType().isPrimitive()) {
+            return Flux.fromArray((R[]) response);
+        }
+        return Flux.just((R) response);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<Publisher<R>> responseMessagePayloadType() {
+        return (Class<Publisher<R>>) (Class<?>) Publisher.class;
+    }
+
+    private boolean isPublisherOfExpectedType(Type responseType) {
+        Type publisherType = TypeReflectionUtils.getExactSuperType(responseType, Publisher.class);
+        return publisherType != null && isParameterizedTypeOfExpectedType(publisherType);
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherResponseType{" + expectedResponseType + "}";
+    }
+}
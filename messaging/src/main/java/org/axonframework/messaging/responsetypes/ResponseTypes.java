@@ -16,6 +16,8 @@
 
 package org.axonframework.messaging.responsetypes;
 
+import org.reactivestreams.Publisher;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -64,6 +66,18 @@ public static <R> ResponseType<List<R>> multipleInstancesOf(Class<R> type) {
         return new MultipleInstancesResponseType<>(type);
     }
 
+    /**
+     * Specify the desire to retrieve a stream of instances of type {@code R} when performing a streaming query. The
+     * instances are provided through a {@link Publisher} as they are requested, rather than as a single collection.
+     *
+     * @param type the {@code R} which is expected to be the type of the streamed elements
+     * @param <R>  the generic type of the instantiated {@link ResponseType}
+     * @return a {@link ResponseType} specifying the desire to retrieve a stream of instances of type {@code R}
+     */
+    public static <R> ResponseType<Publisher<R>> publisherOf(Class<R> type) {
+        return new PublisherResponseType<>(type);
+    }
+
     private ResponseTypes() {
         // Utility class
     }
@@ -16,6 +16,7 @@
 
 package org.axonframework.messaging.unitofwork;
 
+import org.axonframework.common.lock.Lock;
 import org.axonframework.common.transaction.Transaction;
 import org.axonframework.common.transaction.TransactionManager;
 import org.axonframework.messaging.Message;
@@ -23,6 +24,8 @@
 import org.axonframework.messaging.ResultMessage;
 import org.axonframework.messaging.correlation.CorrelationDataProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -42,6 +45,16 @@
  */
 public interface UnitOfWork<T extends Message<?>> {
 
+    /**
+     * The key of the resource registered by {@link #markThreadBound()}.
+     */
+    String THREAD_BOUND_RESOURCE_KEY = UnitOfWork.class.getName() + ".threadBound";
+
+    /**
+     * The key of the resource holding the locks registered by {@link #registerLock(Lock)}.
+     */
+    String LOCKS_RESOURCE_KEY = UnitOfWork.class.getName() + ".locks";
+
     /**
      * Starts the current unit of work. The UnitOfWork instance is registered with the CurrentUnitOfWork.
      */
@@ -260,6 +273,72 @@ default <R> R getOrDefaultResource(String key, R defaultValue) {
         return (R) resources().getOrDefault(key, defaultValue);
     }
 
+    /**
+     * Marks the root of this Unit of Work as holding resources that are bound to the current thread, such as locks that
+     * can only be released by the thread that obtained them. The commit and cleanup phases of such a Unit of Work
+     * need to run on the thread that started it.
+     *
+     * @see #isThreadBound()
+     * @since 4.6
+     */
+    default void markThreadBound() {
+        root().resources().put(THREAD_BOUND_RESOURCE_KEY, Boolean.TRUE);
+    }
+
+    /**
+     * Indicates whether this Unit of Work, or any other Unit of Work nested in the same root, holds resources bound to
+     * the thread that started it. Components completing a Unit of Work asynchronously should only do so on another
+     * thread if this method returns {@code false}.
+     *
+     * @return {@code true} if the phases of this Unit of Work need to run on the thread that started it
+     * @see #markThreadBound()
+     * @since 4.6
+     */
+    default boolean isThreadBound() {
+        return Boolean.TRUE.equals(root().resources().get(THREAD_BOUND_RESOURCE_KEY));
+    }
+
+    /**
+     * Registers the given {@code lock} as held by the root of this Unit of Work, so that it can be handed over to
+     * another thread along with this Unit of Work, through {@link #detachLocks()} and {@link #attachLocks()}. If the
+     * lock is {@link Lock#isThreadBound() bound to its thread}, this Unit of Work is {@link #markThreadBound() marked
+     * as thread bound} instead. Registering a lock does not release it; the component obtaining it remains responsible
+     * for that.
+     *
+     * @param lock the lock held by this Unit of Work
+     * @since 4.6
+     */
+    default void registerLock(Lock lock) {
+        if (lock.isThreadBound()) {
+            markThreadBound();
+        } else {
+            root().<List<Lock>>getOrComputeResource(LOCKS_RESOURCE_KEY, key -> new ArrayList<>()).add(lock);
+        }
+    }
+
+    /**
+     * {@link Lock#detach() Detaches} the locks registered with this Unit of Work from the current thread. Components
+     * completing this Unit of Work on another thread should invoke this method before releasing it from the current
+     * thread, and {@link #attachLocks()} on the thread completing it.
+     *
+     * @see #registerLock(Lock)
+     * @since 4.6
+     */
+    default void detachLocks() {
+        root().<List<Lock>>getOrDefaultResource(LOCKS_RESOURCE_KEY, new ArrayList<>()).forEach(Lock::detach);
+    }
+
+    /**
+     * {@link Lock#attach() Attaches} the locks registered with this Unit of Work, and previously {@link #detachLocks()
+     * detached} by another thread, to the current thread.
+     *
+     * @see #registerLock(Lock)
+     * @since 4.6
+     */
+    default void attachLocks() {
+        root().<List<Lock>>getOrDefaultResource(LOCKS_RESOURCE_KEY, new ArrayList<>()).forEach(Lock::attach);
+    }
+
     /**
      * Attach a transaction to this Unit of Work, using the given {@code transactionManager}. The transaction will be
      * managed in the lifecycle of this Unit of Work. Failure to start a transaction will cause this Unit of Work
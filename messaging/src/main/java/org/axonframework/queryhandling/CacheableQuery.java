@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation marking a query payload type of which the responses may be cached by a {@link CachingQueryBus}. Repeated
+ * queries with an equal name, payload and response type are answered from the cache for the given time to live, or
+ * until an update is emitted that matches the cached query.
+ * <p>
+ * Payload types annotated with this annotation are expected to provide a meaningful {@code equals} and {@code hashCode}
+ * implementation, as these are used to locate cached responses.
+ *
+ * @since 4.6
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+public @interface CacheableQuery {
+
+    /**
+     * The duration for which a response to the annotated query type remains cached, expressed in the {@link #unit()}.
+     *
+     * @return the time to live of cached responses
+     */
+    long timeToLive();
+
+    /**
+     * The unit in which the {@link #timeToLive()} is expressed. Defaults to {@link TimeUnit#SECONDS}.
+     *
+     * @return the unit of the time to live
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.messaging.DefaultInterceptorChain;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.MessageHandler;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.annotation.AnnotationUtils.findAnnotationAttributes;
+
+/**
+ * A {@link QueryBus} decorator which caches the responses to point-to-point queries of which the payload type is
+ * annotated with {@link CacheableQuery}. Responses are cached in the configured {@link Cache}, keyed on the query name,
+ * payload and response type of the query. Repeated queries for which a cached response is available are answered
+ * without invoking any query handler. Queries of which the payload type is not annotated are always dispatched to the
+ * delegate {@link QueryBus}, as are scatter-gather, streaming and subscription queries. Responses to queries
+ * expecting a {@link Publisher} are never cached either, as a publisher may only be subscribed to once.
+ * <p>
+ * Cached responses expire after the time to live declared on the {@link CacheableQuery} annotation. Furthermore, the
+ * {@link QueryUpdateEmitter} returned by {@link #queryUpdateEmitter()} removes all cached responses of which the query
+ * matches the filter of an emitted update. To benefit from this invalidation, components emitting updates should use
+ * that emitter, rather than the emitter of the delegate bus. Exceptional responses are never cached.
+ * <p>
+ * Handler interceptors registered through this bus are registered with the delegate {@link QueryBus} as well, and are
+ * also invoked for queries answered from the cache. Handler interceptors registered directly with the delegate are not
+ * invoked for those queries.
+ * <p>
+ * Note that the meta data of a query is not part of the cache key. Queries which yield a different response depending
+ * on their meta data should not be marked as {@link CacheableQuery}.
+ *
+ * @since 4.6
+ */
+public class CachingQueryBus implements QueryBus {
+
+    private static final long NOT_CACHEABLE = -1;
+    private static final int MIN_PURGE_THRESHOLD = 1024;
+
+    private final QueryBus delegate;
+    private final Cache cache;
+    private final Clock clock;
+    private final QueryUpdateEmitter queryUpdateEmitter;
+
+    private final ConcurrentMap<Class<?>, Long> timeToLiveByPayloadType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryCacheKey, Long> cachedKeys = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final List<MessageHandlerInterceptor<? super QueryMessage<?, ?>>> handlerInterceptors =
+            new CopyOnWriteArrayList<>();
+    private volatile int purgeThreshold = MIN_PURGE_THRESHOLD;
+
+    /**
+     * Instantiate a {@link CachingQueryBus} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link QueryBus} and {@link Cache} are not {@code null}, and will throw an {@link
+     * AxonConfigurationException} if either of them is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CachingQueryBus} instance
+     */
+    protected CachingQueryBus(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.cache = builder.cache;
+        this.clock = builder.clock;
+        this.queryUpdateEmitter = new InvalidatingQueryUpdateEmitter(delegate.queryUpdateEmitter());
+        this.cache.registerCacheEntryListener(new Cache.EntryListenerAdapter() {
+            @Override
+            public void onEntryExpired(Object key) {
+                onEntryRemoved(key);
+            }
+
+            @Override
+            public void onEntryRemoved(Object key) {
+                if (key instanceof QueryCacheKey) {
+                    cachedKeys.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CachingQueryBus}.
+     * <p>
+     * The {@link Clock} is defaulted to {@link Clock#systemUTC()}. The delegate {@link QueryBus} and the {@link Cache}
+     * are <b>hard requirements</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link CachingQueryBus}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <R> Registration subscribe(String queryName,
+                                      Type responseType,
+                                      MessageHandler<? super QueryMessage<?, R>> handler) {
+        return delegate.subscribe(queryName, responseType, handler);
+    }
+
+    @Override
+    public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query) {
+        long timeToLive = timeToLive(query.getPayloadType());
+        if (timeToLive == NOT_CACHEABLE || query.getResponseType() instanceof PublisherResponseType) {
+            return delegate.query(query);
+        }
+
+        QueryCacheKey key = new QueryCacheKey(query.getQueryName(), query.getPayload(), query.getResponseType());
+        CachedQueryResponse cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(clock.millis())) {
+                //noinspection unchecked
+                return respondFromCache(query, (QueryResponseMessage<R>) cached.response);
+            }
+            cachedKeys.remove(key);
+            cache.remove(key);
+        }
+
+        long invalidationsBeforeQuery = invalidationCount.get();
+        return delegate.query(query).thenApply(response -> {
+            if (!response.isExceptional() && invalidationCount.get() == invalidationsBeforeQuery) {
+                long expiresAt = clock.millis() + timeToLive;
+                cachedKeys.put(key, expiresAt);
+                cache.put(key, new CachedQueryResponse(response, expiresAt));
+                purgeExpiredKeysIfNeeded();
+                if (invalidationCount.get() != invalidationsBeforeQuery) {
+                    // an update was emitted while storing the response, which may have missed it
+                    cache.remove(key);
+                }
+            }
+            return response;
+        });
+    }
+
+    @Override
+    public <Q, R> Flux<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        return delegate.streamingQuery(query);
+    }
+
+    @Override
+    public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit) {
+        return delegate.scatterGather(query, timeout, unit);
+    }
+
+    @Override
+    public <Q, R> Flux<QueryResponseMessage<R>> scatterGatherFlux(QueryMessage<Q, R> query,
+                                                                 long timeout,
+                                                                 TimeUnit unit) {
+        return delegate.scatterGatherFlux(query, timeout, unit);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query,
+            int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(query, updateBufferSize);
+    }
+
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query,
+            int updateBufferSize,
+            UpdateConflation conflation
+    ) {
+        return delegate.subscriptionQuery(query, updateBufferSize, conflation);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated in favor use of {{@link #subscriptionQuery(SubscriptionQueryMessage, int)}
+     */
+    @Deprecated
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query,
+            SubscriptionQueryBackpressure backpressure,
+            int updateBufferSize
+    ) {
+        return delegate.subscriptionQuery(query, backpressure, updateBufferSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned emitter removes all cached responses of which the query matches the filter of an emitted update,
+     * before delegating the update to the emitter of the delegate {@link QueryBus}. When the update is emitted within
+     * a {@link UnitOfWork}, the matching responses are removed once more after that Unit of Work has been committed,
+     * as queries answered before the commit may have cached a response reflecting the previous state.
+     */
+    @Override
+    public QueryUpdateEmitter queryUpdateEmitter() {
+        return queryUpdateEmitter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code interceptor} is registered with the delegate {@link QueryBus}, and is invoked by this bus for queries
+     * answered from the cache.
+     */
+    @Override
+    public Registration registerHandlerInterceptor(MessageHandlerInterceptor<? super QueryMessage<?, ?>> interceptor) {
+        Registration delegateRegistration = delegate.registerHandlerInterceptor(interceptor);
+        handlerInterceptors.add(interceptor);
+        return () -> {
+            boolean removed = handlerInterceptors.remove(interceptor);
+            return delegateRegistration.cancel() || removed;
+        };
+    }
+
+    @Override
+    public Registration registerDispatchInterceptor(
+            MessageDispatchInterceptor<? super QueryMessage<?, ?>> dispatchInterceptor
+    ) {
+        return delegate.registerDispatchInterceptor(dispatchInterceptor);
+    }
+
+    private long timeToLive(Class<?> payloadType) {
+        return timeToLiveByPayloadType.computeIfAbsent(
+                payloadType,
+                type -> findAnnotationAttributes(type, CacheableQuery.class)
+                        .map(attributes -> ((TimeUnit) attributes.get("unit"))
+                                .toMillis((Long) attributes.get("timeToLive")))
+                        .filter(timeToLive -> timeToLive > 0)
+                        .orElse(NOT_CACHEABLE)
+        );
+    }
+
+    private <Q, R> CompletableFuture<QueryResponseMessage<R>> respondFromCache(QueryMessage<Q, R> query,
+                                                                             QueryResponseMessage<R> cachedResponse) {
+        if (handlerInterceptors.isEmpty()) {
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+        ResponseType<R> responseType = query.getResponseType();
+        UnitOfWork<QueryMessage<Q, R>> uow = DefaultUnitOfWork.startAndGet(query);
+        ResultMessage<?> result = uow.executeWithResult(
+                () -> new DefaultInterceptorChain<>(uow, handlerInterceptors, q -> cachedResponse.getPayload())
+                        .proceed()
+        );
+        if (result.isExceptional()) {
+            return CompletableFuture.completedFuture(new GenericQueryResponseMessage<>(
+                    responseType.responseMessagePayloadType(), result.exceptionResult()
+            ));
+        }
+        Object payload = result.getPayload();
+        return CompletableFuture.completedFuture(
+                payload == cachedResponse.getPayload()
+                        ? cachedResponse
+                        : GenericQueryResponseMessage.asNullableResponseMessage(
+                                responseType.responseMessagePayloadType(), responseType.convert(payload)
+                        )
+        );
+    }
+
+    private void purgeExpiredKeysIfNeeded() {
+        if (cachedKeys.size() < purgeThreshold) {
+            return;
+        }
+        // the cache may evict entries without notifying this bus, so keys are dropped once their responses expired
+        long now = clock.millis();
+        cachedKeys.forEach((key, expiresAt) -> {
+            if (expiresAt <= now) {
+                cachedKeys.remove(key, expiresAt);
+                cache.remove(key);
+            }
+        });
+        purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, cachedKeys.size() * 2);
+    }
+
+    private void invalidateNowAndAfterCommit(Predicate<QueryCacheKey> filter) {
+        invalidate(filter);
+        if (CurrentUnitOfWork.isStarted() && UnitOfWork.Phase.STARTED.equals(CurrentUnitOfWork.get().phase())) {
+            // the changes behind the update only become visible on commit, so queries answered before that may still
+            // have cached a response reflecting the previous state
+            CurrentUnitOfWork.get().afterCommit(u -> invalidate(filter));
+        }
+    }
+
+    private void invalidate(Predicate<QueryCacheKey> filter) {
+        invalidationCount.incrementAndGet();
+        for (QueryCacheKey key : cachedKeys.keySet()) {
+            if (filter.test(key)) {
+                cachedKeys.remove(key);
+                cache.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CachingQueryBus}.
+     * <p>
+     * The {@link Clock} is defaulted to {@link Clock#systemUTC()}. The delegate {@link QueryBus} and the {@link Cache}
+     * are <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private QueryBus delegate;
+        private Cache cache;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Sets the {@link QueryBus} to which queries are dispatched when no cached response is available.
+         *
+         * @param delegate the {@link QueryBus} to which queries are dispatched when no cached response is available
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(QueryBus delegate) {
+            assertNonNull(delegate, "Delegate QueryBus may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cache} in which query responses are stored.
+         *
+         * @param cache the {@link Cache} in which query responses are stored
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder cache(Cache cache) {
+            assertNonNull(cache, "Cache may not be null");
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Clock} used to decide whether a cached response has outlived its time to live. Defaults to
+         * {@link Clock#systemUTC()}.
+         *
+         * @param clock the {@link Clock} used to decide whether a cached response has outlived its time to live
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder clock(Clock clock) {
+            assertNonNull(clock, "Clock may not be null");
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CachingQueryBus} as specified through this Builder.
+         *
+         * @return a {@link CachingQueryBus} as specified through this Builder
+         */
+        public CachingQueryBus build() {
+            return new CachingQueryBus(this);
+        }
+
+        /**
+         * Validate whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate QueryBus is a hard requirement and should be provided");
+            assertNonNull(cache, "The Cache is a hard requirement and should be provided");
+        }
+    }
+
+    /**
+     * The key under which the response to a query is cached, consisting of the query name, payload and response type.
+     */
+    private static final class QueryCacheKey implements Serializable {
+
+        private static final long serialVersionUID = -4389628421945307851L;
+
+        private final String queryName;
+        private final Object payload;
+        private final ResponseType<?> responseType;
+
+        private QueryCacheKey(String queryName, Object payload, ResponseType<?> responseType) {
+            this.queryName = queryName;
+            this.payload = payload;
+            this.responseType = responseType;
+        }
+
+        private boolean matches(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+            return filter.test(new GenericSubscriptionQueryMessage<>(
+                    payload, queryName, responseType, ResponseTypes.instanceOf(Object.class)
+            ));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            QueryCacheKey that = (QueryCacheKey) o;
+            return Objects.equals(queryName, that.queryName)
+                    && Objects.equals(payload, that.payload)
+                    && Objects.equals(responseType, that.responseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryName, payload, responseType);
+        }
+    }
+
+    /**
+     * A cached query response, together with the moment at which it expires.
+     */
+    private static final class CachedQueryResponse implements Serializable {
+
+        private static final long serialVersionUID = 6921734188015529377L;
+
+        private final QueryResponseMessage<?> response;
+        private final long expiresAt;
+
+        private CachedQueryResponse(QueryResponseMessage<?> response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpiredAt(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * A {@link QueryUpdateEmitter} removing the cached responses of queries matching an emitted update, before
+     * delegating to another emitter.
+     */
+    private class InvalidatingQueryUpdateEmitter implements QueryUpdateEmitter {
+
+        private final QueryUpdateEmitter delegate;
+
+        private InvalidatingQueryUpdateEmitter(QueryUpdateEmitter delegate) {
+            this.delegate = delegate;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public <U> void emit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
+                             SubscriptionQueryUpdateMessage<U> update) {
+            invalidateNowAndAfterCommit(key -> key.matches((Predicate) filter));
+            delegate.emit(filter, update);
+        }
+
+        @Override
+        public <Q, U> void emitByKey(Class<Q> queryType, Object key, SubscriptionQueryUpdateMessage<U> update) {
+            // the key extractors are only known to the delegate, so all cached responses of the type are removed
+            invalidateNowAndAfterCommit(cacheKey -> queryType.isInstance(cacheKey.payload));
+            delegate.emitByKey(queryType, key, update);
+        }
+
+        @Override
+        public void complete(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+            delegate.complete(filter);
+        }
+
+        @Override
+        public void completeExceptionally(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter, Throwable cause) {
+            delegate.completeExceptionally(filter, cause);
+        }
+
+        @Override
+        public boolean queryUpdateHandlerRegistered(SubscriptionQueryMessage<?, ?, ?> query) {
+            return delegate.queryUpdateHandlerRegistered(query);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @deprecated in favour of using {{@link #registerUpdateHandler(SubscriptionQueryMessage, int)}}
+         */
+        @Deprecated
+        @Override
+        public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                      SubscriptionQueryBackpressure backpressure,
+                                                                      int updateBufferSize) {
+            return delegate.registerUpdateHandler(query, backpressure, updateBufferSize);
+        }
+
+        @Override
+        public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                      int updateBufferSize) {
+            return delegate.registerUpdateHandler(query, updateBufferSize);
+        }
+
+        @Override
+        public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                      int updateBufferSize,
+                                                                      UpdateConflation conflation) {
+            return delegate.registerUpdateHandler(query, updateBufferSize, conflation);
+        }
+
+        @Override
+        public Set<SubscriptionQueryMessage<?, ?, ?>> activeSubscriptions() {
+            return delegate.activeSubscriptions();
+        }
+
+        @Override
+        public Registration registerDispatchInterceptor(
+                MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> dispatchInterceptor
+        ) {
+            return delegate.registerDispatchInterceptor(dispatchInterceptor);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Wrapper around a {@link SinkWrapper} which conflates the updates passed to it according to an {@link
+ * UpdateConflation}. Updates are collected during the conflation window, after which the latest update per key is
+ * passed on to the delegate sink.
+ * <p>
+ * Updates are delivered on a thread of the given {@link ScheduledExecutorService}. Failures to deliver an update are
+ * reported to the given failure handler, after which any other pending updates are discarded.
+ *
+ * @param <U> the type of the update payloads
+ * @since 4.6
+ */
+class ConflatingSinkWrapper<U> implements SinkWrapper<SubscriptionQueryUpdateMessage<U>> {
+
+    private final SinkWrapper<SubscriptionQueryUpdateMessage<U>> delegate;
+    private final UpdateConflation conflation;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<Exception> deliveryFailureHandler;
+
+    private final Map<Object, SubscriptionQueryUpdateMessage<U>> pendingUpdates = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDelivery;
+    private boolean terminated;
+
+    /**
+     * Initializes this wrapper with the given delegate sink.
+     *
+     * @param delegate               the sink to pass conflated updates to
+     * @param conflation             the {@link UpdateConflation} describing how updates are conflated
+     * @param scheduler              the {@link ScheduledExecutorService} on which conflated updates are delivered
+     * @param deliveryFailureHandler the handler of failures to deliver an update to the delegate sink
+     */
+    ConflatingSinkWrapper(SinkWrapper<SubscriptionQueryUpdateMessage<U>> delegate,
+                          UpdateConflation conflation,
+                          ScheduledExecutorService scheduler,
+                          Consumer<Exception> deliveryFailureHandler) {
+        this.delegate = delegate;
+        this.conflation = conflation;
+        this.scheduler = scheduler;
+        this.deliveryFailureHandler = deliveryFailureHandler;
+    }
+
+    /**
+     * Delivers any pending updates, after which the delegate sink is completed.
+     */
+    @Override
+    public synchronized void complete() {
+        if (!terminated && deliverPendingUpdates()) {
+            terminated = true;
+            delegate.complete();
+        }
+    }
+
+    /**
+     * Collects the given {@code update}, replacing any pending update with the same key. The update is delivered to
+     * the delegate sink once the current conflation window ends.
+     *
+     * @param update the update to pass to the delegate sink once the conflation window ends
+     */
+    @Override
+    public synchronized void next(SubscriptionQueryUpdateMessage<U> update) {
+        if (terminated) {
+            return;
+        }
+        pendingUpdates.put(conflation.keyOf(update), update);
+        if (scheduledDelivery == null) {
+            scheduledDelivery = scheduler.schedule(this::endWindow,
+                                                   conflation.window().toMillis(),
+                                                   TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Discards any pending updates and passes the given {@code t} to the delegate sink.
+     *
+     * @param t to be passed to the delegate sink
+     */
+    @Override
+    public synchronized void error(Throwable t) {
+        terminated = true;
+        cancelScheduledDelivery();
+        pendingUpdates.clear();
+        delegate.error(t);
+    }
+
+    private synchronized void endWindow() {
+        scheduledDelivery = null;
+        if (!terminated) {
+            deliverPendingUpdates();
+        }
+    }
+
+    private boolean deliverPendingUpdates() {
+        cancelScheduledDelivery();
+        List<SubscriptionQueryUpdateMessage<U>> updates = new ArrayList<>(pendingUpdates.values());
+        pendingUpdates.clear();
+        try {
+            updates.forEach(delegate::next);
+            return true;
+        } catch (Exception e) {
+            terminated = true;
+            deliveryFailureHandler.accept(e);
+            return false;
+        }
+    }
+
+    private void cancelScheduledDelivery() {
+        if (scheduledDelivery != null) {
+            scheduledDelivery.cancel(false);
+            scheduledDelivery = null;
+        }
+    }
+}
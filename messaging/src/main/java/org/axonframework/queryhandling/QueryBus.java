@@ -19,6 +19,7 @@
 import org.axonframework.messaging.MessageDispatchInterceptorSupport;
 import org.axonframework.messaging.MessageHandler;
 import org.axonframework.messaging.MessageHandlerInterceptorSupport;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.concurrent.Queues;
@@ -71,6 +72,35 @@ public interface QueryBus extends MessageHandlerInterceptorSupport<QueryMessage<
      */
     <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query);
 
+    /**
+     * Dispatch the given streaming {@code query} to a single QueryHandler subscribed to the given {@code query}'s
+     * queryName/responseType, providing the elements of its response as a {@link Flux}. The {@code query} is expected
+     * to have a {@link org.axonframework.messaging.responsetypes.PublisherResponseType}, as created through {@link
+     * org.axonframework.messaging.responsetypes.ResponseTypes#publisherOf(Class)}, describing the type of the elements.
+     * <p>
+     * The query is dispatched upon subscription to the returned Flux. Handlers may return a {@link Publisher}, a
+     * {@link Stream}, an {@link Iterable} or an array of elements, which are provided to the caller as they are
+     * requested. This allows large results to be processed without materializing all elements in memory at once. If
+     * the handler fails, or no handler is available, the Flux completes with an error.
+     * <p>
+     * The default implementation dispatches the query through {@link #query(QueryMessage)}, and emits the elements
+     * of the resulting publisher.
+     *
+     * @param query the query, with a response type describing the type of the elements
+     * @param <Q>   the payload type of the query
+     * @param <R>   the type of the elements of the response
+     * @return a Flux of query response messages, one for each element of the response
+     */
+    @SuppressWarnings("unchecked")
+    default <Q, R> Flux<QueryResponseMessage<R>> streamingQuery(QueryMessage<Q, Publisher<R>> query) {
+        Class<R> elementType = (Class<R>) query.getResponseType().getExpectedResponseType();
+        return Mono.fromFuture(() -> query(query))
+                   .flatMapMany(response -> response.isExceptional()
+                           ? Flux.error(response.exceptionResult())
+                           : Flux.from(response.getPayload()))
+                   .map(element -> new GenericQueryResponseMessage<>(elementType, element));
+    }
+
     /**
      * Dispatch the given {@code query} to all QueryHandlers subscribed to the given {@code query}'s
      * queryName/responseType. Returns a stream of results which blocks until all handlers have processed the request or
@@ -91,6 +121,29 @@ public interface QueryBus extends MessageHandlerInterceptorSupport<QueryMessage<
      */
     <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit);
 
+    /**
+     * Dispatch the given {@code query} to all QueryHandlers subscribed to the given {@code query}'s
+     * queryName/responseType, returning the results as a {@link Flux}. The query is dispatched upon subscription, and
+     * the Flux completes once all handlers have processed the request or when the timeout occurs.
+     * <p>
+     * Handlers that fail to provide a result are omitted from the Flux, as is the case for {@link
+     * #scatterGather(QueryMessage, long, TimeUnit)}. The default implementation consumes the stream returned by that
+     * method, which may block the subscribing thread until all results are in. Implementations that are able to
+     * invoke handlers concurrently should override this method to emit results as they become available.
+     *
+     * @param query   the query
+     * @param timeout time to wait for results
+     * @param unit    unit for the timeout
+     * @param <Q>     the payload type of the query
+     * @param <R>     the response type of the query
+     * @return a Flux of query results
+     */
+    default <Q, R> Flux<QueryResponseMessage<R>> scatterGatherFlux(QueryMessage<Q, R> query,
+                                                                  long timeout,
+                                                                  TimeUnit unit) {
+        return Flux.defer(() -> Flux.fromStream(scatterGather(query, timeout, unit)));
+    }
+
     /**
      * Dispatch the given {@code query} to a single QueryHandler subscribed to the given {@code query}'s
      * queryName/initialResponseType/updateResponseType. The result is lazily created and there will be no execution of
@@ -197,6 +250,40 @@ public boolean cancel() {
         };
     }
 
+    /**
+     * Dispatch the given {@code query} to a single QueryHandler subscribed to the given {@code query}'s
+     * queryName/initialResponseType/updateResponseType, conflating the incremental updates according to the given
+     * {@code conflation}. Rather than receiving every update, the subscriber receives only the latest update per key
+     * emitted within each conflation window. This significantly reduces the number of updates to deliver for queries
+     * on frequently changing projections, of which only the latest state matters.
+     * <p>
+     * By default, every update is dispatched as through {@link #subscriptionQuery(SubscriptionQueryMessage, int)},
+     * after which the received updates are conflated through {@link UpdateConflation#conflate(Flux)}. Implementations
+     * may conflate updates closer to where they are emitted instead. When the given {@code conflation} is {@code null},
+     * every update is delivered.
+     *
+     * @param query            the query
+     * @param updateBufferSize the size of buffer which accumulates updates before subscription to the {@code flux} is
+     *                         made
+     * @param conflation       the {@link UpdateConflation} describing how updates are conflated
+     * @param <Q>              the payload type of the query
+     * @param <I>              the response type of the query
+     * @param <U>              the incremental response types of the query
+     * @return query result containing initial result and incremental updates
+     */
+    default <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query, int updateBufferSize, UpdateConflation conflation
+    ) {
+        SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> result =
+                subscriptionQuery(query, updateBufferSize);
+        if (conflation == null) {
+            return result;
+        }
+        return new DefaultSubscriptionQueryResult<>(result.initialResult(),
+                                                    conflation.conflate(result.updates()),
+                                                    result::cancel);
+    }
+
     /**
      * Gets the {@link QueryUpdateEmitter} associated with this {@link QueryBus}.
      *
@@ -99,6 +99,45 @@ default <Q, U> void emit(Class<Q> queryType, Predicate<? super Q> filter, U upda
         }
     }
 
+    /**
+     * Emits given incremental update to subscription queries of given {@code queryType} that have given {@code key}.
+     * The key of a subscription query is derived from its payload by a key extractor which is declared for the {@code
+     * queryType} on the emitter. This allows an emitter to keep an index of subscription queries by key, making the
+     * cost of emitting an update independent of the number of active subscription queries.
+     * <p>
+     * The default implementation is meant for emitters that do not keep such an index. As it cannot derive the key of
+     * a subscription query, it emits the update to <b>all</b> subscription queries of given {@code queryType}. Emitters
+     * which support key extractors should override this method to only reach the subscription queries with given
+     * {@code key}.
+     *
+     * @param queryType the type of the query, for which a key extractor has been declared
+     * @param key       the key of the subscription queries to emit the update to
+     * @param update    incremental update message
+     * @param <Q>       the type of the query
+     * @param <U>       the type of the update
+     */
+    default <Q, U> void emitByKey(Class<Q> queryType, Object key, SubscriptionQueryUpdateMessage<U> update) {
+        emit(queryType, query -> true, update);
+    }
+
+    /**
+     * Emits given incremental update to subscription queries of given {@code queryType} that have given {@code key}.
+     * If an {@code update} is {@code null}, emit will be skipped. In order to send nullable updates, use {@link
+     * #emitByKey(Class, Object, SubscriptionQueryUpdateMessage)}.
+     *
+     * @param queryType the type of the query, for which a key extractor has been declared
+     * @param key       the key of the subscription queries to emit the update to
+     * @param update    incremental update
+     * @param <Q>       the type of the query
+     * @param <U>       the type of the update
+     * @see #emitByKey(Class, Object, SubscriptionQueryUpdateMessage)
+     */
+    default <Q, U> void emitByKey(Class<Q> queryType, Object key, U update) {
+        if (update != null) {
+            emitByKey(queryType, key, GenericSubscriptionQueryUpdateMessage.asUpdateMessage(update));
+        }
+    }
+
     /**
      * Completes subscription queries matching given filter.
      *
@@ -180,6 +219,35 @@ <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<
     <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
                                                            int updateBufferSize);
 
+    /**
+     * Registers an Update Handler for given {@code query} with given {@code updateBufferSize}, which conflates the
+     * updates emitted to it according to the given {@code conflation}. Rather than receiving every update, the
+     * subscriber receives only the latest update per key emitted within each conflation window.
+     * <p>
+     * By default, the Update Handler is registered as through {@link #registerUpdateHandler(SubscriptionQueryMessage,
+     * int)}, after which its updates are conflated through {@link
+     * UpdateConflation#conflate(reactor.core.publisher.Flux)}. When the given {@code conflation} is {@code null}, every
+     * update is delivered.
+     *
+     * @param query            the subscription query for which we register an Update Handler
+     * @param updateBufferSize the size of buffer which accumulates updates before subscription to the {@code flux} is
+     *                         made
+     * @param conflation       the {@link UpdateConflation} describing how updates to the {@code query} are conflated
+     * @param <U>              the incremental response types of the query
+     * @return the object which contains updates and a registration which can be used to cancel them
+     */
+    default <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                   int updateBufferSize,
+                                                                   UpdateConflation conflation) {
+        UpdateHandlerRegistration<U> registration = registerUpdateHandler(query, updateBufferSize);
+        if (conflation == null) {
+            return registration;
+        }
+        return new UpdateHandlerRegistration<>(registration.getRegistration(),
+                                               conflation.conflate(registration.getUpdates()),
+                                               registration::complete);
+    }
+
     /**
      * Provides the set of running subscription queries. If there are changes to subscriptions they will be reflected in
      * the returned set of this method. Implementations should provide an unmodifiable set of the active subscriptions.
@@ -25,6 +25,7 @@
 import org.axonframework.messaging.MessageHandlerInterceptor;
 import org.axonframework.messaging.ResultMessage;
 import org.axonframework.messaging.interceptors.TransactionManagingInterceptor;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
 import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
@@ -32,24 +33,38 @@
 import org.axonframework.monitoring.NoOpMessageMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -61,6 +76,14 @@
  * <p>
  * In case multiple handlers are registered for the same query and response type, the {@link #query(QueryMessage)}
  * method will invoke one of these handlers. Which one is unspecified.
+ * <p>
+ * By default, the handlers of a {@link #scatterGather(QueryMessage, long, TimeUnit) scatter-gather} query are invoked
+ * one after the other, in the thread consuming the resulting stream. When a {@link Builder#scatterGatherExecutor(Executor)
+ * scatter-gather Executor} is configured, all handlers are invoked concurrently on that Executor instead, and their
+ * responses are provided in the order in which they complete.
+ * <p>
+ * When {@link Builder#deduplicateInFlightQueries(boolean) enabled}, identical point-to-point queries dispatched while
+ * an earlier one is still being handled share the handler invocation and result of that earlier query.
  *
  * @author Marc Gathier
  * @author Allard Buijze
@@ -80,6 +103,11 @@ public class SimpleQueryBus implements QueryBus {
     private final List<MessageDispatchInterceptor<? super QueryMessage<?, ?>>> dispatchInterceptors = new CopyOnWriteArrayList<>();
 
     private final QueryUpdateEmitter queryUpdateEmitter;
+    private final Executor scatterGatherExecutor;
+    private final boolean deduplicateInFlightQueries;
+    private final ConcurrentMap<InFlightQueryKey, CompletableFuture<QueryResponseMessage<?>>> inFlightQueries =
+            new ConcurrentHashMap<>();
+    private final AtomicLong collapsedQueries = new AtomicLong();
 
     /**
      * Instantiate a {@link SimpleQueryBus} based on the fields contained in the {@link Builder}.
@@ -94,6 +122,8 @@ protected SimpleQueryBus(Builder builder) {
             registerHandlerInterceptor(new TransactionManagingInterceptor<>(builder.transactionManager));
         }
         this.queryUpdateEmitter = builder.queryUpdateEmitter;
+        this.scatterGatherExecutor = builder.scatterGatherExecutor;
+        this.deduplicateInFlightQueries = builder.deduplicateInFlightQueries;
     }
 
     /**
@@ -137,6 +167,32 @@ private <R> boolean unsubscribe(String queryName, QuerySubscription<R> querySubs
     public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R> query) {
         MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(query);
         QueryMessage<Q, R> interceptedQuery = intercept(query);
+        if (!deduplicateInFlightQueries || interceptedQuery.getResponseType() instanceof PublisherResponseType) {
+            return doQuery(interceptedQuery, monitorCallback);
+        }
+
+        InFlightQueryKey key = new InFlightQueryKey(interceptedQuery);
+        CompletableFuture<QueryResponseMessage<?>> inFlight = new CompletableFuture<>();
+        CompletableFuture<QueryResponseMessage<?>> existing = inFlightQueries.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            collapsedQueries.incrementAndGet();
+            return existing.whenComplete((response, error) -> reportSharedResult(monitorCallback, response, error))
+                           .thenApply(SimpleQueryBus::castResponse);
+        }
+        CompletableFuture<QueryResponseMessage<R>> result = doQuery(interceptedQuery, monitorCallback);
+        result.whenComplete((response, error) -> {
+            inFlightQueries.remove(key, inFlight);
+            if (error != null) {
+                inFlight.completeExceptionally(error);
+            } else {
+                inFlight.complete(response);
+            }
+        });
+        return result;
+    }
+
+    private <Q, R> CompletableFuture<QueryResponseMessage<R>> doQuery(QueryMessage<Q, R> interceptedQuery,
+                                                                     MessageMonitor.MonitorCallback monitorCallback) {
         List<MessageHandler<? super QueryMessage<?, ?>>> handlers = getHandlersForMessage(interceptedQuery);
         CompletableFuture<QueryResponseMessage<R>> result = new CompletableFuture<>();
         try {
@@ -181,6 +237,34 @@ public <Q, R> CompletableFuture<QueryResponseMessage<R>> query(QueryMessage<Q, R
         return result;
     }
 
+    private static void reportSharedResult(MessageMonitor.MonitorCallback monitorCallback,
+                                           QueryResponseMessage<?> response,
+                                           Throwable error) {
+        if (error != null) {
+            monitorCallback.reportFailure(error);
+        } else if (response.isExceptional()) {
+            monitorCallback.reportFailure(response.exceptionResult());
+        } else {
+            monitorCallback.reportSuccess();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> QueryResponseMessage<R> castResponse(QueryResponseMessage<?> response) {
+        return (QueryResponseMessage<R>) response;
+    }
+
+    /**
+     * Returns the number of point-to-point queries that did not invoke a handler, because an identical query was
+     * already in flight and its result was shared instead. This number only increases when {@link
+     * Builder#deduplicateInFlightQueries(boolean) deduplication of in-flight queries} is enabled.
+     *
+     * @return the number of queries collapsed into an identical query that was already in flight
+     */
+    public long collapsedQueryCount() {
+        return collapsedQueries.get();
+    }
+
     @Override
     public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> query, long timeout, TimeUnit unit) {
         MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(query);
@@ -192,6 +276,11 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
         }
 
         long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        if (scatterGatherExecutor != null) {
+            List<ConcurrentInvocation<R>> invocations =
+                    invokeConcurrently(interceptedQuery, handlers, monitorCallback);
+            return inCompletionOrder(invocations, deadline);
+        }
         return handlers.stream()
                        .map(handler -> {
                            long leftTimeout = getRemainingOfDeadline(deadline);
@@ -215,6 +304,152 @@ public <Q, R> Stream<QueryResponseMessage<R>> scatterGather(QueryMessage<Q, R> q
                        }).filter(Objects::nonNull);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When a {@link Builder#scatterGatherExecutor(Executor) scatter-gather Executor} is configured, all handlers are
+     * invoked concurrently upon subscription, and responses are emitted as soon as they become available. Handlers
+     * that did not respond once the timeout expires are reported to the {@link QueryInvocationErrorHandler} with a
+     * {@link TimeoutException}.
+     */
+    @Override
+    public <Q, R> Flux<QueryResponseMessage<R>> scatterGatherFlux(QueryMessage<Q, R> query,
+                                                                 long timeout,
+                                                                 TimeUnit unit) {
+        if (scatterGatherExecutor == null) {
+            return QueryBus.super.scatterGatherFlux(query, timeout, unit);
+        }
+        return Flux.defer(() -> {
+            MessageMonitor.MonitorCallback monitorCallback = messageMonitor.onMessageIngested(query);
+            QueryMessage<Q, R> interceptedQuery = intercept(query);
+            List<MessageHandler<? super QueryMessage<?, ?>>> handlers = getHandlersForMessage(interceptedQuery);
+            if (handlers.isEmpty()) {
+                monitorCallback.reportIgnored();
+                return Flux.empty();
+            }
+
+            long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+            List<ConcurrentInvocation<R>> invocations =
+                    invokeConcurrently(interceptedQuery, handlers, monitorCallback);
+            return Flux.merge(invocations.stream()
+                                         .map(invocation -> Mono.fromFuture(invocation.reported)
+                                                                .onErrorResume(e -> Mono.empty()))
+                                         .collect(Collectors.toList()))
+                       .take(Duration.ofMillis(getRemainingOfDeadline(deadline)))
+                       .doFinally(signal -> {
+                           if (signal != SignalType.CANCEL) {
+                               expirePending(invocations);
+                           }
+                       });
+        });
+    }
+
+    /**
+     * Invokes each of the given {@code handlers} in its own Unit of Work on the {@code scatterGatherExecutor}. The
+     * success or failure of each invocation is reported to the {@code monitorCallback} and the {@link
+     * QueryInvocationErrorHandler} before it is made available through {@link ConcurrentInvocation#reported}.
+     */
+    private <Q, R> List<ConcurrentInvocation<R>> invokeConcurrently(
+            QueryMessage<Q, R> query,
+            List<MessageHandler<? super QueryMessage<?, ?>>> handlers,
+            MessageMonitor.MonitorCallback monitorCallback
+    ) {
+        List<ConcurrentInvocation<R>> invocations = new ArrayList<>(handlers.size());
+        for (MessageHandler<? super QueryMessage<?, ?>> handler : handlers) {
+            CompletableFuture<QueryResponseMessage<R>> response = new CompletableFuture<>();
+            CompletableFuture<QueryResponseMessage<R>> reported = response.whenComplete((result, error) -> {
+                if (error == null) {
+                    monitorCallback.reportSuccess();
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    monitorCallback.reportFailure(cause);
+                    errorHandler.onError(cause, query, handler);
+                }
+            });
+            invocations.add(new ConcurrentInvocation<>(response, reported));
+            try {
+                scatterGatherExecutor.execute(() -> invokeInto(query, handler, response));
+            } catch (Exception e) {
+                response.completeExceptionally(e);
+            }
+        }
+        return invocations;
+    }
+
+    private <Q, R> void invokeInto(QueryMessage<Q, R> query,
+                                   MessageHandler<? super QueryMessage<?, R>> handler,
+                                   CompletableFuture<QueryResponseMessage<R>> response) {
+        if (response.isDone()) {
+            // the deadline passed before the handler got a chance to run
+            return;
+        }
+        ResultMessage<CompletableFuture<QueryResponseMessage<R>>> resultMessage =
+                interceptAndInvoke(DefaultUnitOfWork.startAndGet(query), handler);
+        if (resultMessage.isExceptional()) {
+            response.completeExceptionally(resultMessage.exceptionResult());
+        } else {
+            resultMessage.getPayload().whenComplete((result, error) -> {
+                if (error != null) {
+                    response.completeExceptionally(error);
+                } else {
+                    response.complete(result);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns a Stream providing the successful responses of the given {@code invocations} in the order in which they
+     * complete. Consuming the Stream blocks until the next response is available, or until the given {@code deadline}
+     * has passed, at which point any pending invocations are expired.
+     */
+    private <R> Stream<QueryResponseMessage<R>> inCompletionOrder(List<ConcurrentInvocation<R>> invocations,
+                                                                  long deadline) {
+        BlockingQueue<CompletableFuture<QueryResponseMessage<R>>> completed = new LinkedBlockingQueue<>();
+        invocations.forEach(invocation -> invocation.reported.whenComplete(
+                (result, error) -> completed.add(invocation.reported)
+        ));
+        Iterator<QueryResponseMessage<R>> iterator = new Iterator<QueryResponseMessage<R>>() {
+            private int remaining = invocations.size();
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public QueryResponseMessage<R> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                try {
+                    CompletableFuture<QueryResponseMessage<R>> next =
+                            completed.poll(getRemainingOfDeadline(deadline), TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        expirePending(invocations);
+                        next = completed.take();
+                    }
+                    return next.isCompletedExceptionally() ? null : next.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    expirePending(invocations);
+                    remaining = 0;
+                    return null;
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                            .filter(Objects::nonNull);
+    }
+
+    private <R> void expirePending(List<ConcurrentInvocation<R>> invocations) {
+        invocations.forEach(invocation -> invocation.response.completeExceptionally(
+                new TimeoutException("The scatter-gather deadline passed before the query handler responded")
+        ));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -246,6 +481,21 @@ public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQu
     public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
             SubscriptionQueryMessage<Q, I, U> query,
             int updateBufferSize
+    ) {
+        return subscriptionQuery(query, updateBufferSize, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@code conflation} is applied by the {@link QueryUpdateEmitter} of this bus. When {@code null}, every update
+     * is delivered.
+     */
+    @Override
+    public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQueryUpdateMessage<U>> subscriptionQuery(
+            SubscriptionQueryMessage<Q, I, U> query,
+            int updateBufferSize,
+            UpdateConflation conflation
     ) {
         if (queryUpdateEmitter.queryUpdateHandlerRegistered(query)) {
             throw new IllegalArgumentException("There is already a subscription with the given message identifier");
@@ -256,7 +506,9 @@ public <Q, I, U> SubscriptionQueryResult<QueryResponseMessage<I>, SubscriptionQu
                                                                   "An error happened while trying to report an initial result. Query: %s",
                                                                   query), error));
         UpdateHandlerRegistration<U> updateHandlerRegistration =
-                queryUpdateEmitter.registerUpdateHandler(query, updateBufferSize);
+                conflation == null
+                        ? queryUpdateEmitter.registerUpdateHandler(query, updateBufferSize)
+                        : queryUpdateEmitter.registerUpdateHandler(query, updateBufferSize, conflation);
 
         return getSubscriptionQueryResult(initialResult, updateHandlerRegistration);
     }
@@ -369,6 +621,61 @@ public Registration registerDispatchInterceptor(
                             .collect(Collectors.toList());
     }
 
+    /**
+     * A single handler invocation of a concurrent scatter-gather query. The {@code response} is completed by the
+     * handler, or exceptionally once the deadline passes, whichever comes first. The {@code reported} future completes
+     * with the same outcome, after it has been reported to the monitor and error handler.
+     *
+     * @param <R> the response type of the query
+     */
+    private static class ConcurrentInvocation<R> {
+
+        private final CompletableFuture<QueryResponseMessage<R>> response;
+        private final CompletableFuture<QueryResponseMessage<R>> reported;
+
+        private ConcurrentInvocation(CompletableFuture<QueryResponseMessage<R>> response,
+                                     CompletableFuture<QueryResponseMessage<R>> reported) {
+            this.response = response;
+            this.reported = reported;
+        }
+    }
+
+    /**
+     * Identifies identical point-to-point queries, being queries with the same name, payload and response type.
+     * Metadata is deliberately not taken into account.
+     */
+    private static final class InFlightQueryKey {
+
+        private final String queryName;
+        private final Object payload;
+        private final ResponseType<?> responseType;
+
+        private InFlightQueryKey(QueryMessage<?, ?> query) {
+            this.queryName = query.getQueryName();
+            this.payload = query.getPayload();
+            this.responseType = query.getResponseType();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InFlightQueryKey that = (InFlightQueryKey) o;
+            return Objects.equals(queryName, that.queryName)
+                    && Objects.equals(payload, that.payload)
+                    && Objects.equals(responseType, that.responseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryName, payload, responseType);
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleQueryBus}.
      * <p>
@@ -384,6 +691,8 @@ public static class Builder {
                                                                                              .logger(logger)
                                                                                              .build();
         private QueryUpdateEmitter queryUpdateEmitter = SimpleQueryUpdateEmitter.builder().build();
+        private Executor scatterGatherExecutor;
+        private boolean deduplicateInFlightQueries = false;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor query messages. Defaults to a {@link NoOpMessageMonitor}.
@@ -438,6 +747,42 @@ public Builder queryUpdateEmitter(QueryUpdateEmitter queryUpdateEmitter) {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to invoke the handlers of a scatter-gather query concurrently. Each handler
+         * is invoked in its own Unit of Work on a thread provided by this Executor, and responses are provided in the
+         * order in which they complete. When not set, handlers of a scatter-gather query are invoked sequentially, in
+         * the thread consuming the results.
+         *
+         * @param scatterGatherExecutor the {@link Executor} used to invoke the handlers of a scatter-gather query
+         *                              concurrently
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scatterGatherExecutor(Executor scatterGatherExecutor) {
+            assertNonNull(scatterGatherExecutor, "Scatter-gather Executor may not be null");
+            this.scatterGatherExecutor = scatterGatherExecutor;
+            return this;
+        }
+
+        /**
+         * Sets whether identical point-to-point queries that are dispatched while an earlier one is still being
+         * handled share the handler invocation and result of that earlier query, instead of invoking a handler
+         * themselves. Queries are identical when they have the same query name, payload and response type; their
+         * {@link org.axonframework.messaging.MetaData} is not taken into account. The payload should thus implement
+         * {@code equals} and {@code hashCode} in a meaningful way. Scatter-gather, subscription and streaming queries
+         * are never deduplicated. Defaults to {@code false}.
+         * <p>
+         * The number of collapsed queries is available through {@link SimpleQueryBus#collapsedQueryCount()}. Each
+         * collapsed query is still reported to the {@link MessageMonitor}, with the outcome of the shared result.
+         *
+         * @param deduplicateInFlightQueries whether identical in-flight point-to-point queries share a single handler
+         *                                   invocation
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder deduplicateInFlightQueries(boolean deduplicateInFlightQueries) {
+            this.deduplicateInFlightQueries = deduplicateInFlightQueries;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryBus} as specified through this Builder.
          *
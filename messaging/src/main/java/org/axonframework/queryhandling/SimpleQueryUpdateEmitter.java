@@ -17,7 +17,10 @@
 package org.axonframework.queryhandling;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
 import org.axonframework.common.Registration;
+import org.axonframework.lifecycle.Lifecycle;
+import org.axonframework.lifecycle.Phase;
 import org.axonframework.messaging.MessageDispatchInterceptor;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
@@ -32,12 +35,18 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -50,11 +59,12 @@
  * @author Stefan Dragisic
  * @since 4.0
  */
-public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
+public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter, Lifecycle {
 
     private static final Logger logger = LoggerFactory.getLogger(SimpleQueryUpdateEmitter.class);
 
     private static final String QUERY_UPDATE_TASKS_RESOURCE_KEY = "/update-tasks";
+    private static final String CONFLATION_THREAD_GROUP_NAME = "QueryUpdateConflation";
 
     private final MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor;
 
@@ -62,6 +72,12 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
             new ConcurrentHashMap<>();
     private final List<MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>>> dispatchInterceptors =
             new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Function<Object, ?>> queryKeyExtractors;
+    private final ConcurrentMap<QueryKey, Set<SubscriptionQueryMessage<?, ?, ?>>> queryKeyIndex =
+            new ConcurrentHashMap<>();
+    private final boolean conflationSchedulerOwned;
+    private volatile ScheduledExecutorService conflationScheduler;
+    private volatile boolean shutDown;
 
     /**
      * Instantiate a {@link SimpleQueryUpdateEmitter} based on the fields contained in the {@link Builder}.
@@ -71,6 +87,9 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
     protected SimpleQueryUpdateEmitter(Builder builder) {
         builder.validate();
         this.updateMessageMonitor = builder.updateMessageMonitor;
+        this.queryKeyExtractors = new HashMap<>(builder.queryKeyExtractors);
+        this.conflationScheduler = builder.conflationScheduler;
+        this.conflationSchedulerOwned = builder.conflationScheduler == null;
     }
 
     /**
@@ -103,12 +122,12 @@ public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryM
                                                                   int updateBufferSize) {
         EmitterProcessor<SubscriptionQueryUpdateMessage<U>> processor = EmitterProcessor.create(updateBufferSize);
         FluxSink<SubscriptionQueryUpdateMessage<U>> sink = processor.sink(backpressure.getOverflowStrategy());
-        sink.onDispose(() -> updateHandlers.remove(query));
+        sink.onDispose(() -> removeUpdateHandler(query));
         FluxSinkWrapper<SubscriptionQueryUpdateMessage<U>> fluxSinkWrapper = new FluxSinkWrapper<>(sink);
-        updateHandlers.put(query, fluxSinkWrapper);
+        addUpdateHandler(query, fluxSinkWrapper);
 
         Registration registration = () -> {
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             return true;
         };
 
@@ -120,20 +139,142 @@ public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryM
     @Override
     public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
                                                                   int updateBufferSize) {
+        return registerUpdateHandler(query, updateBufferSize, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Conflated updates are delivered on a thread of the conflation scheduler, which can be configured through
+     * {@link Builder#conflationScheduler(ScheduledExecutorService)}. When the given {@code conflation} is {@code null},
+     * every update is delivered as it is emitted.
+     */
+    @Override
+    public <U> UpdateHandlerRegistration<U> registerUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query,
+                                                                  int updateBufferSize,
+                                                                  UpdateConflation conflation) {
         Sinks.Many<SubscriptionQueryUpdateMessage<U>> sink = Sinks.many().replay().limit(updateBufferSize);
         SinksManyWrapper<SubscriptionQueryUpdateMessage<U>> sinksManyWrapper = new SinksManyWrapper<>(sink);
+        SinkWrapper<SubscriptionQueryUpdateMessage<U>> updateHandler =
+                conflation == null ? sinksManyWrapper : conflating(query, sinksManyWrapper, conflation);
 
-        Runnable removeHandler = () -> updateHandlers.remove(query);
+        Runnable removeHandler = () -> removeUpdateHandler(query);
         Registration registration = () -> {
             removeHandler.run();
             return true;
         };
 
-        updateHandlers.put(query, sinksManyWrapper);
+        addUpdateHandler(query, updateHandler);
         Flux<SubscriptionQueryUpdateMessage<U>> updateMessageFlux = sink.asFlux()
                                                                         .doOnCancel(removeHandler)
                                                                         .doOnTerminate(removeHandler);
-        return new UpdateHandlerRegistration<>(registration, updateMessageFlux, sinksManyWrapper::complete);
+        return new UpdateHandlerRegistration<>(registration, updateMessageFlux, updateHandler::complete);
+    }
+
+    private <U> SinkWrapper<SubscriptionQueryUpdateMessage<U>> conflating(
+            SubscriptionQueryMessage<?, ?, ?> query,
+            SinkWrapper<SubscriptionQueryUpdateMessage<U>> delegate,
+            UpdateConflation conflation
+    ) {
+        return new ConflatingSinkWrapper<>(delegate, conflation, conflationScheduler(), e -> {
+            logger.info("An error occurred while trying to deliver conflated updates to a query '{}'. " +
+                                "The subscription will be cancelled. Exception summary: {}",
+                        query.getQueryName(), e.toString());
+            removeUpdateHandler(query);
+            emitError(query, e, delegate);
+        });
+    }
+
+    private ScheduledExecutorService conflationScheduler() {
+        if (conflationScheduler == null || shutDown) {
+            synchronized (this) {
+                if (shutDown) {
+                    throw new IllegalStateException(
+                            "Cannot register a conflated subscription query, as this emitter has been shut down"
+                    );
+                }
+                if (conflationScheduler == null) {
+                    AxonThreadFactory threadFactory = new AxonThreadFactory(CONFLATION_THREAD_GROUP_NAME);
+                    conflationScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = threadFactory.newThread(runnable);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return conflationScheduler;
+    }
+
+    @Override
+    public void registerLifecycleHandlers(LifecycleRegistry lifecycle) {
+        lifecycle.onShutdown(Phase.LOCAL_MESSAGE_HANDLER_REGISTRATIONS, this::shutdown);
+    }
+
+    /**
+     * Shuts down the {@link ScheduledExecutorService} delivering conflated updates, if it was created by this emitter.
+     * Updates of conflation windows which are still open are delivered once these windows end. A {@link
+     * Builder#conflationScheduler(ScheduledExecutorService) configured} scheduler is not shut down, as it is owned by
+     * the caller. Conflated subscription queries can no longer be registered after this emitter has been shut down.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutDown = true;
+            if (conflationSchedulerOwned && conflationScheduler != null) {
+                conflationScheduler.shutdown();
+            }
+        }
+    }
+
+    private void addUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?> updateHandler) {
+        updateHandlers.put(query, updateHandler);
+        List<QueryKey> queryKeys = queryKeysOf(query);
+        for (QueryKey queryKey : queryKeys) {
+            queryKeyIndex.compute(queryKey, (k, queries) -> {
+                Set<SubscriptionQueryMessage<?, ?, ?>> indexed =
+                        queries != null ? queries : ConcurrentHashMap.newKeySet();
+                indexed.add(query);
+                return indexed;
+            });
+        }
+        if (!updateHandlers.containsKey(query)) {
+            // the handler was removed while it was being indexed
+            removeFromIndex(query, queryKeys);
+        }
+    }
+
+    private void removeUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query) {
+        if (updateHandlers.remove(query) != null) {
+            removeFromIndex(query, queryKeysOf(query));
+        }
+    }
+
+    private void removeFromIndex(SubscriptionQueryMessage<?, ?, ?> query, List<QueryKey> queryKeys) {
+        for (QueryKey queryKey : queryKeys) {
+            queryKeyIndex.computeIfPresent(queryKey, (k, queries) -> {
+                queries.remove(query);
+                return queries.isEmpty() ? null : queries;
+            });
+        }
+    }
+
+    private List<QueryKey> queryKeysOf(SubscriptionQueryMessage<?, ?, ?> query) {
+        if (queryKeyExtractors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<QueryKey> queryKeys = new ArrayList<>();
+        queryKeyExtractors.forEach((queryType, keyExtractor) -> {
+            if (queryType.isAssignableFrom(query.getPayloadType())) {
+                try {
+                    queryKeys.add(new QueryKey(queryType, keyExtractor.apply(query.getPayload())));
+                } catch (Exception e) {
+                    logger.warn("Unable to extract the key of query '{}' for query type [{}]. "
+                                        + "It will not receive updates emitted by key.",
+                                query.getQueryName(), queryType.getName(), e);
+                }
+            }
+        });
+        return queryKeys;
     }
 
     @Override
@@ -142,6 +283,33 @@ public <U> void emit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
         runOnAfterCommitOrNow(() -> doEmit(filter, intercept(update)));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Subscription queries are looked up in an index by key, which is maintained for each query type that has a key
+     * extractor declared through {@link Builder#queryKey(Class, Function)}.
+     *
+     * @throws IllegalArgumentException if no key extractor has been declared for the given {@code queryType}
+     */
+    @Override
+    public <Q, U> void emitByKey(Class<Q> queryType, Object key, SubscriptionQueryUpdateMessage<U> update) {
+        if (!queryKeyExtractors.containsKey(queryType)) {
+            throw new IllegalArgumentException(format(
+                    "No key extractor was declared for query type [%s].", queryType.getName()
+            ));
+        }
+        QueryKey queryKey = new QueryKey(queryType, key);
+        runOnAfterCommitOrNow(() -> doEmit(queryKey, intercept(update)));
+    }
+
+    private <U> void doEmit(QueryKey queryKey, SubscriptionQueryUpdateMessage<U> update) {
+        Set<SubscriptionQueryMessage<?, ?, ?>> queries = queryKeyIndex.get(queryKey);
+        if (queries != null) {
+            queries.forEach(query -> Optional.ofNullable(updateHandlers.get(query))
+                                             .ifPresent(uh -> doEmit(query, uh, update)));
+        }
+    }
+
     private <U> SubscriptionQueryUpdateMessage<U> intercept(SubscriptionQueryUpdateMessage<U> message) {
         SubscriptionQueryUpdateMessage<U> intercepted = message;
         for (MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> interceptor : dispatchInterceptors) {
@@ -190,7 +358,7 @@ private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, SinkWrapper<?>
                                 "The subscription will be cancelled. Exception summary: {}",
                         query.getQueryName(), e.toString());
             monitorCallback.reportFailure(e);
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             emitError(query, e, updateHandler);
         }
     }
@@ -273,6 +441,49 @@ private boolean inStartedPhaseOfUnitOfWork() {
         return Collections.unmodifiableSet(updateHandlers.keySet());
     }
 
+    /**
+     * Indicates whether any subscription query is indexed under given {@code key} for given {@code queryType}.
+     *
+     * @param queryType the type of the query for which a key extractor has been declared
+     * @param key       the key of the subscription queries
+     * @return {@code true} if the index holds subscription queries with given {@code key}, {@code false} otherwise
+     */
+    boolean hasIndexedQueries(Class<?> queryType, Object key) {
+        return queryKeyIndex.containsKey(new QueryKey(queryType, key));
+    }
+
+    /**
+     * Key of a subscription query in the index of subscription queries by key, combining the query type the key
+     * was extracted for with the extracted key.
+     */
+    private static final class QueryKey {
+
+        private final Class<?> queryType;
+        private final Object key;
+
+        private QueryKey(Class<?> queryType, Object key) {
+            this.queryType = queryType;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            QueryKey that = (QueryKey) o;
+            return queryType.equals(that.queryType) && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryType, key);
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleQueryUpdateEmitter}.
      * <p>
@@ -282,6 +493,8 @@ public static class Builder {
 
         private MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor =
                 NoOpMessageMonitor.INSTANCE;
+        private final Map<Class<?>, Function<Object, ?>> queryKeyExtractors = new HashMap<>();
+        private ScheduledExecutorService conflationScheduler;
 
         /**
          * Sets the {@link MessageMonitor} used to monitor {@link SubscriptionQueryUpdateMessage}s being processed.
@@ -298,6 +511,42 @@ public Builder updateMessageMonitor(
             return this;
         }
 
+        /**
+         * Declares the function extracting the key of subscription queries with a payload of given {@code queryType}.
+         * Subscription queries with such a payload are indexed by their key, allowing updates to be emitted to them
+         * through {@link SimpleQueryUpdateEmitter#emitByKey(Class, Object, SubscriptionQueryUpdateMessage)} at a cost
+         * independent of the number of active subscription queries.
+         * <p>
+         * Queries with a payload that is a subtype of given {@code queryType} are indexed as well.
+         *
+         * @param queryType    the type of query payload to extract keys from
+         * @param keyExtractor the function extracting the key from a query payload
+         * @param <Q>          the type of query payload
+         * @return the current Builder instance, for fluent interfacing
+         */
+        @SuppressWarnings("unchecked")
+        public <Q> Builder queryKey(Class<Q> queryType, Function<? super Q, ?> keyExtractor) {
+            assertNonNull(queryType, "Query type may not be null");
+            assertNonNull(keyExtractor, "Key extractor may not be null");
+            this.queryKeyExtractors.put(queryType, payload -> keyExtractor.apply((Q) payload));
+            return this;
+        }
+
+        /**
+         * Sets the {@link ScheduledExecutorService} used to deliver the updates of subscription queries registered with
+         * an {@link UpdateConflation} once their conflation window ends. Defaults to a single threaded {@link
+         * ScheduledExecutorService} using daemon threads, which is created once the first conflated subscription query
+         * is registered.
+         *
+         * @param conflationScheduler the {@link ScheduledExecutorService} used to deliver conflated updates
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder conflationScheduler(ScheduledExecutorService conflationScheduler) {
+            assertNonNull(conflationScheduler, "Conflation ScheduledExecutorService may not be null");
+            this.conflationScheduler = conflationScheduler;
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryUpdateEmitter} as specified through this Builder.
          *
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.axonframework.common.Assert.isTrue;
+import static org.axonframework.common.Assert.notNull;
+
+/**
+ * Describes how the updates of a subscription query are conflated. Instead of delivering every emitted update, updates
+ * are collected during a window, after which only the latest update per key is delivered. This drastically reduces
+ * the number of updates a subscriber receives when many updates for the same entity are emitted in quick succession,
+ * and only the latest state of each entity matters.
+ * <p>
+ * Updates with different keys are delivered in the order in which the first update for each key arrived within the
+ * window. Completing a subscription query delivers any pending updates before completing it.
+ *
+ * @since 4.6
+ */
+public final class UpdateConflation {
+
+    private static final Object SINGLE_KEY = new Object();
+
+    private final Duration window;
+    private final Function<? super SubscriptionQueryUpdateMessage<?>, ?> keyExtractor;
+
+    private UpdateConflation(Duration window, Function<? super SubscriptionQueryUpdateMessage<?>, ?> keyExtractor) {
+        notNull(window, () -> "The conflation window may not be null");
+        isTrue(!window.isNegative() && !window.isZero(), () -> "The conflation window should be positive");
+        this.window = window;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Conflate updates such that only the latest update emitted within the given {@code window} is delivered.
+     *
+     * @param window the duration during which updates are collected before the latest one is delivered
+     * @return an {@link UpdateConflation} delivering only the latest update of each window
+     * @throws IllegalArgumentException if the given {@code window} is {@code null} or not positive
+     */
+    public static UpdateConflation latest(Duration window) {
+        return new UpdateConflation(window, update -> SINGLE_KEY);
+    }
+
+    /**
+     * Conflate updates such that only the latest update per key emitted within the given {@code window} is delivered.
+     * The key of an update is extracted from its payload by the given {@code updateKeyExtractor}.
+     *
+     * @param window             the duration during which updates are collected before the latest one per key is
+     *                           delivered
+     * @param updateKeyExtractor the function extracting the key from the payload of an update
+     * @return an {@link UpdateConflation} delivering only the latest update per key of each window
+     * @throws IllegalArgumentException if the given {@code window} is {@code null} or not positive, or if the given
+     *                                  {@code updateKeyExtractor} is {@code null}
+     */
+    public static UpdateConflation latestPerKey(Duration window, Function<Object, ?> updateKeyExtractor) {
+        notNull(updateKeyExtractor, () -> "The update key extractor may not be null");
+        return new UpdateConflation(window, update -> updateKeyExtractor.apply(update.getPayload()));
+    }
+
+    /**
+     * Returns the duration during which updates are collected before the latest update per key is delivered.
+     *
+     * @return the duration during which updates are collected
+     */
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Returns the key of the given {@code update}. Of all updates with an equal key that are emitted within the same
+     * window, only the latest is delivered.
+     *
+     * @param update the update to return the key for
+     * @return the key of the given {@code update}
+     */
+    public Object keyOf(SubscriptionQueryUpdateMessage<?> update) {
+        return keyExtractor.apply(update);
+    }
+
+    /**
+     * Conflates the given {@code updates} according to this {@link UpdateConflation}. A window starts with the first
+     * update received after the previous window ended. Once it ends, the latest update per key received within it is
+     * passed on. Completing the given {@code updates} passes on any pending updates first.
+     * <p>
+     * This allows conflating updates on the receiving side, for components which cannot conflate updates as they are
+     * emitted. For example, when the updates are received from a remote query handling component.
+     *
+     * @param updates the {@link Flux} of updates to conflate
+     * @param <U>     the type of the update payloads
+     * @return a {@link Flux} passing on only the latest update per key of each window of the given {@code updates}
+     */
+    public <U> Flux<SubscriptionQueryUpdateMessage<U>> conflate(Flux<SubscriptionQueryUpdateMessage<U>> updates) {
+        // Windows are ended by a timer, so buffer conflated updates a slow subscriber has not requested yet
+        return updates.bufferTimeout(Integer.MAX_VALUE, window)
+                      .onBackpressureBuffer()
+                      .concatMapIterable(this::latestPerKey);
+    }
+
+    private <U> Collection<SubscriptionQueryUpdateMessage<U>> latestPerKey(
+            List<SubscriptionQueryUpdateMessage<U>> updates
+    ) {
+        Map<Object, SubscriptionQueryUpdateMessage<U>> latestUpdates = new LinkedHashMap<>();
+        updates.forEach(update -> latestUpdates.put(keyOf(update), update));
+        return latestUpdates.values();
+    }
+}
@@ -22,6 +22,7 @@
 import com.thoughtworks.xstream.converters.collections.MapConverter;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.mapper.CachingMapper;
 import com.thoughtworks.xstream.mapper.CannotResolveClassException;
 import com.thoughtworks.xstream.mapper.Mapper;
 import org.axonframework.commandhandling.GenericCommandMessage;
@@ -41,6 +42,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -53,10 +55,15 @@
  */
 public abstract class AbstractXStreamSerializer implements Serializer {
 
+    private static final int MAX_CACHED_TYPES = 1024;
+
     private final XStream xStream;
     private final Charset charset;
     private final RevisionResolver revisionResolver;
     private final Converter converter;
+    private final Map<String, Class<?>> resolvedClasses = new ConcurrentHashMap<>();
+    private volatile ClassLoader resolvedClassesLoader;
+    private volatile SerializedTypeCache serializedTypes = newSerializedTypeCache();
 
     /**
      * Instantiate a {@link AbstractXStreamSerializer} based on the fields contained in the {@link Builder}.
@@ -148,6 +155,10 @@ private String revisionOf(Class<?> type) {
         return revisionResolver.revisionOf(type);
     }
 
+    private SerializedTypeCache newSerializedTypeCache() {
+        return new SerializedTypeCache(type -> new SimpleSerializedType(typeIdentifierOf(type), revisionOf(type)));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <S, T> T deserialize(SerializedObject<S> serializedObject) {
@@ -165,11 +176,25 @@ public Class classForType(SerializedType type) {
         if (SerializedType.emptyType().equals(type)) {
             return Void.class;
         }
-        try {
-            return xStream.getMapper().realClass(type.getName());
-        } catch (CannotResolveClassException e) {
-            return UnknownSerializedType.class;
+        ClassLoader classLoader = xStream.getClassLoader();
+        if (classLoader != resolvedClassesLoader) {
+            resolvedClasses.clear();
+            resolvedClassesLoader = classLoader;
+        }
+        Class<?> resolved = resolvedClasses.get(type.getName());
+        if (resolved == null) {
+            try {
+                resolved = xStream.getMapper().realClass(type.getName());
+            } catch (CannotResolveClassException e) {
+                // cache the miss as well, as resolving an unknown class throws an exception every time
+                resolved = UnknownSerializedType.class;
+            }
+            if (resolvedClasses.size() >= MAX_CACHED_TYPES) {
+                resolvedClasses.clear();
+            }
+            resolvedClasses.put(type.getName(), resolved);
         }
+        return resolved;
     }
 
     @Override
@@ -177,7 +202,7 @@ public SerializedType typeForClass(Class type) {
         if (type == null || Void.TYPE.equals(type) || Void.class.equals(type)) {
             return SimpleSerializedType.emptyType();
         }
-        return new SimpleSerializedType(typeIdentifierOf(type), revisionOf(type));
+        return serializedTypes.typeOf(type);
     }
 
     /**
@@ -189,6 +214,7 @@ public SerializedType typeForClass(Class type) {
      */
     public void addAlias(String name, Class type) {
         xStream.alias(name, type);
+        clearTypeCaches();
     }
 
     /**
@@ -204,6 +230,21 @@ public void addAlias(String name, Class type) {
      */
     public void addPackageAlias(String alias, String pkgName) {
         xStream.aliasPackage(alias, pkgName);
+        clearTypeCaches();
+    }
+
+    /**
+     * Clears the types cached by this serializer, as well as the class resolutions cached by the {@link CachingMapper}
+     * of the XStream instance. The latter also remembers classes that could not be resolved, which might have become
+     * resolvable through a newly registered alias.
+     */
+    private void clearTypeCaches() {
+        CachingMapper cachingMapper = (CachingMapper) xStream.getMapper().lookupMapperOfType(CachingMapper.class);
+        if (cachingMapper != null) {
+            cachingMapper.flushCache();
+        }
+        resolvedClasses.clear();
+        serializedTypes = newSerializedTypeCache();
     }
 
     /**
@@ -221,6 +262,10 @@ public void addFieldAlias(String alias, Class definedIn, String fieldName) {
     /**
      * Returns a reference to the underlying {@link com.thoughtworks.xstream.XStream} instance, that does the actual
      * serialization.
+     * <p>
+     * Note that this serializer caches the classes resolved for serialized types, and the serialized types of classes.
+     * Aliases should therefore be registered through {@link #addAlias(String, Class)} and {@link
+     * #addPackageAlias(String, String)} once types have been resolved, as those clear the caches.
      *
      * @return the XStream instance that does the actual (de)serialization.
      * @see com.thoughtworks.xstream.XStream
@@ -16,6 +16,8 @@
 
 package org.axonframework.serialization;
 
+import java.util.Optional;
+
 /**
  * Revision Resolver implementation that checks for the presence of an {@link Revision @Revision} annotation. The value
  * of that annotation is returns as the revision of the payload it annotates. Note that {@code @Revision} is an
@@ -28,9 +30,17 @@
  */
 public class AnnotationRevisionResolver implements RevisionResolver {
 
+    // annotations cannot change at runtime, so the revision of each class only needs to be looked up once
+    private static final ClassValue<Optional<String>> REVISIONS = new ClassValue<Optional<String>>() {
+        @Override
+        protected Optional<String> computeValue(Class<?> type) {
+            Revision revision = type.getAnnotation(Revision.class);
+            return Optional.ofNullable(revision).map(Revision::value);
+        }
+    };
+
     @Override
     public String revisionOf(Class<?> payloadType) {
-        Revision revision = payloadType.getAnnotation(Revision.class);
-        return revision != null ? revision.value() : null;
+        return REVISIONS.get(payloadType).orElse(null);
     }
 }
@@ -20,7 +20,11 @@
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -30,6 +34,9 @@
  * This implementation will also autodetect ContentTypeConverter implementations by scanning
  * {@code /META-INF/services/org.axonframework.serialization.ContentTypeConverter} files on the classpath. These
  * files must contain the fully qualified class names of the implementations to use.
+ * <p/>
+ * The converter, or chain of converters, to use for a combination of source and target type is looked up once and
+ * remembered, until another converter is registered.
  *
  * @author Allard Buijze
  * @since 2.0
@@ -38,6 +45,8 @@ public class ChainingConverter implements Converter {
 
     private static final Logger logger = LoggerFactory.getLogger(ChainingConverter.class);
     private final List<ContentTypeConverter<?, ?>> converters = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Optional<ContentTypeConverter<?, ?>>>> routes =
+            new ConcurrentHashMap<>();
 
     /**
      * Initialize a new ChainingConverter with the context ClassLoader for this thread. Will autodetect all converters
@@ -70,31 +79,48 @@ public ChainingConverter(ClassLoader classLoader) {
 
     @Override
     public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
-        if (sourceType.equals(targetType)) {
+        if (targetType.isAssignableFrom(sourceType)) {
             return true;
         }
-        for (ContentTypeConverter converter : converters) {
-            if (canConvert(converter, sourceType, targetType)) {
-                return true;
-            }
-        }
-        return ChainedConverter.canConvert(sourceType, targetType, converters);
+        return routeFor(sourceType, targetType).isPresent();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType) {
-        if (sourceType.equals(targetType)) {
+        // a subtype, such as a specific InputStream implementation, does not need converting
+        if (targetType.isAssignableFrom(sourceType)) {
             return (T) original;
         }
-        for (ContentTypeConverter converter : converters) {
+        Optional<ContentTypeConverter<?, ?>> route = routeFor(sourceType, targetType);
+        if (!route.isPresent()) {
+            // reports the types for which no converter is available
+            ChainedConverter.calculateChain(sourceType, targetType, converters);
+        }
+        return ((ContentTypeConverter<Object, T>) route.get()).convert(original);
+    }
+
+    private Optional<ContentTypeConverter<?, ?>> routeFor(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, Optional<ContentTypeConverter<?, ?>>> routesFromSource =
+                routes.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+        Optional<ContentTypeConverter<?, ?>> route = routesFromSource.get(targetType);
+        if (route == null) {
+            route = findRoute(sourceType, targetType);
+            routesFromSource.put(targetType, route);
+        }
+        return route;
+    }
+
+    private Optional<ContentTypeConverter<?, ?>> findRoute(Class<?> sourceType, Class<?> targetType) {
+        for (ContentTypeConverter<?, ?> converter : converters) {
             if (canConvert(converter, sourceType, targetType)) {
-                return (T) converter.convert(original);
+                return Optional.of(converter);
             }
         }
-        ChainedConverter converter = ChainedConverter.calculateChain(sourceType, targetType, converters);
-        converters.add(0, converter);
-        return (T) converter.convert(original);
+        if (ChainedConverter.canConvert(sourceType, targetType, converters)) {
+            return Optional.of(ChainedConverter.calculateChain(sourceType, targetType, converters));
+        }
+        return Optional.empty();
     }
 
     private <S, T> boolean canConvert(ContentTypeConverter<?, ?> converter, Class<S> sourceContentType,
@@ -110,6 +136,7 @@ private <S, T> boolean canConvert(ContentTypeConverter<?, ?> converter, Class<S>
             logger.info("ContentTypeConverter [{}] is ignored. It seems to rely on a class that is " +
                                 "not available in the class loader: {}", converter, e.getMessage());
             converters.remove(converter);
+            routes.clear();
         }
         return false;
     }
@@ -127,6 +154,7 @@ private <S, T> boolean canConvert(ContentTypeConverter<?, ?> converter, Class<S>
      */
     public void registerConverter(ContentTypeConverter converter) {
         converters.add(0, converter);
+        routes.clear();
     }
 
     /**
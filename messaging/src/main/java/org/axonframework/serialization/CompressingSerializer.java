@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization;
+
+import org.axonframework.common.AxonConfigurationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Serializer decorator which compresses the {@code byte[]} representation produced by a delegate {@link Serializer}.
+ * As event storage engines, token stores and saga stores accept any {@code Serializer}, wrapping their serializer in a
+ * {@code CompressingSerializer} reduces the size of stored payloads and metadata without changes to those components.
+ * <p>
+ * Compressed data is prefixed with a marker, while data smaller than the configured compression threshold, data that
+ * does not shrink when compressed and data serialized to another representation than {@code byte[]} is left as is.
+ * During deserialization, data without the marker is passed to the delegate unchanged. Hence, data written before
+ * compression was enabled remains readable and can coexist with compressed data.
+ * <p>
+ * Compression uses the DEFLATE algorithm. A preset dictionary can be registered per serialized type name, containing
+ * byte sequences that are common in objects of that type, like field names and recurring values. Dictionaries are
+ * identified by their checksum in the compressed data, so a dictionary must remain registered for as long as data
+ * compressed with it is stored.
+ * <p>
+ * The {@link Converter} of this serializer decompresses data before converting it, so upcasters operate on the
+ * uncompressed form as provided by the delegate.
+ *
+ * @since 4.6
+ */
+public class CompressingSerializer implements Serializer {
+
+    private static final byte[] MARKER = {0x1F, 'A', 'X', 0x01};
+
+    private final Serializer delegate;
+    private final int compressionThreshold;
+    private final int compressionLevel;
+    private final Map<String, byte[]> dictionariesByType;
+    private final Map<Integer, byte[]> dictionariesByChecksum;
+    private final Converter converter;
+
+    /**
+     * Instantiate a {@link CompressingSerializer} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the delegate {@link Serializer} is not {@code null} and will throw an {@link
+     * AxonConfigurationException} if this is the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CompressingSerializer} instance
+     */
+    protected CompressingSerializer(Builder builder) {
+        builder.validate();
+        this.delegate = builder.delegate;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.compressionLevel = builder.compressionLevel;
+        this.dictionariesByType = new HashMap<>(builder.dictionaries);
+        this.dictionariesByChecksum = new HashMap<>();
+        dictionariesByType.values()
+                          .forEach(dictionary -> dictionariesByChecksum.put(checksumOf(dictionary), dictionary));
+        this.converter = new DecompressingConverter(delegate.getConverter());
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CompressingSerializer}.
+     * <p>
+     * The compression threshold defaults to {@code 256} bytes and the compression level to {@link
+     * Deflater#BEST_SPEED}. The delegate {@link Serializer} is a <b>hard requirement</b> and as such should be
+     * provided.
+     *
+     * @return a Builder to be able to create a {@link CompressingSerializer}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        if (!byte[].class.equals(expectedRepresentation)) {
+            return delegate.serialize(object, expectedRepresentation);
+        }
+        SerializedObject<byte[]> serialized = delegate.serialize(object, byte[].class);
+        byte[] data = serialized.getData();
+        if (data.length < compressionThreshold) {
+            //noinspection unchecked
+            return (SerializedObject<T>) serialized;
+        }
+        byte[] compressed = compress(data, dictionariesByType.get(serialized.getType().getName()));
+        if (compressed.length >= data.length) {
+            //noinspection unchecked
+            return (SerializedObject<T>) serialized;
+        }
+        //noinspection unchecked
+        return (SerializedObject<T>) new SimpleSerializedObject<>(compressed, byte[].class, serialized.getType());
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return delegate.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (byte[].class.equals(serializedObject.getContentType())
+                && isCompressed((byte[]) serializedObject.getData())) {
+            return delegate.deserialize(new SimpleSerializedObject<>(
+                    decompress((byte[]) serializedObject.getData()), byte[].class, serializedObject.getType()
+            ));
+        }
+        return delegate.deserialize(serializedObject);
+    }
+
+    @Override
+    public Class classForType(SerializedType type) {
+        return delegate.classForType(type);
+    }
+
+    @Override
+    public SerializedType typeForClass(Class type) {
+        return delegate.typeForClass(type);
+    }
+
+    @Override
+    public Converter getConverter() {
+        return converter;
+    }
+
+    private byte[] compress(byte[] data, byte[] dictionary) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + MARKER.length);
+            out.write(MARKER, 0, MARKER.length);
+            byte[] buffer = new byte[Math.min(data.length, 8192)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, MARKER.length, data.length - MARKER.length);
+            // compressed data typically expands a few times, but the initial capacity must not overflow
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(data.length, Integer.MAX_VALUE / 4) * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsDictionary()) {
+                    byte[] dictionary = dictionariesByChecksum.get(inflater.getAdler());
+                    if (dictionary == null) {
+                        throw new SerializationException(
+                                "Unable to decompress data, as the dictionary it was compressed with is not registered"
+                        );
+                    }
+                    inflater.setDictionary(dictionary);
+                } else if (length == 0 && inflater.needsInput()) {
+                    throw new SerializationException("Unable to decompress data, as it is truncated");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Unable to decompress data, as it is corrupted", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static boolean isCompressed(byte[] data) {
+        return data.length > MARKER.length
+                && Arrays.equals(Arrays.copyOf(data, MARKER.length), MARKER);
+    }
+
+    private static int checksumOf(byte[] dictionary) {
+        Adler32 checksum = new Adler32();
+        checksum.update(dictionary, 0, dictionary.length);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Converter decorator decompressing {@code byte[]} data produced by this serializer before handing it to the
+     * delegate {@link Converter}.
+     */
+    private class DecompressingConverter implements Converter {
+
+        private final Converter delegate;
+
+        private DecompressingConverter(Converter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+            return delegate.canConvert(sourceType, targetType);
+        }
+
+        @Override
+        public <T> T convert(Object original, Class<?> sourceType, Class<T> targetType) {
+            if (byte[].class.equals(sourceType) && isCompressed((byte[]) original)) {
+                byte[] decompressed = decompress((byte[]) original);
+                if (byte[].class.equals(targetType)) {
+                    //noinspection unchecked
+                    return (T) decompressed;
+                }
+                return delegate.convert(decompressed, byte[].class, targetType);
+            }
+            return delegate.convert(original, sourceType, targetType);
+        }
+
+        @Override
+        public <T> SerializedObject<T> convert(SerializedObject<?> original, Class<T> targetType) {
+            if (byte[].class.equals(original.getContentType()) && isCompressed((byte[]) original.getData())) {
+                return new SimpleSerializedObject<>(convert(original.getData(), byte[].class, targetType),
+                                                    targetType, original.getType());
+            }
+            return delegate.convert(original, targetType);
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CompressingSerializer}.
+     * <p>
+     * The compression threshold defaults to {@code 256} bytes and the compression level to {@link
+     * Deflater#BEST_SPEED}. The delegate {@link Serializer} is a <b>hard requirement</b> and as such should be
+     * provided.
+     */
+    public static class Builder {
+
+        private Serializer delegate;
+        private int compressionThreshold = 256;
+        private int compressionLevel = Deflater.BEST_SPEED;
+        private final Map<String, byte[]> dictionaries = new HashMap<>();
+
+        /**
+         * Sets the {@link Serializer} performing the actual serialization, of which the {@code byte[]} output is
+         * compressed.
+         *
+         * @param delegate the {@link Serializer} performing the actual serialization
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder delegate(Serializer delegate) {
+            assertNonNull(delegate, "Delegate Serializer may not be null");
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the minimum size in bytes of the serialized form for it to be compressed. Smaller objects are stored
+         * uncompressed, as compression hardly pays off for them. Defaults to {@code 256}.
+         *
+         * @param compressionThreshold the minimum size in bytes of the serialized form for it to be compressed
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder compressionThreshold(int compressionThreshold) {
+            assertThat(compressionThreshold, threshold -> threshold >= 0,
+                       "The compression threshold should be a non-negative number");
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the compression level, ranging from {@link Deflater#BEST_SPEED} ({@code 1}) to {@link
+         * Deflater#BEST_COMPRESSION} ({@code 9}). Defaults to {@link Deflater#BEST_SPEED}, favoring throughput over
+         * size.
+         *
+         * @param compressionLevel the compression level to use
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder compressionLevel(int compressionLevel) {
+            assertThat(compressionLevel,
+                       level -> level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION,
+                       "The compression level should be between 1 and 9");
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Registers a preset {@code dictionary} used to compress objects of the given serialized {@code typeName}. A
+         * dictionary is typically composed of sample serialized objects of that type, with the most common byte
+         * sequences placed at the end. The same dictionary must be registered for as long as data compressed with it
+         * needs to be deserialized.
+         *
+         * @param typeName   the name of the {@link SerializedType} to use the dictionary for
+         * @param dictionary the preset dictionary to compress objects of the given type with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder dictionary(String typeName, byte[] dictionary) {
+            assertNonNull(typeName, "Type name may not be null");
+            assertThat(dictionary, d -> d != null && d.length > 0, "Dictionary may not be null or empty");
+            this.dictionaries.put(typeName, dictionary.clone());
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CompressingSerializer} as specified through this Builder.
+         *
+         * @return a {@link CompressingSerializer} as specified through this Builder
+         */
+        public CompressingSerializer build() {
+            return new CompressingSerializer(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(delegate, "The delegate Serializer is a hard requirement and should be provided");
+        }
+    }
+}
@@ -43,7 +43,7 @@
 @Deprecated
 public class JavaSerializer implements Serializer {
 
-    private final RevisionResolver revisionResolver;
+    private final SerializedTypeCache serializedTypes;
 
     private final Converter converter = new ChainingConverter();
 
@@ -54,7 +54,7 @@ public class JavaSerializer implements Serializer {
      */
     protected JavaSerializer(Builder builder) {
         builder.validate();
-        this.revisionResolver = builder.revisionResolver;
+        this.serializedTypes = SerializedTypeCache.forRevisionResolver(builder.revisionResolver);
     }
 
     /**
@@ -91,7 +91,7 @@ private SerializedType getSerializedType(Object instance) {
         if (instance == null) {
             serializedType = SimpleSerializedType.emptyType();
         } else {
-            serializedType = new SimpleSerializedType(instance.getClass().getName(), revisionOf(instance.getClass()));
+            serializedType = serializedTypes.typeOf(instance.getClass());
         }
         return serializedType;
     }
@@ -138,7 +138,7 @@ public Class classForType(SerializedType type) {
 
     @Override
     public SerializedType typeForClass(Class type) {
-        return new SimpleSerializedType(type.getName(), revisionOf(type));
+        return serializedTypes.typeOf(type);
     }
 
     @Override
@@ -146,10 +146,6 @@ public Converter getConverter() {
         return converter;
     }
 
-    private String revisionOf(Class<?> type) {
-        return revisionResolver.revisionOf(type);
-    }
-
     /**
      * Builder class to instantiate a {@link JavaSerializer}.
      * <p>
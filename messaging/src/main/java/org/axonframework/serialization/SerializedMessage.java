@@ -27,7 +27,9 @@
  * metadata on demand when {@link #getPayload()} or {@link #getMetaData()} is called.
  * <p>
  * The SerializedMessage guarantees that the payload and metadata will not be deserialized more than once. Messages of
- * this type  will not be serialized more than once by the same serializer.
+ * this type  will not be serialized more than once by the same serializer. When serialized with the serializer that
+ * provided the serialized data, that data is reused as is, allowing messages to be forwarded without deserializing
+ * them.
  *
  * @author Rene de Waele
  */
@@ -37,6 +39,7 @@
 
     private final LazyDeserializingObject<MetaData> metaData;
     private final LazyDeserializingObject<T> payload;
+    private transient volatile SerializedObjectHolder serializedObjectHolder;
 
     /**
      * Initializes a {@link SerializedMessage} with given {@code identifier} from the given serialized payload and
@@ -111,7 +114,7 @@ public <R> SerializedObject<R> serializePayload(Serializer serializer, Class<R>
         if (serializer.equals(payload.getSerializer())) {
             return serializer.getConverter().convert(payload.getSerializedObject(), expectedRepresentation);
         }
-        return serializer.serialize(payload.getObject(), expectedRepresentation);
+        return serializedObjectHolder().serializePayload(serializer, expectedRepresentation);
     }
 
     @SuppressWarnings("unchecked")
@@ -120,7 +123,14 @@ public <R> SerializedObject<R> serializeMetaData(Serializer serializer, Class<R>
         if (serializer.equals(metaData.getSerializer())) {
             return serializer.getConverter().convert(metaData.getSerializedObject(), expectedRepresentation);
         }
-        return serializer.serialize(metaData.getObject(), expectedRepresentation);
+        return serializedObjectHolder().serializeMetaData(serializer, expectedRepresentation);
+    }
+
+    private SerializedObjectHolder serializedObjectHolder() {
+        if (serializedObjectHolder == null) {
+            serializedObjectHolder = new SerializedObjectHolder(this);
+        }
+        return serializedObjectHolder;
     }
 
     /**
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization;
+
+import java.util.function.Function;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * Cache of the {@link SerializedType} describing each class, as resolved by a given function. Serializers consult the
+ * type name and {@link RevisionResolver revision} of an object's class every time it is serialized, which typically
+ * involves reflection. This cache resolves them only once per class.
+ * <p>
+ * Entries are stored through a {@link ClassValue}, which associates them with the class itself. This avoids any
+ * contention on lookups and does not prevent classes from being unloaded. As a consequence, the resolution function
+ * must return the same result for a class every time it is invoked. A new cache should be created when the rules
+ * used by the function change, for example when aliases are registered.
+ *
+ * @since 4.6
+ */
+public class SerializedTypeCache {
+
+    private final ClassValue<SerializedType> serializedTypes;
+
+    /**
+     * Initialize a cache that resolves the serialized type of a class through the given {@code typeResolver}.
+     *
+     * @param typeResolver the function resolving the serialized type of a class
+     */
+    public SerializedTypeCache(Function<Class<?>, SerializedType> typeResolver) {
+        assertNonNull(typeResolver, "The type resolver may not be null");
+        this.serializedTypes = new ClassValue<SerializedType>() {
+            @Override
+            protected SerializedType computeValue(Class<?> type) {
+                return typeResolver.apply(type);
+            }
+        };
+    }
+
+    /**
+     * Initialize a cache that describes a class by its fully qualified name and the revision resolved by the given
+     * {@code revisionResolver}.
+     *
+     * @param revisionResolver the resolver of the revision of a class
+     * @return a cache of serialized types based on class names and the given {@code revisionResolver}
+     */
+    public static SerializedTypeCache forRevisionResolver(RevisionResolver revisionResolver) {
+        assertNonNull(revisionResolver, "The RevisionResolver may not be null");
+        return new SerializedTypeCache(
+                type -> new SimpleSerializedType(type.getName(), revisionResolver.revisionOf(type))
+        );
+    }
+
+    /**
+     * Returns the serialized type of the given {@code type}, resolving it if it was not resolved before.
+     *
+     * @param type the class to return the serialized type for
+     * @return the serialized type of the given {@code type}
+     */
+    public SerializedType typeOf(Class<?> type) {
+        return serializedTypes.get(type);
+    }
+}
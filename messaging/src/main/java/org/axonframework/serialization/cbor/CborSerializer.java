@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.cbor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.json.ByteArrayToJsonNodeConverter;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.axonframework.serialization.json.JsonNodeToByteArrayConverter;
+
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Serializer implementation that uses Jackson to serialize objects into the binary CBOR format (RFC 8949). The
+ * serialized form follows the same structure as the JSON produced by the {@link JacksonSerializer}, while being
+ * considerably more compact and cheaper to parse, at the cost of no longer being human-readable.
+ * <p>
+ * As the {@link ObjectMapper} of this serializer is used by the {@link ByteArrayToJsonNodeConverter} and {@link
+ * JsonNodeToByteArrayConverter}, serialized objects can be converted to a {@link JsonNode}. Hence, upcasters written
+ * against the {@code JsonNode} representation, like those used with the {@code JacksonSerializer}, work unchanged for
+ * objects serialized by this serializer.
+ * <p>
+ * Because CBOR is a binary format, this serializer is unable to serialize objects to a {@link String}. Use a {@code
+ * byte[]} based representation when storing the serialized form instead.
+ *
+ * @since 4.6
+ */
+public class CborSerializer extends JacksonSerializer {
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CborSerializer}.
+     * <p>
+     * The {@link RevisionResolver} is defaulted to an {@link AnnotationRevisionResolver}, the {@link Converter} to a
+     * {@link ChainingConverter} and the {@link ObjectMapper} defaults to an {@link ObjectMapper} using a {@link
+     * CBORFactory}.
+     * <p>
+     * Upon instantiation, the ObjectMapper will get the same modules registered to it as for the {@link
+     * JacksonSerializer}. If the provided converter is of type ChainingConverter, the {@link
+     * JsonNodeToByteArrayConverter} and {@link ByteArrayToJsonNodeConverter} are registered with it, allowing
+     * conversion between the CBOR encoded form and a {@link JsonNode}.
+     *
+     * @return a Builder to be able to create a {@link CborSerializer}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a default {@link CborSerializer}.
+     * <p>
+     * The {@link RevisionResolver} is defaulted to an {@link AnnotationRevisionResolver}, the {@link Converter} to a
+     * {@link ChainingConverter} and the {@link ObjectMapper} defaults to an {@link ObjectMapper} using a {@link
+     * CBORFactory}.
+     *
+     * @return a {@link CborSerializer}
+     */
+    public static CborSerializer defaultSerializer() {
+        return builder().build();
+    }
+
+    /**
+     * Instantiate a {@link CborSerializer} based on the fields contained in the {@link Builder}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CborSerializer} instance
+     */
+    protected CborSerializer(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Builder class to instantiate a {@link CborSerializer}.
+     * <p>
+     * The {@link RevisionResolver} is defaulted to an {@link AnnotationRevisionResolver}, the {@link Converter} to a
+     * {@link ChainingConverter} and the {@link ObjectMapper} defaults to an {@link ObjectMapper} using a {@link
+     * CBORFactory}.
+     */
+    public static class Builder extends JacksonSerializer.Builder {
+
+        /**
+         * Instantiate a Builder, defaulting the {@link ObjectMapper} to one using a {@link CBORFactory}.
+         */
+        public Builder() {
+            objectMapper(new ObjectMapper(new CBORFactory()));
+        }
+
+        @Override
+        public Builder revisionResolver(RevisionResolver revisionResolver) {
+            super.revisionResolver(revisionResolver);
+            return this;
+        }
+
+        @Override
+        public Builder converter(Converter converter) {
+            super.converter(converter);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc} Defaults to an {@link ObjectMapper} using a {@link CBORFactory}. The given {@code
+         * objectMapper} should use a binary format. Other binary formats supported by Jackson, like Smile, may be used
+         * as well.
+         */
+        @Override
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            super.objectMapper(objectMapper);
+            assertThat(objectMapper, mapper -> mapper.getFactory().canHandleBinaryNatively(),
+                       "The ObjectMapper should use a binary format");
+            return this;
+        }
+
+        @Override
+        public Builder classLoader(ClassLoader classLoader) {
+            super.classLoader(classLoader);
+            return this;
+        }
+
+        @Override
+        public Builder lenientDeserialization() {
+            super.lenientDeserialization();
+            return this;
+        }
+
+        @Override
+        public Builder defaultTyping() {
+            super.defaultTyping();
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CborSerializer} as specified through this Builder.
+         *
+         * @return a {@link CborSerializer} as specified through this Builder
+         */
+        @Override
+        public CborSerializer build() {
+            configureObjectMapper();
+            return new CborSerializer(this);
+        }
+    }
+}
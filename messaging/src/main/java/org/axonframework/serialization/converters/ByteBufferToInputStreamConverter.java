@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * ContentTypeConverter that converts a {@link ByteBuffer} into an {@link InputStream}. The returned InputStream reads
+ * the remaining bytes of the buffer directly, without copying them. The position of the given buffer is not changed.
+ *
+ * @since 4.6
+ */
+public class ByteBufferToInputStreamConverter implements ContentTypeConverter<ByteBuffer, InputStream> {
+
+    @Override
+    public Class<ByteBuffer> expectedSourceType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public Class<InputStream> targetType() {
+        return InputStream.class;
+    }
+
+    @Override
+    public InputStream convert(ByteBuffer original) {
+        return new ByteBufferInputStream(original.duplicate());
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
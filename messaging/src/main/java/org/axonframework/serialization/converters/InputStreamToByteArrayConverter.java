@@ -19,9 +19,9 @@
 import org.axonframework.serialization.CannotConvertBetweenTypesException;
 import org.axonframework.serialization.ContentTypeConverter;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * Converter that converts an InputStream to a byte array. This converter simply reads all contents from the
@@ -53,12 +53,21 @@ public byte[] convert(InputStream original) {
     }
 
     private byte[] bytesFrom(InputStream original) throws IOException {
-        ByteArrayOutputStream output = new ByteArrayOutputStream(1024); // NOSONAR - There is no point in closing BAOS
-        byte[] buffer = new byte[1024];
+        // size the result on the available bytes, so streams over in-memory data are read without resizing
+        byte[] result = new byte[Math.max(original.available(), 1024)];
+        int length = 0;
         int n;
-        while (-1 != (n = original.read(buffer))) {
-            output.write(buffer, 0, n);
+        while (-1 != (n = original.read(result, length, result.length - length))) {
+            length += n;
+            if (length == result.length) {
+                int next = original.read();
+                if (next == -1) {
+                    return result;
+                }
+                result = Arrays.copyOf(result, result.length * 2);
+                result[length++] = (byte) next;
+            }
         }
-        return output.toByteArray();
+        return length == result.length ? result : Arrays.copyOf(result, length);
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.axonframework.serialization.CannotConvertBetweenTypesException;
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ContentTypeConverter implementation that parses the JSON contents of an {@link InputStream} to a Jackson {@link
+ * JsonNode}. The stream is read directly by the parser, rather than being copied into a byte[] first.
+ *
+ * @since 4.6
+ */
+public class InputStreamToJsonNodeConverter implements ContentTypeConverter<InputStream, JsonNode> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Initialize the Converter, using given {@code objectMapper} to parse the contents of the stream.
+     *
+     * @param objectMapper the Jackson ObjectMapper to parse the stream with
+     */
+    public InputStreamToJsonNodeConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Class<InputStream> expectedSourceType() {
+        return InputStream.class;
+    }
+
+    @Override
+    public Class<JsonNode> targetType() {
+        return JsonNode.class;
+    }
+
+    @Override
+    public JsonNode convert(InputStream original) {
+        try {
+            return objectMapper.readTree(original);
+        } catch (IOException e) {
+            throw new CannotConvertBetweenTypesException("An error occurred while converting an InputStream to a "
+                                                                 + "JsonNode", e);
+        }
+    }
+}
@@ -16,16 +16,21 @@
 
 package org.axonframework.serialization.json;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.ObjectUtils;
+import org.axonframework.common.io.ChunkedByteArrayOutputStream;
 import org.axonframework.messaging.MetaData;
 import org.axonframework.serialization.AnnotationRevisionResolver;
 import org.axonframework.serialization.ChainingConverter;
@@ -34,12 +39,17 @@
 import org.axonframework.serialization.SerializationException;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SerializedTypeCache;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.SimpleSerializedObject;
 import org.axonframework.serialization.SimpleSerializedType;
 import org.axonframework.serialization.UnknownSerializedType;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -47,15 +57,23 @@
  * Serializer implementation that uses Jackson to serialize objects into a JSON format. Although the Jackson serializer
  * requires classes to be compatible with this specific serializer, it provides much more compact serialization, while
  * still being human-readable.
+ * <p>
+ * When the configured {@link ObjectMapper} uses a binary format, like CBOR or Smile, objects can no longer be
+ * serialized to a {@link String}. Conversion to and from a {@link JsonNode} remains available in that case.
  *
  * @author Allard Buijze
  * @since 2.2
  */
 public class JacksonSerializer implements Serializer {
 
+    private static final int MAX_CACHED_TYPES = 1024;
+
     private final RevisionResolver revisionResolver;
+    private final SerializedTypeCache serializedTypes;
     private final Converter converter;
     private final ObjectMapper objectMapper;
+    private final boolean binaryFormat;
+    private volatile MapperCaches caches;
 
     /**
      * Instantiate a Builder to be able to create a {@link JacksonSerializer}.
@@ -106,8 +124,10 @@ public static JacksonSerializer defaultSerializer() {
     protected JacksonSerializer(Builder builder) {
         builder.validate();
         this.revisionResolver = builder.revisionResolver;
+        this.serializedTypes = SerializedTypeCache.forRevisionResolver(revisionResolver);
         this.converter = builder.converter;
         this.objectMapper = builder.objectMapper;
+        this.binaryFormat = objectMapper.getFactory().canHandleBinaryNatively();
 
         this.objectMapper.registerModule(
                 new SimpleModule("Axon-Jackson Module").addDeserializer(MetaData.class, new MetaDataDeserializer())
@@ -127,6 +147,7 @@ protected JacksonSerializer(Builder builder) {
     protected void registerConverters(ChainingConverter converter) {
         converter.registerConverter(new JsonNodeToByteArrayConverter(objectMapper));
         converter.registerConverter(new ByteArrayToJsonNodeConverter(objectMapper));
+        converter.registerConverter(new InputStreamToJsonNodeConverter(objectMapper));
         converter.registerConverter(new JsonNodeToObjectNodeConverter());
         converter.registerConverter(new ObjectNodeToJsonNodeConverter());
     }
@@ -135,16 +156,30 @@ protected void registerConverters(ChainingConverter converter) {
     public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
         try {
             if (String.class.equals(expectedRepresentation)) {
+                if (binaryFormat) {
+                    throw new SerializationException(
+                            "Unable to serialize object to a String, as the ObjectMapper uses a binary format"
+                    );
+                }
                 //noinspection unchecked
                 return new SimpleSerializedObject<>((T) getWriter().writeValueAsString(object), expectedRepresentation,
                                                     typeForClass(ObjectUtils.nullSafeTypeOf(object)));
             }
 
+            if (InputStream.class.equals(expectedRepresentation)) {
+                // write in bounded chunks, to prevent large objects from being copied into a single large array
+                ChunkedByteArrayOutputStream output = new ChunkedByteArrayOutputStream();
+                getWriter().writeValue(output, object);
+                //noinspection unchecked
+                return new SimpleSerializedObject<>((T) output.toInputStream(), expectedRepresentation,
+                                                    typeForClass(ObjectUtils.nullSafeTypeOf(object)));
+            }
+
             byte[] serializedBytes = getWriter().writeValueAsBytes(object);
             T serializedContent = converter.convert(serializedBytes, expectedRepresentation);
             return new SimpleSerializedObject<>(serializedContent, expectedRepresentation,
                                                 typeForClass(ObjectUtils.nullSafeTypeOf(object)));
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw new SerializationException("Unable to serialize object", e);
         }
     }
@@ -165,7 +200,7 @@ public final ObjectMapper getObjectMapper() {
      * @return The writer to serialize objects with
      */
     protected ObjectWriter getWriter() {
-        return objectMapper.writer();
+        return currentCaches().writer;
     }
 
     /**
@@ -176,12 +211,21 @@ protected ObjectWriter getWriter() {
      * @return The writer to serialize objects with
      */
     protected ObjectReader getReader(Class<?> type) {
-        return objectMapper.readerFor(type);
+        Map<Class<?>, ObjectReader> readers = currentCaches().readers;
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = objectMapper.readerFor(type);
+            putBounded(readers, type, reader);
+        }
+        return reader;
     }
 
     @Override
     public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
-        return JsonNode.class.equals(expectedRepresentation) || String.class.equals(expectedRepresentation) ||
+        if (String.class.equals(expectedRepresentation)) {
+            return !binaryFormat;
+        }
+        return JsonNode.class.equals(expectedRepresentation) ||
                 converter.canConvert(byte[].class, expectedRepresentation);
     }
 
@@ -200,6 +244,13 @@ public <S, T> T deserialize(SerializedObject<S> serializedObject) {
                 return getReader(type)
                         .readValue((JsonNode) serializedObject.getData());
             }
+            if (InputStream.class.equals(serializedObject.getContentType())
+                    || ByteBuffer.class.equals(serializedObject.getContentType())) {
+                // read the data in place, rather than copying it into an intermediate byte array first
+                SerializedObject<InputStream> streamSerialized =
+                        converter.convert(serializedObject, InputStream.class);
+                return getReader(type).readValue(streamSerialized.getData());
+            }
             SerializedObject<byte[]> byteSerialized = converter.convert(serializedObject, byte[].class);
             return getReader(type).readValue(byteSerialized.getData());
         } catch (IOException e) {
@@ -212,11 +263,43 @@ public Class classForType(SerializedType type) {
         if (SimpleSerializedType.emptyType().equals(type)) {
             return Void.class;
         }
-        try {
-            return objectMapper.getTypeFactory().findClass(resolveClassName(type));
-        } catch (ClassNotFoundException e) {
-            return UnknownSerializedType.class;
+        String className = resolveClassName(type);
+        Map<String, Class<?>> classes = currentCaches().classes;
+        Class<?> resolved = classes.get(className);
+        if (resolved == null) {
+            try {
+                resolved = objectMapper.getTypeFactory().findClass(className);
+            } catch (ClassNotFoundException e) {
+                // cache the miss as well, as repeatedly failing to load a class is expensive
+                resolved = UnknownSerializedType.class;
+            }
+            putBounded(classes, className, resolved);
         }
+        return resolved;
+    }
+
+    /**
+     * Returns the caches of resolved classes, readers and writer, provided they were created for the current
+     * configuration of the {@link ObjectMapper}. As the ObjectMapper replaces its configuration objects on every
+     * change, for example when a module is registered or a different class loader is set, the caches are recreated
+     * whenever one of those objects changed.
+     *
+     * @return the caches valid for the current configuration of the ObjectMapper
+     */
+    private MapperCaches currentCaches() {
+        MapperCaches current = caches;
+        if (current == null || !current.isValidFor(objectMapper)) {
+            current = new MapperCaches(objectMapper);
+            caches = current;
+        }
+        return current;
+    }
+
+    private static <K, V> void putBounded(Map<K, V> cache, K key, V value) {
+        if (cache.size() >= MAX_CACHED_TYPES) {
+            cache.clear();
+        }
+        cache.put(key, value);
     }
 
     /**
@@ -235,7 +318,7 @@ public SerializedType typeForClass(Class type) {
         if (type == null || Void.TYPE.equals(type) || Void.class.equals(type)) {
             return SimpleSerializedType.emptyType();
         }
-        return new SimpleSerializedType(type.getName(), revisionResolver.revisionOf(type));
+        return serializedTypes.typeOf(type);
     }
 
     @Override
@@ -252,6 +335,38 @@ protected RevisionResolver getRevisionResolver() {
         return revisionResolver;
     }
 
+    /**
+     * Holder of the classes, readers and writer derived from a specific configuration of an {@link ObjectMapper}.
+     */
+    private static final class MapperCaches {
+
+        private final TypeFactory typeFactory;
+        private final DeserializationConfig deserializationConfig;
+        private final DeserializationContext deserializationContext;
+        private final SerializationConfig serializationConfig;
+        private final SerializerFactory serializerFactory;
+        private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final ObjectWriter writer;
+
+        private MapperCaches(ObjectMapper objectMapper) {
+            this.typeFactory = objectMapper.getTypeFactory();
+            this.deserializationConfig = objectMapper.getDeserializationConfig();
+            this.deserializationContext = objectMapper.getDeserializationContext();
+            this.serializationConfig = objectMapper.getSerializationConfig();
+            this.serializerFactory = objectMapper.getSerializerFactory();
+            this.writer = objectMapper.writer();
+        }
+
+        private boolean isValidFor(ObjectMapper objectMapper) {
+            return typeFactory == objectMapper.getTypeFactory()
+                    && deserializationConfig == objectMapper.getDeserializationConfig()
+                    && deserializationContext == objectMapper.getDeserializationContext()
+                    && serializationConfig == objectMapper.getSerializationConfig()
+                    && serializerFactory == objectMapper.getSerializerFactory();
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link JacksonSerializer}.
      * <p>
@@ -363,6 +478,16 @@ public Builder defaultTyping() {
          * @return a {@link JacksonSerializer} as specified through this Builder
          */
         public JacksonSerializer build() {
+            configureObjectMapper();
+            return new JacksonSerializer(this);
+        }
+
+        /**
+         * Applies the options set on this Builder, like {@link #lenientDeserialization()}, {@link #defaultTyping()} and
+         * the {@link #classLoader(ClassLoader)}, to the configured {@link ObjectMapper}. Should be invoked by the
+         * {@link #build()} method of subclasses before instantiating the serializer.
+         */
+        protected void configureObjectMapper() {
             if (lenientDeserialization) {
                 objectMapper.enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
                 objectMapper.enable(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS);
@@ -374,7 +499,6 @@ public JacksonSerializer build() {
             if (classLoader != null) {
                 objectMapper.setTypeFactory(objectMapper.getTypeFactory().withClassLoader(classLoader));
             }
-            return new JacksonSerializer(this);
         }
 
         /**
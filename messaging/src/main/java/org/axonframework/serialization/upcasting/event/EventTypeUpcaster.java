@@ -19,7 +19,9 @@
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.SimpleSerializedType;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 import static org.axonframework.common.BuilderUtils.assertNonEmpty;
@@ -31,11 +33,15 @@
  * <p>
  * Note that this upcaster <b>should not</b> be used to change the semantic meaning of an event. Such a requirement
  * points towards a new event type instead of adjusting an existing one.
+ * <p>
+ * As a {@link TypeSpecificEventUpcaster}, this upcaster declares the expected payload type and revision as the only
+ * type it upcasts. Subclasses overriding {@link #isExpectedPayloadType(String)} or {@link #isExpectedRevision(String)}
+ * to match other types should override {@link #upcastableTypes()} accordingly.
  *
  * @author Steven van Beelen
  * @since 4.3
  */
-public class EventTypeUpcaster extends SingleEventUpcaster {
+public class EventTypeUpcaster extends SingleEventUpcaster implements TypeSpecificEventUpcaster {
 
     private final String expectedPayloadType;
     private final String expectedRevision;
@@ -94,6 +100,11 @@ protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresen
         return isExpectedPayloadType(serializedType.getName()) && isExpectedRevision(serializedType.getRevision());
     }
 
+    @Override
+    public Set<SerializedType> upcastableTypes() {
+        return Collections.singleton(new SimpleSerializedType(expectedPayloadType, expectedRevision));
+    }
+
     /**
      * Check whether the given {@code payloadType} matches the outcome of {@code expectedPayloadType}.
      *
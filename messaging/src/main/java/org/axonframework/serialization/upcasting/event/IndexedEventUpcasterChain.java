@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.upcasting.event;
+
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.upcasting.Upcaster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Upcaster chain used to upcast {@link IntermediateEventRepresentation event representations}, which only passes an
+ * event to the upcasters able to upcast its type.
+ * <p>
+ * Consecutive {@link TypeSpecificEventUpcaster TypeSpecificEventUpcasters} in the chain are indexed by the {@link
+ * SerializedType serialized types} they declare. An event is only handed to those upcasters of which a declared type
+ * matches the name and revision of the event at that point in the chain. As such, events for which no upcaster is
+ * registered pass these upcasters with a single lookup, instead of being offered to every upcaster in turn. Any other
+ * upcaster is invoked for every event, as it would be in an {@link EventUpcasterChain}.
+ * <p>
+ * The order of the given upcasters is maintained. An event upcasted to another type or revision is matched against
+ * the upcasters following the one that upcasted it.
+ *
+ * @since 4.6
+ */
+public class IndexedEventUpcasterChain extends EventUpcasterChain {
+
+    private final List<EventUpcaster> stages;
+
+    /**
+     * Initializes an indexed upcaster chain from one or more upcasters.
+     *
+     * @param upcasters the upcasters to chain
+     */
+    public IndexedEventUpcasterChain(EventUpcaster... upcasters) {
+        this(Arrays.asList(upcasters));
+    }
+
+    /**
+     * Initializes an indexed upcaster chain from the given list of upcasters.
+     *
+     * @param upcasters the upcasters to chain
+     */
+    public IndexedEventUpcasterChain(List<? extends EventUpcaster> upcasters) {
+        super(upcasters);
+        this.stages = new ArrayList<>();
+        List<TypeSpecificEventUpcaster> typeSpecificUpcasters = new ArrayList<>();
+        for (EventUpcaster upcaster : upcasters) {
+            if (upcaster instanceof TypeSpecificEventUpcaster) {
+                typeSpecificUpcasters.add((TypeSpecificEventUpcaster) upcaster);
+            } else {
+                if (!typeSpecificUpcasters.isEmpty()) {
+                    stages.add(new TypeIndexedUpcasters(typeSpecificUpcasters));
+                    typeSpecificUpcasters = new ArrayList<>();
+                }
+                stages.add(upcaster);
+            }
+        }
+        if (!typeSpecificUpcasters.isEmpty()) {
+            stages.add(new TypeIndexedUpcasters(typeSpecificUpcasters));
+        }
+    }
+
+    @Override
+    public Stream<IntermediateEventRepresentation> upcast(
+            Stream<IntermediateEventRepresentation> initialRepresentations
+    ) {
+        Stream<IntermediateEventRepresentation> result = initialRepresentations;
+        for (Upcaster<IntermediateEventRepresentation> stage : stages) {
+            result = stage.upcast(result);
+        }
+        return result;
+    }
+
+    /**
+     * Sequence of {@link TypeSpecificEventUpcaster TypeSpecificEventUpcasters}, indexed by the name and revision of the
+     * types they declare to the positions of those upcasters in the sequence.
+     */
+    private static class TypeIndexedUpcasters implements EventUpcaster {
+
+        private static final int[] NO_POSITIONS = new int[0];
+
+        private final List<TypeSpecificEventUpcaster> upcasters;
+        private final Map<String, Map<String, int[]>> positionsByType = new HashMap<>();
+
+        private TypeIndexedUpcasters(List<TypeSpecificEventUpcaster> upcasters) {
+            this.upcasters = upcasters;
+            for (int position = 0; position < upcasters.size(); position++) {
+                for (SerializedType type : upcasters.get(position).upcastableTypes()) {
+                    Map<String, int[]> positionsByRevision =
+                            positionsByType.computeIfAbsent(type.getName(), name -> new HashMap<>());
+                    int[] positions = positionsByRevision.getOrDefault(type.getRevision(), NO_POSITIONS);
+                    if (positions.length == 0 || positions[positions.length - 1] != position) {
+                        positions = Arrays.copyOf(positions, positions.length + 1);
+                        positions[positions.length - 1] = position;
+                        positionsByRevision.put(type.getRevision(), positions);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Stream<IntermediateEventRepresentation> upcast(
+                Stream<IntermediateEventRepresentation> intermediateRepresentations
+        ) {
+            return intermediateRepresentations.flatMap(representation -> upcastFrom(representation, 0));
+        }
+
+        private Stream<IntermediateEventRepresentation> upcastFrom(IntermediateEventRepresentation representation,
+                                                                   int fromPosition) {
+            int position = nextApplicablePosition(representation.getType(), fromPosition);
+            if (position < 0) {
+                return Stream.of(representation);
+            }
+            return upcasters.get(position)
+                            .upcast(Stream.of(representation))
+                            .flatMap(upcasted -> upcastFrom(upcasted, position + 1));
+        }
+
+        private int nextApplicablePosition(SerializedType type, int fromPosition) {
+            Map<String, int[]> positionsByRevision = positionsByType.get(type.getName());
+            if (positionsByRevision == null) {
+                return -1;
+            }
+            for (int position : positionsByRevision.getOrDefault(type.getRevision(), NO_POSITIONS)) {
+                if (position >= fromPosition) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+    }
+}
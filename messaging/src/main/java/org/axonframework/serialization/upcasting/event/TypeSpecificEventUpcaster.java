@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.upcasting.event;
+
+import org.axonframework.serialization.SerializedType;
+
+import java.util.Set;
+
+/**
+ * An {@link EventUpcaster} which declares the {@link SerializedType serialized types} it is able to upcast. This allows
+ * an {@link IndexedEventUpcasterChain} to skip the upcaster for any event of another type, without invoking it.
+ * <p>
+ * Implementations must upcast every {@link IntermediateEventRepresentation} independently of the others in the
+ * stream, and must leave representations of any type not declared in {@link #upcastableTypes()} untouched.
+ *
+ * @since 4.6
+ */
+public interface TypeSpecificEventUpcaster extends EventUpcaster {
+
+    /**
+     * Returns the serialized types, as the combination of name and revision, of the events this upcaster is able to
+     * upcast. Events of any other type are not passed to this upcaster by an {@link IndexedEventUpcasterChain}.
+     *
+     * @return the serialized types of the events this upcaster is able to upcast
+     */
+    Set<SerializedType> upcastableTypes();
+}
@@ -20,6 +20,7 @@
 import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
 import com.thoughtworks.xstream.io.xml.Dom4JReader;
 import com.thoughtworks.xstream.io.xml.XomReader;
+import org.axonframework.common.io.ChunkedByteArrayOutputStream;
 import org.axonframework.eventhandling.GenericDomainEventMessage;
 import org.axonframework.serialization.AbstractXStreamSerializer;
 import org.axonframework.serialization.AnnotationRevisionResolver;
@@ -122,6 +123,12 @@ protected XStreamSerializer(Builder builder) {
 
     @Override
     protected <T> T doSerialize(Object object, Class<T> expectedFormat, XStream xStream) {
+        if (InputStream.class.equals(expectedFormat)) {
+            // write in bounded chunks, to prevent large objects from being copied into a single large array
+            ChunkedByteArrayOutputStream output = new ChunkedByteArrayOutputStream();
+            xStream.toXML(object, new OutputStreamWriter(output, getCharset()));
+            return expectedFormat.cast(output.toInputStream());
+        }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         xStream.toXML(object, new OutputStreamWriter(baos, getCharset()));
         return convert(baos.toByteArray(), byte[].class, expectedFormat);
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.common.Registration;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.messaging.MessageHandler;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link BatchingCommandBus}.
+ */
+class BatchingCommandBusTest {
+
+    private List<Runnable> scheduledTasks;
+    private BatchingHandler handler;
+    private BatchingCommandBus testSubject;
+
+    @BeforeEach
+    void setUp() {
+        scheduledTasks = new ArrayList<>();
+        Executor executor = scheduledTasks::add;
+        handler = new BatchingHandler();
+        testSubject = BatchingCommandBus.builder()
+                                        .executor(executor)
+                                        .maxBatchSize(2)
+                                        .build();
+        testSubject.subscribe(String.class.getName(), handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testQueuedCommandsArePreparedInBatchesAndHandledIndividually() {
+        CommandCallback<Object, Object> callback = mock(CommandCallback.class);
+
+        testSubject.dispatch(asCommandMessage("one"), callback);
+        testSubject.dispatch(asCommandMessage("two"), callback);
+        testSubject.dispatch(asCommandMessage("three"), callback);
+
+        assertEquals(1, scheduledTasks.size());
+        scheduledTasks.remove(0).run();
+
+        assertEquals(2, handler.preparedBatches.size());
+        assertEquals(2, handler.preparedBatches.get(0).size());
+        assertEquals(1, handler.preparedBatches.get(1).size());
+        assertEquals(2, handler.releasedBatches.get());
+        assertEquals(3, handler.handledCommands.size());
+        verify(callback, times(3)).onResult(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testFailingPreparationDoesNotPreventHandling() {
+        handler.failPreparation = true;
+        CommandCallback<Object, Object> callback = mock(CommandCallback.class);
+
+        testSubject.dispatch(asCommandMessage("one"), callback);
+        scheduledTasks.remove(0).run();
+
+        assertEquals(1, handler.handledCommands.size());
+        verify(callback).onResult(any(), argThat(result -> !result.isExceptional()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCallbackIsNotifiedWhenCommandCannotBeHandled() {
+        TransactionManager transactionManager = mock(TransactionManager.class);
+        when(transactionManager.startTransaction()).thenThrow(new IllegalStateException("No transaction"));
+        testSubject = BatchingCommandBus.builder()
+                                        .executor(scheduledTasks::add)
+                                        .transactionManager(transactionManager)
+                                        .build();
+        testSubject.subscribe(String.class.getName(), handler);
+        CommandCallback<Object, Object> callback = mock(CommandCallback.class);
+
+        testSubject.dispatch(asCommandMessage("one"), callback);
+        scheduledTasks.remove(0).run();
+
+        assertTrue(handler.handledCommands.isEmpty());
+        verify(callback).onResult(any(), argThat(result -> result.isExceptional()
+                && result.exceptionResult() instanceof IllegalStateException));
+    }
+
+    @Test
+    void testNewBatchProcessorIsScheduledAfterPreviousOneCompleted() {
+        testSubject.dispatch(asCommandMessage("one"));
+        scheduledTasks.remove(0).run();
+        testSubject.dispatch(asCommandMessage("two"));
+
+        assertEquals(1, scheduledTasks.size());
+        scheduledTasks.remove(0).run();
+        assertEquals(2, handler.handledCommands.size());
+    }
+
+    private static class BatchingHandler implements MessageHandler<CommandMessage<?>>, CommandBatchPreparer {
+
+        private final List<List<? extends CommandMessage<?>>> preparedBatches = new CopyOnWriteArrayList<>();
+        private final List<CommandMessage<?>> handledCommands = new CopyOnWriteArrayList<>();
+        private final AtomicInteger releasedBatches = new AtomicInteger();
+        private boolean failPreparation;
+
+        @Override
+        public Registration prepareBatch(List<? extends CommandMessage<?>> commands) {
+            if (failPreparation) {
+                throw new IllegalStateException("Preparation failed");
+            }
+            preparedBatches.add(commands);
+            return () -> {
+                releasedBatches.incrementAndGet();
+                return true;
+            };
+        }
+
+        @Override
+        public Object handle(CommandMessage<?> message) {
+            handledCommands.add(message);
+            return message.getPayload();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.commandhandling;
+
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.junit.jupiter.api.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link NonBlockingCommandBus}.
+ */
+class NonBlockingCommandBusTest {
+
+    private NonBlockingCommandBus testSubject;
+    private List<String> phases;
+    private AtomicReference<CommandResultMessage<?>> result;
+    private CommandCallback<Object, Object> callback;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = NonBlockingCommandBus.builder().build();
+        phases = new CopyOnWriteArrayList<>();
+        result = new AtomicReference<>();
+        callback = (command, resultMessage) -> result.set(resultMessage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        while (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().rollback();
+        }
+    }
+
+    @Test
+    void testUnitOfWorkIsCommittedWhenReturnedFutureCompletes() {
+        CompletableFuture<String> handlerResult = new CompletableFuture<>();
+        testSubject.subscribe(String.class.getName(), command -> {
+            CurrentUnitOfWork.get().onCommit(u -> phases.add("commit"));
+            return handlerResult;
+        });
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+
+        assertFalse(CurrentUnitOfWork.isStarted());
+        assertTrue(phases.isEmpty());
+        assertNull(result.get());
+
+        handlerResult.complete("done");
+
+        assertEquals(1, phases.size());
+        assertFalse(result.get().isExceptional());
+        assertEquals("done", result.get().getPayload());
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    @Test
+    void testUnitOfWorkIsRolledBackWhenReturnedFutureFails() {
+        CompletableFuture<String> handlerResult = new CompletableFuture<>();
+        testSubject.subscribe(String.class.getName(), command -> {
+            CurrentUnitOfWork.get().onRollback(u -> phases.add("rollback"));
+            return handlerResult;
+        });
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+        handlerResult.completeExceptionally(new IllegalStateException("failure"));
+
+        assertEquals(1, phases.size());
+        assertTrue(result.get().isExceptional());
+        assertTrue(result.get().exceptionResult() instanceof IllegalStateException);
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    @Test
+    void testUnitOfWorkIsRolledBackWhenHandlerThrowsError() {
+        testSubject.subscribe(String.class.getName(), command -> {
+            CurrentUnitOfWork.get().onRollback(u -> phases.add("rollback"));
+            throw new LinkageError("failure");
+        });
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+
+        assertEquals(1, phases.size());
+        assertTrue(result.get().isExceptional());
+        assertTrue(result.get().exceptionResult() instanceof LinkageError);
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    @Test
+    void testThreadBoundUnitOfWorkIsCompletedOnDispatchingThread() {
+        Thread dispatchingThread = Thread.currentThread();
+        AtomicReference<Thread> cleanupThread = new AtomicReference<>();
+        testSubject.subscribe(String.class.getName(), command -> {
+            CurrentUnitOfWork.get().markThreadBound();
+            CurrentUnitOfWork.get().onCleanup(u -> cleanupThread.set(Thread.currentThread()));
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(50);
+                return "done";
+            });
+        });
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+
+        assertEquals("done", result.get().getPayload());
+        assertEquals(dispatchingThread, cleanupThread.get());
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    @Test
+    void testMonoResultIsUnwrapped() {
+        testSubject.subscribe(String.class.getName(), command -> Mono.just("mono"));
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+
+        assertEquals("mono", result.get().getPayload());
+    }
+
+    @Test
+    void testRegularResultIsHandledSynchronously() {
+        testSubject.subscribe(String.class.getName(), command -> "plain");
+
+        testSubject.dispatch(asCommandMessage("test"), callback);
+
+        assertEquals("plain", result.get().getPayload());
+        assertFalse(CurrentUnitOfWork.isStarted());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ChunkedByteArrayOutputStream}.
+ */
+class ChunkedByteArrayOutputStreamTest {
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        content = new byte[10_000];
+        new Random(42).nextBytes(content);
+    }
+
+    @Test
+    void testWrittenBytesAreReadBackAcrossChunks() throws IOException {
+        ChunkedByteArrayOutputStream testSubject = new ChunkedByteArrayOutputStream(1000);
+        testSubject.write(content[0]);
+        testSubject.write(content, 1, 4999);
+        testSubject.write(content, 5000, 5000);
+
+        assertEquals(content.length, testSubject.size());
+        InputStream result = testSubject.toInputStream();
+        assertEquals(content.length, result.available());
+        assertArrayEquals(content, readFully(result));
+    }
+
+    @Test
+    void testWriteFromCopiesRemainingBytesOfStream() throws IOException {
+        ChunkedByteArrayOutputStream testSubject = new ChunkedByteArrayOutputStream(1000);
+
+        assertEquals(content.length, testSubject.writeFrom(new ByteArrayInputStream(content)));
+        assertArrayEquals(content, readFully(testSubject.toInputStream()));
+    }
+
+    @Test
+    void testStreamCanBeReadAgainAfterReset() throws IOException {
+        ChunkedByteArrayOutputStream testSubject = new ChunkedByteArrayOutputStream(1000);
+        testSubject.write(content, 0, content.length);
+
+        InputStream result = testSubject.toInputStream();
+        assertTrue(result.markSupported());
+        assertArrayEquals(content, readFully(result));
+        result.reset();
+        assertArrayEquals(content, readFully(result));
+
+        result.reset();
+        assertEquals(2500, result.skip(2500));
+        result.mark(Integer.MAX_VALUE);
+        readFully(result);
+        result.reset();
+        assertEquals(content.length - 2500, result.available());
+    }
+
+    @Test
+    void testReadSingleBytes() {
+        ChunkedByteArrayOutputStream testSubject = new ChunkedByteArrayOutputStream(3);
+        testSubject.write(content, 0, 10);
+
+        InputStream result = testSubject.toInputStream();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(content[i] & 0xFF, assertDoesNotThrow(() -> result.read()));
+        }
+        assertEquals(-1, assertDoesNotThrow(() -> result.read()));
+    }
+
+    @Test
+    void testEmptyStreamProvidesNoBytes() throws IOException {
+        InputStream result = new ChunkedByteArrayOutputStream().toInputStream();
+
+        assertEquals(0, result.available());
+        assertEquals(-1, result.read());
+        assertEquals(-1, result.read(new byte[10], 0, 10));
+    }
+
+    @Test
+    void testNonPositiveChunkSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedByteArrayOutputStream(0));
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[333];
+        int read;
+        while ((read = inputStream.read(buffer)) >= 0) {
+            result.write(buffer, 0, read);
+        }
+        return result.toByteArray();
+    }
+}
@@ -26,6 +26,8 @@
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -196,6 +198,41 @@ void testQueueBackoff() {
         }
     }
 
+    @Test
+    @Timeout(value = 5)
+    void testDetachedLockIsHandedOverToAttachingThread() throws Exception {
+        PessimisticLockFactory lockFactory = PessimisticLockFactory.builder()
+                                                                   .acquireAttempts(1)
+                                                                   .lockAttemptTimeout(0)
+                                                                   .build();
+        Lock lock = lockFactory.obtainLock(identifier);
+        assertFalse(lock.isThreadBound());
+
+        lock.detach();
+        assertFalse(lock.isHeld());
+        assertThrows(LockAcquisitionFailedException.class, () -> lockFactory.obtainLock(identifier));
+
+        AtomicBoolean heldByOtherThread = new AtomicBoolean();
+        AtomicReference<Exception> exceptionInThread = new AtomicReference<>();
+        Thread otherThread = new Thread(() -> {
+            try {
+                lock.attach();
+                heldByOtherThread.set(lock.isHeld());
+                lock.release();
+            } catch (Exception e) {
+                exceptionInThread.set(e);
+            }
+        });
+        otherThread.start();
+        otherThread.join();
+
+        assertTrue(heldByOtherThread.get());
+        assertNull(exceptionInThread.get());
+        Lock obtainedAfterRelease = lockFactory.obtainLock(identifier);
+        assertTrue(obtainedAfterRelease.isHeld());
+        obtainedAfterRelease.release();
+    }
+
     @Test
     void testBackoffParametersConstructorAquireAttempts() {
         int illegalValue = 0;
@@ -18,8 +18,18 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MetaDataTest {
 
@@ -32,4 +42,49 @@ void testAddNullValueToMetaData() {
         assertNull(metaData.get("nullkey"));
         assertEquals("value", metaData.get("otherkey"));
     }
+
+    @Test
+    void testRepeatedlyAddedEntriesAreEqualToRegularMap() {
+        MetaData metaData = MetaData.with("key", "initial");
+        Map<String, Object> expected = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            metaData = metaData.and("key" + (i % 5), i);
+            expected.put("key" + (i % 5), i);
+        }
+        metaData = metaData.and("key", "last");
+        expected.put("key", "last");
+
+        assertEquals(expected, metaData);
+        assertEquals(metaData, expected);
+        assertEquals(expected.hashCode(), metaData.hashCode());
+        assertEquals(expected.size(), metaData.size());
+        assertEquals(expected.keySet(), metaData.keySet());
+        assertEquals("last", metaData.get("key"));
+    }
+
+    @Test
+    void testMetaDataSharingEntriesIsJavaSerializable() throws Exception {
+        MetaData metaData = MetaData.with("first", "value").and("second", null);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(metaData);
+        }
+        Object deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = in.readObject();
+        }
+
+        assertEquals(metaData, deserialized);
+        assertTrue(((MetaData) deserialized).containsKey("second"));
+    }
+
+    @Test
+    void testCommonKeysAreInterned() {
+        String key = new String("traceId".toCharArray());
+
+        MetaData metaData = MetaData.from(Collections.singletonMap(key, "value"));
+
+        assertSame("traceId", metaData.keySet().iterator().next());
+    }
 }
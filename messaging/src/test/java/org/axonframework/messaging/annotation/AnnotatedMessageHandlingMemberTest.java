@@ -4,9 +4,12 @@
 import org.axonframework.commandhandling.CommandMessage;
 import org.axonframework.eventhandling.EventHandler;
 import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
 import org.axonframework.messaging.HandlerAttributes;
 import org.junit.jupiter.api.*;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,6 +57,37 @@ void testAttributeReturnsNonEmptyOptionalForMatchingAttributeKey() {
         assertEquals(Object.class, resultPayloadType.get());
     }
 
+    @Test
+    void testHandleInvokesPrivateMethodWithResolvedAndFixedParameters() throws Exception {
+        ParameterResolverFactory parameterResolverFactory = MultiParameterResolverFactory.ordered(
+                ClasspathParameterResolverFactory.forClass(PrivateHandler.class),
+                new SimpleResourceParameterResolverFactory(Collections.singletonList(42))
+        );
+        AnnotatedMessageHandlingMember<PrivateHandler> member = new AnnotatedMessageHandlingMember<>(
+                PrivateHandler.class.getDeclaredMethod("handle", String.class, Integer.class),
+                EventMessage.class,
+                String.class,
+                parameterResolverFactory
+        );
+
+        Object result = member.handle(GenericEventMessage.asEventMessage("event"), new PrivateHandler());
+
+        assertEquals("event-42", result);
+    }
+
+    @Test
+    void testHandleRethrowsExceptionOfHandlerAsIs() throws Exception {
+        AnnotatedMessageHandlingMember<PrivateHandler> member = new AnnotatedMessageHandlingMember<>(
+                PrivateHandler.class.getDeclaredMethod("fail", String.class),
+                EventMessage.class,
+                String.class,
+                ClasspathParameterResolverFactory.forClass(PrivateHandler.class)
+        );
+
+        assertThrows(IOException.class,
+                     () -> member.handle(GenericEventMessage.asEventMessage("event"), new PrivateHandler()));
+    }
+
     @SuppressWarnings("unused")
     private static class AnnotatedHandler {
 
@@ -62,4 +96,16 @@ public void handlingMethod(String event) {
 
         }
     }
+
+    @SuppressWarnings("unused")
+    private static class PrivateHandler {
+
+        private String handle(String event, Integer resource) {
+            return event + "-" + resource;
+        }
+
+        private void fail(String event) throws IOException {
+            throw new IOException("Handler failure");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.Message;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.QueryHandler;
+import org.axonframework.queryhandling.QueryMessage;
+
+import java.lang.reflect.Method;
+
+import static org.axonframework.messaging.responsetypes.ResponseTypes.instanceOf;
+
+/**
+ * Benchmark comparing the throughput of command, event and query handlers invoked through the {@link
+ * AnnotatedHandlerInspector} with that of invoking the same handler methods reflectively.
+ */
+public class HandlerInvocationBenchmark {
+
+    private static final int ITERATIONS = 10_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        AnnotatedHandlerInspector<Handlers> inspector = AnnotatedHandlerInspector.inspectType(Handlers.class);
+        Handlers target = new Handlers();
+
+        benchmark("commands", inspector, target, GenericCommandMessage.asCommandMessage("command"),
+                  Handlers.class.getDeclaredMethod("handle", String.class));
+        benchmark("events", inspector, target, GenericEventMessage.asEventMessage(42L),
+                  Handlers.class.getDeclaredMethod("on", Long.class, EventMessage.class));
+        benchmark("queries", inspector, target, new GenericQueryMessage<>(7, instanceOf(String.class)),
+                  Handlers.class.getDeclaredMethod("query", Integer.class));
+    }
+
+    private static void benchmark(String name,
+                                  AnnotatedHandlerInspector<Handlers> inspector,
+                                  Handlers target,
+                                  Message<?> message,
+                                  Method method) throws Exception {
+        MessageHandlingMember<? super Handlers> handler =
+                inspector.getHandlers(Handlers.class)
+                         .filter(h -> h.canHandle(message))
+                         .findFirst()
+                         .orElseThrow(() -> new IllegalStateException("No handler for " + name));
+        method.setAccessible(true);
+        Object[] reflectiveParameters = method.getParameterCount() == 1
+                ? new Object[]{message.getPayload()}
+                : new Object[]{message.getPayload(), message};
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                handler.handle(message, target);
+            }
+            long handlerTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                method.invoke(target, reflectiveParameters);
+            }
+            long reflectionTime = System.nanoTime() - start;
+
+            System.out.printf("%-8s round %d: %,12d msg/s through handler member, %,12d msg/s through Method.invoke%n",
+                              name, round, perSecond(handlerTime), perSecond(reflectionTime));
+        }
+    }
+
+    private static long perSecond(long nanos) {
+        return ITERATIONS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+
+        private long counter;
+
+        @CommandHandler
+        private String handle(String command) {
+            counter++;
+            return command;
+        }
+
+        @EventHandler
+        private void on(Long event, EventMessage<?> message) {
+            counter += event;
+        }
+
+        @QueryHandler
+        private String query(Integer query) {
+            counter++;
+            return "result";
+        }
+    }
+}
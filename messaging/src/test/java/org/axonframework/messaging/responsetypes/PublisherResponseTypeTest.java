@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.responsetypes;
+
+import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Test the Query Handler return types which are supported through the {@link PublisherResponseType}, leveraging the
+ * {@link AbstractResponseTypeTest} to cover the usual suspects between the different {@link ResponseType}
+ * implementations.
+ */
+class PublisherResponseTypeTest extends AbstractResponseTypeTest<Publisher<AbstractResponseTypeTest.QueryResponse>> {
+
+    PublisherResponseTypeTest() {
+        super(new PublisherResponseType<>(QueryResponse.class));
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsPublisherOfProvidedType() throws NoSuchMethodException {
+        testMatches("someFluxQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsStreamOfProvidedType() throws NoSuchMethodException {
+        testMatches("someStreamQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsListOfProvidedType() throws NoSuchMethodException {
+        testMatches("someListQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsArrayOfProvidedType() throws NoSuchMethodException {
+        testMatches("someArrayQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsTrueIfResponseTypeIsTheSame() throws NoSuchMethodException {
+        testMatches("someQuery", MATCHES);
+    }
+
+    @Test
+    void testMatchesReturnsFalseIfResponseTypeIsPublisherOfOtherType() throws NoSuchMethodException {
+        testMatches("someStringFluxQuery", DOES_NOT_MATCH);
+    }
+
+    @Test
+    void testMatchesReturnsFalseIfResponseTypeIsMapOfProvidedType() throws NoSuchMethodException {
+        testMatches("someMapQuery", DOES_NOT_MATCH);
+    }
+
+    @Test
+    void testConvertEmitsElementsOfStream() {
+        QueryResponse first = new QueryResponse();
+        QueryResponse second = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(Stream.of(first, second)), 1)
+                    .expectNext(first)
+                    .thenRequest(1)
+                    .expectNext(second)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertEmitsElementsOfIterableAndArray() {
+        QueryResponse response = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(Arrays.asList(response, response)))
+                    .expectNext(response, response)
+                    .verifyComplete();
+        StepVerifier.create(testSubject.convert(new QueryResponse[]{response}))
+                    .expectNext(response)
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConvertEmitsSingleInstanceOrNothingForNull() {
+        QueryResponse response = new QueryResponse();
+
+        StepVerifier.create(testSubject.convert(response))
+                    .expectNext(response)
+                    .verifyComplete();
+        StepVerifier.create(testSubject.convert(null))
+                    .verifyComplete();
+    }
+
+    @SuppressWarnings("unused")
+    public Flux<QueryResponse> someFluxQuery() {
+        return Flux.just(new QueryResponse());
+    }
+
+    @SuppressWarnings("unused")
+    public Flux<String> someStringFluxQuery() {
+        return Flux.just("some-string");
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.queryhandling;
+
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.WeakReferenceCache;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link CachingQueryBus}.
+ */
+class CachingQueryBusTest {
+
+    private AtomicInteger handlerInvocations;
+    private Clock clock;
+    private CachingQueryBus testSubject;
+
+    @BeforeEach
+    void setUp() {
+        handlerInvocations = new AtomicInteger();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        SimpleQueryBus delegate = SimpleQueryBus.builder().build();
+        testSubject = CachingQueryBus.builder()
+                                     .delegate(delegate)
+                                     .cache(new WeakReferenceCache())
+                                     .clock(clock)
+                                     .build();
+        testSubject.subscribe(CachedQuery.class.getName(), String.class, query -> {
+            handlerInvocations.incrementAndGet();
+            String name = ((CachedQuery) query.getPayload()).name;
+            if ("fail".equals(name)) {
+                throw new IllegalStateException("Mocking failure");
+            }
+            return "Hello " + name;
+        });
+        testSubject.subscribe(UncachedQuery.class.getName(), String.class, query -> {
+            handlerInvocations.incrementAndGet();
+            return "Uncached";
+        });
+    }
+
+    @Test
+    void testRepeatedCacheableQueryIsAnsweredFromCache() throws Exception {
+        QueryResponseMessage<String> first = testSubject.query(cachedQuery("Alice")).get();
+        QueryResponseMessage<String> second = testSubject.query(cachedQuery("Alice")).get();
+        testSubject.query(cachedQuery("Bob")).get();
+
+        assertEquals("Hello Alice", second.getPayload());
+        assertSame(first, second);
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testQueryWithoutCacheableAnnotationIsAlwaysDispatched() throws Exception {
+        GenericQueryMessage<UncachedQuery, String> query =
+                new GenericQueryMessage<>(new UncachedQuery(), ResponseTypes.instanceOf(String.class));
+
+        testSubject.query(query).get();
+        testSubject.query(query).get();
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testCachedResponseExpiresAfterTimeToLive() throws Exception {
+        QueryResponseMessage<String> first = testSubject.query(cachedQuery("Alice")).get();
+
+        when(clock.millis()).thenReturn(TimeUnit.MINUTES.toMillis(1) - 1);
+        assertSame(first, testSubject.query(cachedQuery("Alice")).get());
+        assertEquals(1, handlerInvocations.get());
+
+        when(clock.millis()).thenReturn(TimeUnit.MINUTES.toMillis(1));
+        assertNotSame(first, testSubject.query(cachedQuery("Alice")).get());
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testEmittedUpdateInvalidatesMatchingCachedResponses() throws Exception {
+        QueryResponseMessage<String> alice = testSubject.query(cachedQuery("Alice")).get();
+        QueryResponseMessage<String> bob = testSubject.query(cachedQuery("Bob")).get();
+
+        testSubject.queryUpdateEmitter().emit(CachedQuery.class, query -> "Alice".equals(query.name), "update");
+
+        assertNotSame(alice, testSubject.query(cachedQuery("Alice")).get());
+        assertSame(bob, testSubject.query(cachedQuery("Bob")).get());
+        assertEquals(3, handlerInvocations.get());
+    }
+
+    @Test
+    void testUpdateEmittedInUnitOfWorkInvalidatesResponsesCachedBeforeCommit() throws Exception {
+        testSubject.query(cachedQuery("Alice")).get();
+
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        testSubject.queryUpdateEmitter().emit(CachedQuery.class, query -> "Alice".equals(query.name), "update");
+        // a query answered before the changes behind the update are committed
+        QueryResponseMessage<String> beforeCommit = testSubject.query(cachedQuery("Alice")).get();
+        assertSame(beforeCommit, testSubject.query(cachedQuery("Alice")).get());
+        unitOfWork.commit();
+
+        assertNotSame(beforeCommit, testSubject.query(cachedQuery("Alice")).get());
+        assertEquals(3, handlerInvocations.get());
+    }
+
+    @Test
+    void testCachedEntriesAreSerializable() throws Exception {
+        Cache cache = mock(Cache.class);
+        doAnswer(invocation -> {
+            ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream());
+            out.writeObject(invocation.getArgument(0));
+            out.writeObject(invocation.getArgument(1));
+            return null;
+        }).when(cache).put(any(), any());
+        CachingQueryBus serializingTestSubject = CachingQueryBus.builder()
+                                                                .delegate(testSubject)
+                                                                .cache(cache)
+                                                                .build();
+
+        assertEquals("Hello Alice", serializingTestSubject.query(cachedQuery("Alice")).get().getPayload());
+
+        verify(cache).put(any(), notNull());
+    }
+
+    @Test
+    void testExceptionalResponsesAreNotCached() throws Exception {
+        assertTrue(testSubject.query(cachedQuery("fail")).get().isExceptional());
+        assertTrue(testSubject.query(cachedQuery("fail")).get().isExceptional());
+
+        assertEquals(2, handlerInvocations.get());
+    }
+
+    @Test
+    void testResponsesToPublisherQueriesAreNotCached() {
+        QueryBus delegate = mock(QueryBus.class);
+        when(delegate.queryUpdateEmitter()).thenReturn(SimpleQueryUpdateEmitter.builder().build());
+        when(delegate.query(any())).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                new GenericQueryResponseMessage<>(Flux.just("Hello Alice"))
+        ));
+        Cache cache = mock(Cache.class);
+        CachingQueryBus publisherTestSubject = CachingQueryBus.builder()
+                                                              .delegate(delegate)
+                                                              .cache(cache)
+                                                              .build();
+        GenericQueryMessage<CachedQuery, Publisher<String>> query =
+                new GenericQueryMessage<>(new CachedQuery("Alice"), ResponseTypes.publisherOf(String.class));
+
+        publisherTestSubject.query(query);
+        publisherTestSubject.query(query);
+
+        verify(delegate, times(2)).query(query);
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    void testStreamingAndScatterGatherFluxQueriesAreDispatchedToDelegate() {
+        QueryBus delegate = mock(QueryBus.class);
+        when(delegate.queryUpdateEmitter()).thenReturn(SimpleQueryUpdateEmitter.builder().build());
+        when(delegate.streamingQuery(any())).thenReturn(Flux.empty());
+        when(delegate.scatterGatherFlux(any(), anyLong(), any())).thenReturn(Flux.empty());
+        CachingQueryBus delegatingTestSubject = CachingQueryBus.builder()
+                                                               .delegate(delegate)
+                                                               .cache(mock(Cache.class))
+                                                               .build();
+        GenericQueryMessage<CachedQuery, Publisher<String>> streamingQuery =
+                new GenericQueryMessage<>(new CachedQuery("Alice"), ResponseTypes.publisherOf(String.class));
+
+        delegatingTestSubject.streamingQuery(streamingQuery);
+        delegatingTestSubject.scatterGatherFlux(cachedQuery("Alice"), 1, TimeUnit.SECONDS);
+
+        verify(delegate).streamingQuery(streamingQuery);
+        verify(delegate).scatterGatherFlux(any(), eq(1L), eq(TimeUnit.SECONDS));
+        verify(delegate, never()).query(any());
+        verify(delegate, never()).scatterGather(any(), anyLong(), any());
+    }
+
+    @Test
+    void testHandlerInterceptorsAreInvokedForQueriesAnsweredFromCache() throws Exception {
+        AtomicInteger interceptorInvocations = new AtomicInteger();
+        testSubject.registerHandlerInterceptor((unitOfWork, interceptorChain) -> {
+            interceptorInvocations.incrementAndGet();
+            return interceptorChain.proceed();
+        });
+
+        QueryResponseMessage<String> first = testSubject.query(cachedQuery("Alice")).get();
+        QueryResponseMessage<String> second = testSubject.query(cachedQuery("Alice")).get();
+
+        assertSame(first, second);
+        assertEquals(1, handlerInvocations.get());
+        assertEquals(2, interceptorInvocations.get());
+    }
+
+    @Test
+    void testExpiredKeysAreRemovedOnceManyResponsesAreCached() throws Exception {
+        Cache cache = mock(Cache.class);
+        CachingQueryBus purgingTestSubject = CachingQueryBus.builder()
+                                                            .delegate(testSubject)
+                                                            .cache(cache)
+                                                            .clock(clock)
+                                                            .build();
+        for (int i = 0; i < 1024; i++) {
+            purgingTestSubject.query(cachedQuery("Alice" + i)).get();
+        }
+        verify(cache, never()).remove(any());
+
+        when(clock.millis()).thenReturn(TimeUnit.MINUTES.toMillis(1));
+        for (int i = 0; i < 1024; i++) {
+            purgingTestSubject.query(cachedQuery("Bob" + i)).get();
+        }
+
+        verify(cache, times(1024)).remove(any());
+    }
+
+    private static GenericQueryMessage<CachedQuery, String> cachedQuery(String name) {
+        return new GenericQueryMessage<>(new CachedQuery(name), ResponseTypes.instanceOf(String.class));
+    }
+
+    @CacheableQuery(timeToLive = 1, unit = TimeUnit.MINUTES)
+    private static class CachedQuery implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        private CachedQuery(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CachedQuery && Objects.equals(name, ((CachedQuery) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+
+    private static class UncachedQuery {
+
+    }
+}
@@ -30,14 +30,17 @@
 import org.axonframework.monitoring.MessageMonitor;
 import org.axonframework.utils.MockException;
 import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -45,8 +48,11 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -583,6 +589,187 @@ void testScatterGatherReportsExceptionsWithErrorHandler() {
         verify(monitorCallback, times(1)).reportFailure(isA(MockException.class));
     }
 
+    @Test
+    void testConcurrentScatterGatherProvidesResponsesInCompletionOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .errorHandler(errorHandler)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            CountDownLatch slowHandlerRelease = new CountDownLatch(1);
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                slowHandlerRelease.await(5, TimeUnit.SECONDS);
+                return "slow";
+            });
+            testSubject.subscribe(String.class.getName(), String.class, q -> "fast");
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            Iterator<QueryResponseMessage<String>> results =
+                    testSubject.scatterGather(testQueryMessage, 5, TimeUnit.SECONDS).iterator();
+
+            assertEquals("fast", results.next().getPayload());
+            slowHandlerRelease.countDown();
+            assertEquals("slow", results.next().getPayload());
+            assertFalse(results.hasNext());
+            verify(monitorCallback, times(2)).reportSuccess();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentScatterGatherReportsHandlersNotRespondingBeforeDeadline() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        CountDownLatch slowHandlerRelease = new CountDownLatch(1);
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .errorHandler(errorHandler)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                slowHandlerRelease.await(5, TimeUnit.SECONDS);
+                return "slow";
+            });
+            testSubject.subscribe(String.class.getName(), String.class, q -> "fast");
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            List<String> results = testSubject.scatterGather(testQueryMessage, 100, TimeUnit.MILLISECONDS)
+                                              .map(Message::getPayload)
+                                              .collect(Collectors.toList());
+
+            assertEquals(Collections.singletonList("fast"), results);
+            verify(errorHandler).onError(isA(TimeoutException.class), eq(testQueryMessage), isA(MessageHandler.class));
+            verify(monitorCallback).reportSuccess();
+            verify(monitorCallback).reportFailure(isA(TimeoutException.class));
+        } finally {
+            slowHandlerRelease.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrentScatterGatherFluxEmitsResponsesAsTheyComplete() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            testSubject = SimpleQueryBus.builder()
+                                        .messageMonitor(messageMonitor)
+                                        .errorHandler(errorHandler)
+                                        .scatterGatherExecutor(executor)
+                                        .build();
+            CountDownLatch slowHandlerRelease = new CountDownLatch(1);
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                slowHandlerRelease.await(5, TimeUnit.SECONDS);
+                return "slow";
+            });
+            testSubject.subscribe(String.class.getName(), String.class, q -> "fast");
+            testSubject.subscribe(String.class.getName(), String.class, q -> {
+                throw new MockException();
+            });
+
+            QueryMessage<String, String> testQueryMessage =
+                    new GenericQueryMessage<>("Hello, World", singleStringResponse);
+            StepVerifier.create(testSubject.scatterGatherFlux(testQueryMessage, 5, TimeUnit.SECONDS)
+                                           .map(Message::getPayload))
+                        .expectNext("fast")
+                        .then(slowHandlerRelease::countDown)
+                        .expectNext("slow")
+                        .verifyComplete();
+            verify(errorHandler).onError(isA(MockException.class), eq(testQueryMessage), isA(MessageHandler.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testScatterGatherFluxWithoutExecutorDispatchesUponSubscription() {
+        testSubject.subscribe(String.class.getName(), String.class, q -> q.getPayload() + "1234");
+
+        QueryMessage<String, String> testQueryMessage = new GenericQueryMessage<>("Hello, World", singleStringResponse);
+        Flux<QueryResponseMessage<String>> result = testSubject.scatterGatherFlux(testQueryMessage, 0, TimeUnit.SECONDS);
+        verify(messageMonitor, never()).onMessageIngested(any());
+
+        StepVerifier.create(result.map(Message::getPayload))
+                    .expectNext("Hello, World1234")
+                    .verifyComplete();
+        verify(messageMonitor).onMessageIngested(any());
+    }
+
+    @Test
+    void testIdenticalInFlightQueriesShareSingleHandlerInvocation() throws Exception {
+        SimpleQueryBus deduplicatingBus = SimpleQueryBus.builder()
+                                                        .messageMonitor(messageMonitor)
+                                                        .deduplicateInFlightQueries(true)
+                                                        .build();
+        CountDownLatch handlerInvoked = new CountDownLatch(1);
+        CountDownLatch releaseHandler = new CountDownLatch(1);
+        AtomicInteger invocationCount = new AtomicInteger();
+        deduplicatingBus.subscribe(String.class.getName(), String.class, q -> {
+            invocationCount.incrementAndGet();
+            handlerInvoked.countDown();
+            releaseHandler.await();
+            return q.getPayload() + "1234";
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CompletableFuture<QueryResponseMessage<String>>> leader = executor.submit(
+                    () -> deduplicatingBus.query(new GenericQueryMessage<>("hello", singleStringResponse))
+            );
+            assertTrue(handlerInvoked.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<QueryResponseMessage<String>> follower =
+                    deduplicatingBus.query(new GenericQueryMessage<>("hello", singleStringResponse));
+            assertFalse(follower.isDone());
+            releaseHandler.countDown();
+
+            assertEquals("hello1234", leader.get(5, TimeUnit.SECONDS).get().getPayload());
+            assertEquals("hello1234", follower.get(5, TimeUnit.SECONDS).getPayload());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, invocationCount.get());
+        assertEquals(1, deduplicatingBus.collapsedQueryCount());
+        verify(monitorCallback, times(2)).reportSuccess();
+
+        deduplicatingBus.query(new GenericQueryMessage<>("hello", singleStringResponse)).get();
+        assertEquals(2, invocationCount.get());
+        assertEquals(1, deduplicatingBus.collapsedQueryCount());
+    }
+
+    @Test
+    void testStreamingQueryEmitsHandlerResultsOnDemand() {
+        testSubject.subscribe(String.class.getName(), String[].class,
+                              q -> new String[]{q.getPayload() + "1", q.getPayload() + "2", q.getPayload() + "3"});
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(testSubject.streamingQuery(testQueryMessage).map(Message::getPayload), 1)
+                    .expectNext("Hello1")
+                    .thenRequest(2)
+                    .expectNext("Hello2", "Hello3")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testStreamingQueryReportsHandlerFailureAsError() {
+        testSubject.subscribe(String.class.getName(), String[].class, q -> {
+            throw new MockException();
+        });
+
+        QueryMessage<String, Publisher<String>> testQueryMessage =
+                new GenericQueryMessage<>("Hello", ResponseTypes.publisherOf(String.class));
+
+        StepVerifier.create(testSubject.streamingQuery(testQueryMessage))
+                    .expectError(MockException.class)
+                    .verify();
+    }
+
     @Test
     void testQueryResponseMessageCorrelationData() throws ExecutionException, InterruptedException {
         testSubject.subscribe(String.class.getName(), String.class, (q) -> q.getPayload() + "1234");
@@ -3,12 +3,19 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.responsetypes.ResponseTypes;
 import org.junit.jupiter.api.*;
+import org.mockito.*;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class validating the {@link SimpleQueryUpdateEmitter}.
@@ -158,4 +165,144 @@ void testCancelingRegistrationDoesNotCompleteFluxOfUpdates() {
                     .expectNext("some-awesome-text")
                     .verifyTimeout(Duration.ofMillis(500));
     }
+
+    @Test
+    void testEmitByKeyOnlyReachesSubscriptionQueriesWithThatKey() {
+        SimpleQueryUpdateEmitter indexedEmitter = SimpleQueryUpdateEmitter.builder()
+                                                                          .queryKey(String.class, String::length)
+                                                                          .build();
+        UpdateHandlerRegistration<Object> matching =
+                indexedEmitter.registerUpdateHandler(subscriptionQuery("abc"), 128);
+        UpdateHandlerRegistration<Object> other =
+                indexedEmitter.registerUpdateHandler(subscriptionQuery("abcd"), 128);
+
+        indexedEmitter.emitByKey(String.class, 3, "update");
+        indexedEmitter.complete(q -> true);
+
+        StepVerifier.create(matching.getUpdates().map(Message::getPayload))
+                    .expectNext("update")
+                    .verifyComplete();
+        StepVerifier.create(other.getUpdates())
+                    .verifyComplete();
+    }
+
+    @Test
+    void testEmitByKeyDoesNotReachCancelledSubscriptionQueries() {
+        SimpleQueryUpdateEmitter indexedEmitter = SimpleQueryUpdateEmitter.builder()
+                                                                          .queryKey(String.class, String::length)
+                                                                          .build();
+        SubscriptionQueryMessage<String, List<String>, String> query = subscriptionQuery("abc");
+        UpdateHandlerRegistration<Object> registration = indexedEmitter.registerUpdateHandler(query, 128);
+        List<Object> received = new CopyOnWriteArrayList<>();
+        registration.getUpdates().subscribe(received::add);
+        assertTrue(indexedEmitter.hasIndexedQueries(String.class, 3));
+        registration.getRegistration().cancel();
+
+        indexedEmitter.emitByKey(String.class, 3, "update");
+
+        assertTrue(received.isEmpty());
+        assertFalse(indexedEmitter.queryUpdateHandlerRegistered(query));
+        assertFalse(indexedEmitter.hasIndexedQueries(String.class, 3));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testDefaultEmitByKeyReachesAllSubscriptionQueriesOfQueryType() {
+        QueryUpdateEmitter emitter = mock(QueryUpdateEmitter.class, CALLS_REAL_METHODS);
+
+        emitter.emitByKey(String.class, 3, "update");
+
+        ArgumentCaptor<Predicate<SubscriptionQueryMessage<?, ?, Object>>> filter =
+                ArgumentCaptor.forClass(Predicate.class);
+        verifyEmitted(emitter, filter);
+        assertTrue(filter.getValue().test((SubscriptionQueryMessage) subscriptionQuery("abc")));
+        assertTrue(filter.getValue().test((SubscriptionQueryMessage) subscriptionQuery("abcd")));
+        assertFalse(filter.getValue().test(new GenericSubscriptionQueryMessage<>(
+                3, ResponseTypes.multipleInstancesOf(String.class), ResponseTypes.instanceOf(Object.class)
+        )));
+    }
+
+    @Test
+    void testEmitByKeyForQueryTypeWithoutKeyExtractorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> testSubject.emitByKey(String.class, 3, "update"));
+    }
+
+    @Test
+    void testConflatedSubscriptionQueryReceivesLatestUpdatePerKeyOnCompletion() {
+        UpdateConflation conflation = UpdateConflation.latestPerKey(Duration.ofMinutes(1),
+                                                                    update -> ((String) update).charAt(0));
+        UpdateHandlerRegistration<Object> registration =
+                testSubject.registerUpdateHandler(subscriptionQuery("abc"), 128, conflation);
+
+        testSubject.emit(q -> true, "a1");
+        testSubject.emit(q -> true, "b1");
+        testSubject.emit(q -> true, "a2");
+        testSubject.complete(q -> true);
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("a2", "b1")
+                    .verifyComplete();
+    }
+
+    @Test
+    void testConflatedSubscriptionQueryReceivesLatestUpdateOnceWindowEnds() {
+        UpdateHandlerRegistration<Object> registration = testSubject.registerUpdateHandler(
+                subscriptionQuery("abc"), 128, UpdateConflation.latest(Duration.ofMillis(10))
+        );
+
+        testSubject.emit(q -> true, "first");
+        testSubject.emit(q -> true, "second");
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("second")
+                    .then(() -> testSubject.emit(q -> true, "third"))
+                    .expectNext("third")
+                    .then(() -> testSubject.complete(q -> true))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testShutdownDeliversOpenConflationWindowsAndRejectsNewConflatedQueries() {
+        UpdateHandlerRegistration<Object> registration = testSubject.registerUpdateHandler(
+                subscriptionQuery("abc"), 128, UpdateConflation.latest(Duration.ofMillis(50))
+        );
+        testSubject.emit(q -> true, "update");
+
+        testSubject.shutdown();
+
+        StepVerifier.create(registration.getUpdates().map(Message::getPayload))
+                    .expectNext("update")
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+        assertThrows(IllegalStateException.class, () -> testSubject.registerUpdateHandler(
+                subscriptionQuery("abcd"), 128, UpdateConflation.latest(Duration.ofMillis(50))
+        ));
+    }
+
+    @Test
+    void testShutdownDoesNotShutDownConfiguredConflationScheduler() {
+        ScheduledExecutorService conflationScheduler = mock(ScheduledExecutorService.class);
+        SimpleQueryUpdateEmitter emitter = SimpleQueryUpdateEmitter.builder()
+                                                                   .conflationScheduler(conflationScheduler)
+                                                                   .build();
+        emitter.registerUpdateHandler(subscriptionQuery("abc"), 128, UpdateConflation.latest(Duration.ofMillis(50)));
+
+        emitter.shutdown();
+
+        verify(conflationScheduler, never()).shutdown();
+        verify(conflationScheduler, never()).shutdownNow();
+    }
+
+    private static <U> void verifyEmitted(QueryUpdateEmitter emitter,
+                                          ArgumentCaptor<Predicate<SubscriptionQueryMessage<?, ?, U>>> filter) {
+        verify(emitter).emit(filter.capture(), ArgumentMatchers.<SubscriptionQueryUpdateMessage<U>>any());
+    }
+
+    private static SubscriptionQueryMessage<String, List<String>, String> subscriptionQuery(String payload) {
+        return new GenericSubscriptionQueryMessage<>(payload,
+                                                     "chatMessages",
+                                                     ResponseTypes.multipleInstancesOf(String.class),
+                                                     ResponseTypes.instanceOf(String.class));
+    }
 }
\ No newline at end of file
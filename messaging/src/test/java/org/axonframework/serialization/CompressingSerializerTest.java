@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.*;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link CompressingSerializer}.
+ */
+class CompressingSerializerTest {
+
+    private static final String LARGE_PAYLOAD = String.join(",", Collections.nCopies(200, "some repeating value"));
+
+    private JacksonSerializer delegate;
+    private CompressingSerializer testSubject;
+
+    @BeforeEach
+    void setUp() {
+        delegate = JacksonSerializer.defaultSerializer();
+        testSubject = CompressingSerializer.builder()
+                                           .delegate(delegate)
+                                           .build();
+    }
+
+    @Test
+    void testLargeObjectIsCompressedAndDeserialized() {
+        byte[] uncompressed = delegate.serialize(LARGE_PAYLOAD, byte[].class).getData();
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(LARGE_PAYLOAD, byte[].class);
+
+        assertTrue(serialized.getData().length < uncompressed.length);
+        assertEquals(delegate.typeForClass(String.class), serialized.getType());
+        assertEquals(LARGE_PAYLOAD, testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void testSmallObjectIsNotCompressed() {
+        SerializedObject<byte[]> serialized = testSubject.serialize("small", byte[].class);
+
+        assertArrayEquals(delegate.serialize("small", byte[].class).getData(), serialized.getData());
+        assertEquals("small", testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void testUncompressedDataWrittenByDelegateIsDeserialized() {
+        SerializedObject<byte[]> serialized = delegate.serialize(LARGE_PAYLOAD, byte[].class);
+
+        assertEquals(LARGE_PAYLOAD, testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void testOtherRepresentationsAreNotCompressed() {
+        SerializedObject<String> serialized = testSubject.serialize(LARGE_PAYLOAD, String.class);
+
+        assertEquals(delegate.serialize(LARGE_PAYLOAD, String.class).getData(), serialized.getData());
+    }
+
+    @Test
+    void testConverterDecompressesDataForUpcasters() {
+        MetaData metaData = MetaData.with("key", LARGE_PAYLOAD);
+        SerializedObject<byte[]> serialized = testSubject.serialize(metaData, byte[].class);
+
+        SerializedObject<JsonNode> converted = testSubject.getConverter().convert(serialized, JsonNode.class);
+        SerializedObject<byte[]> convertedBytes = testSubject.getConverter().convert(serialized, byte[].class);
+
+        assertEquals(LARGE_PAYLOAD, converted.getData().get("key").asText());
+        assertArrayEquals(delegate.serialize(metaData, byte[].class).getData(), convertedBytes.getData());
+    }
+
+    @Test
+    void testDictionaryImprovesCompressionAndIsRequiredForDecompression() {
+        String typeName = delegate.typeForClass(String.class).getName();
+        byte[] dictionary = delegate.serialize(LARGE_PAYLOAD, byte[].class).getData();
+        CompressingSerializer dictionarySerializer = CompressingSerializer.builder()
+                                                                          .delegate(delegate)
+                                                                          .dictionary(typeName, dictionary)
+                                                                          .build();
+
+        SerializedObject<byte[]> withDictionary = dictionarySerializer.serialize(LARGE_PAYLOAD, byte[].class);
+        SerializedObject<byte[]> withoutDictionary = testSubject.serialize(LARGE_PAYLOAD, byte[].class);
+
+        assertTrue(withDictionary.getData().length < withoutDictionary.getData().length);
+        assertEquals(LARGE_PAYLOAD, dictionarySerializer.deserialize(withDictionary));
+        assertEquals(LARGE_PAYLOAD, dictionarySerializer.deserialize(withoutDictionary));
+        assertThrows(SerializationException.class, () -> testSubject.deserialize(withDictionary));
+    }
+
+    @Test
+    void testBuildWithoutDelegateFails() {
+        CompressingSerializer.Builder builder = CompressingSerializer.builder();
+
+        assertThrows(AxonConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void testInvalidCompressionLevelIsRejected() {
+        CompressingSerializer.Builder builder = CompressingSerializer.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builder.compressionLevel(10));
+    }
+}
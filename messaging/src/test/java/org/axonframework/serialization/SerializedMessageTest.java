@@ -123,4 +123,19 @@ void testSerializeMetaDataImmediately() {
         verify(serializer, atLeast(0)).getConverter();
         verifyNoMoreInteractions(serializer);
     }
+
+    @Test
+    void testSerializePayloadWithOtherSerializerOnlyOnce() {
+        Serializer otherSerializer = mock(Serializer.class);
+        SerializedObject<byte[]> otherForm =
+                new SimpleSerializedObject<>(new byte[]{1}, byte[].class, "java.lang.Object", "1");
+        when(otherSerializer.serialize(deserializedPayload, byte[].class)).thenReturn(otherForm);
+        when(otherSerializer.getConverter()).thenReturn(new ChainingConverter());
+        SerializedMessage<Object> message = new SerializedMessage<>(eventId, serializedPayload,
+                                                                    serializedMetaData, serializer);
+
+        assertSame(otherForm, message.serializePayload(otherSerializer, byte[].class));
+        assertSame(otherForm, message.serializePayload(otherSerializer, byte[].class));
+        verify(otherSerializer, times(1)).serialize(deserializedPayload, byte[].class);
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link SerializedTypeCache}.
+ */
+class SerializedTypeCacheTest {
+
+    @Test
+    void testTypeIsResolvedOncePerClass() {
+        AtomicInteger resolutions = new AtomicInteger();
+        SerializedTypeCache testSubject = new SerializedTypeCache(type -> {
+            resolutions.incrementAndGet();
+            return new SimpleSerializedType(type.getSimpleName(), "1");
+        });
+
+        assertEquals(new SimpleSerializedType("String", "1"), testSubject.typeOf(String.class));
+        assertEquals(new SimpleSerializedType("String", "1"), testSubject.typeOf(String.class));
+        assertEquals(new SimpleSerializedType("Integer", "1"), testSubject.typeOf(Integer.class));
+        assertEquals(2, resolutions.get());
+    }
+
+    @Test
+    void testForRevisionResolverUsesClassNameAndRevision() {
+        RevisionResolver revisionResolver = spy(new FixedValueRevisionResolver("2"));
+        SerializedTypeCache testSubject = SerializedTypeCache.forRevisionResolver(revisionResolver);
+
+        assertEquals(new SimpleSerializedType(String.class.getName(), "2"), testSubject.typeOf(String.class));
+        assertEquals(new SimpleSerializedType(String.class.getName(), "2"), testSubject.typeOf(String.class));
+        verify(revisionResolver).revisionOf(String.class);
+    }
+
+    @Test
+    void testCachesAreIndependent() {
+        SerializedTypeCache first = SerializedTypeCache.forRevisionResolver(new FixedValueRevisionResolver("1"));
+        SerializedTypeCache second = SerializedTypeCache.forRevisionResolver(new FixedValueRevisionResolver("2"));
+
+        assertEquals("1", first.typeOf(String.class).getRevision());
+        assertEquals("2", second.typeOf(String.class).getRevision());
+    }
+}
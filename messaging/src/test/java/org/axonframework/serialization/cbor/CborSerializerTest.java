@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.cbor;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.junit.jupiter.api.*;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link CborSerializer}.
+ */
+class CborSerializerTest {
+
+    private CborSerializer testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = CborSerializer.defaultSerializer();
+    }
+
+    @Test
+    void testCanSerializeToBinaryRepresentationsAndJsonNodeButNotString() {
+        assertTrue(testSubject.canSerializeTo(byte[].class));
+        assertTrue(testSubject.canSerializeTo(InputStream.class));
+        assertTrue(testSubject.canSerializeTo(JsonNode.class));
+        assertTrue(testSubject.canSerializeTo(ObjectNode.class));
+        assertFalse(testSubject.canSerializeTo(String.class));
+    }
+
+    @Test
+    void testSerializeToStringIsRejected() {
+        assertThrows(SerializationException.class, () -> testSubject.serialize(new TestPayload("a", 1), String.class));
+    }
+
+    @Test
+    void testSerializeAndDeserializeObject() {
+        TestPayload toSerialize = new TestPayload("value", 42);
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(toSerialize, byte[].class);
+        TestPayload actual = testSubject.deserialize(serialized);
+
+        assertEquals(TestPayload.class.getName(), serialized.getType().getName());
+        assertEquals(toSerialize, actual);
+    }
+
+    @Test
+    void testSerializedFormIsCborEncoded() throws Exception {
+        TestPayload toSerialize = new TestPayload("value", 42);
+
+        byte[] serialized = testSubject.serialize(toSerialize, byte[].class).getData();
+
+        JsonNode cborTree = new ObjectMapper(new CBORFactory()).readTree(serialized);
+        assertEquals("value", cborTree.get("name").asText());
+        assertEquals(42, cborTree.get("count").asInt());
+        assertTrue(serialized.length < new ObjectMapper().writeValueAsBytes(toSerialize).length);
+    }
+
+    @Test
+    void testSerializedFormCanBeUpcastThroughJsonNode() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new TestPayload("value", 42), byte[].class);
+
+        SerializedObject<JsonNode> intermediate =
+                testSubject.getConverter().convert(serialized, JsonNode.class);
+        assertEquals("value", intermediate.getData().get("name").asText());
+        ((ObjectNode) intermediate.getData()).put("name", "upcast");
+        SerializedObject<byte[]> upcast = testSubject.getConverter().convert(intermediate, byte[].class);
+
+        TestPayload actual = testSubject.deserialize(upcast);
+        assertEquals(new TestPayload("upcast", 42), actual);
+    }
+
+    @Test
+    void testDeserializeFromByteBuffer() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new TestPayload("value", 42), byte[].class);
+
+        TestPayload actual = testSubject.deserialize(new SimpleSerializedObject<>(
+                ByteBuffer.wrap(serialized.getData()).asReadOnlyBuffer(), ByteBuffer.class, serialized.getType()
+        ));
+
+        assertEquals(new TestPayload("value", 42), actual);
+    }
+
+    @Test
+    void testSerializeAndDeserializeMetaData() {
+        MetaData metaData = MetaData.from(singletonMap("key", "value"));
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(metaData, byte[].class);
+        MetaData actual = testSubject.deserialize(serialized);
+
+        assertEquals(metaData, actual);
+    }
+
+    @Test
+    void testBuildWithTextualObjectMapperIsRejected() {
+        CborSerializer.Builder builder = CborSerializer.builder();
+
+        assertThrows(AxonConfigurationException.class, () -> builder.objectMapper(new ObjectMapper()));
+    }
+
+    private static class TestPayload {
+
+        private final String name;
+        private final int count;
+
+        @JsonCreator
+        public TestPayload(@JsonProperty("name") String name, @JsonProperty("count") int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TestPayload that = (TestPayload) o;
+            return count == that.count && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + count;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.junit.jupiter.api.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ByteBufferToByteArrayConverter}.
+ */
+class ByteBufferToByteArrayConverterTest {
+
+    private ByteBufferToByteArrayConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ByteBufferToByteArrayConverter();
+    }
+
+    @Test
+    void testConvertReturnsBackingArrayWhenItSpansTheBuffer() {
+        byte[] bytes = "Hello, world!".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(bytes, testSubject.convert(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void testConvertCopiesRemainingBytesOfPartialBuffer() {
+        byte[] bytes = "Hello, world!".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 7, 5);
+
+        byte[] actual = testSubject.convert(buffer);
+
+        assertEquals("world", new String(actual, StandardCharsets.UTF_8));
+        assertEquals(7, buffer.position());
+    }
+
+    @Test
+    void testConvertCopiesBytesOfReadOnlyBuffer() {
+        byte[] bytes = "Hello, world!".getBytes(StandardCharsets.UTF_8);
+
+        byte[] actual = testSubject.convert(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+
+        assertArrayEquals(bytes, actual);
+        assertNotSame(bytes, actual);
+    }
+}
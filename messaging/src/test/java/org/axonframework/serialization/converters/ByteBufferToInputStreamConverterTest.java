@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.converters;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link ByteBufferToInputStreamConverter}.
+ */
+class ByteBufferToInputStreamConverterTest {
+
+    private ByteBufferToInputStreamConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ByteBufferToInputStreamConverter();
+    }
+
+    @Test
+    void testConvertReadsRemainingBytesWithoutMovingBufferPosition() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(13);
+        buffer.put("Hello, world!".getBytes(StandardCharsets.UTF_8));
+        buffer.position(7);
+
+        InputStream actual = testSubject.convert(buffer);
+
+        assertEquals(6, actual.available());
+        assertEquals('w', actual.read());
+        byte[] rest = new byte[10];
+        assertEquals(5, actual.read(rest, 0, 10));
+        assertEquals("orld!", new String(rest, 0, 5, StandardCharsets.UTF_8));
+        assertEquals(-1, actual.read());
+        assertEquals(7, buffer.position());
+    }
+}
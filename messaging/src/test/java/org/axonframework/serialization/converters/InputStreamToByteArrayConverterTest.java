@@ -20,7 +20,9 @@
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.InputStream;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
@@ -44,4 +46,23 @@ void testConvert() {
 
         assertArrayEquals(bytes, actual);
     }
+
+    @Test
+    void testConvertStreamLargerThanAvailableBytes() {
+        byte[] bytes = new byte[10_000];
+        new Random(42).nextBytes(bytes);
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int available() {
+                return 0;
+            }
+        };
+
+        assertArrayEquals(bytes, testSubject.convert(inputStream));
+    }
+
+    @Test
+    void testConvertEmptyStream() {
+        assertArrayEquals(new byte[0], testSubject.convert(new ByteArrayInputStream(new byte[0])));
+    }
 }
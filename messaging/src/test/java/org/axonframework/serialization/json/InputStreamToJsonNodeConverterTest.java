@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.axonframework.common.io.IOUtils;
+import org.axonframework.serialization.CannotConvertBetweenTypesException;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class validating the {@link InputStreamToJsonNodeConverter}.
+ */
+class InputStreamToJsonNodeConverterTest {
+
+    private ObjectMapper objectMapper;
+    private InputStreamToJsonNodeConverter testSubject;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        testSubject = new InputStreamToJsonNodeConverter(objectMapper);
+    }
+
+    @Test
+    void testConvertStreamToNode() throws Exception {
+        String content = "{\"someKey\":\"someValue\",\"someOther\":true}";
+        JsonNode expected = objectMapper.readTree(content);
+
+        assertEquals(expected, testSubject.convert(new ByteArrayInputStream(content.getBytes(IOUtils.UTF8))));
+    }
+
+    @Test
+    void testConvertInvalidContentFails() {
+        ByteArrayInputStream invalidContent = new ByteArrayInputStream("{\"someKey\":".getBytes(IOUtils.UTF8));
+
+        assertThrows(CannotConvertBetweenTypesException.class, () -> testSubject.convert(invalidContent));
+    }
+}
@@ -20,6 +20,7 @@
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -31,10 +32,12 @@
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.junit.jupiter.api.*;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -88,6 +91,35 @@ void testSerializeAndDeserializeObject_StringFormat() {
         assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
     }
 
+    @Test
+    void testSerializeAndDeserializeObject_InputStreamFormat() {
+        SimpleSerializableType toSerialize =
+                new SimpleSerializableType("first", time, new SimpleSerializableType("nested"));
+
+        SerializedObject<InputStream> serialized = testSubject.serialize(toSerialize, InputStream.class);
+
+        assertEquals(InputStream.class, serialized.getContentType());
+        SimpleSerializableType actual = testSubject.deserialize(serialized);
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
+    }
+
+    @Test
+    void testDeserializeFromReadOnlyByteBuffer() {
+        SimpleSerializableType toSerialize =
+                new SimpleSerializableType("first", time, new SimpleSerializableType("nested"));
+        SerializedObject<byte[]> serialized = testSubject.serialize(toSerialize, byte[].class);
+        ByteBuffer data = ByteBuffer.wrap(serialized.getData()).asReadOnlyBuffer();
+
+        SimpleSerializableType actual = testSubject.deserialize(
+                new SimpleSerializedObject<>(data, ByteBuffer.class, serialized.getType())
+        );
+
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
+        assertEquals(0, data.position());
+    }
+
     @Test
     void testSerializeAndDeserializeArray() {
         SimpleSerializableType toSerialize =
@@ -183,7 +215,7 @@ void testCustomObjectMapperRevisionResolverAndConverter() {
         verify(objectMapper).readerFor(SimpleSerializableType.class);
         verify(objectMapper).writer();
         verify(revisionResolver).revisionOf(SimpleSerializableType.class);
-        verify(converter, times(4)).registerConverter(isA(ContentTypeConverter.class));
+        verify(converter, times(5)).registerConverter(isA(ContentTypeConverter.class));
         assertSame(objectMapper, testSubject.getObjectMapper());
     }
 
@@ -208,6 +240,21 @@ void testCustomObjectMapperAndRevisionResolver() {
         verify(revisionResolver).revisionOf(SimpleSerializableType.class);
     }
 
+    @Test
+    void testRevisionIsResolvedOncePerType() {
+        RevisionResolver revisionResolver = spy(new AnnotationRevisionResolver());
+        testSubject = JacksonSerializer.builder()
+                                       .revisionResolver(revisionResolver)
+                                       .build();
+
+        testSubject.serialize(new SimpleSerializableType("first"), byte[].class);
+        SerializedObject<String> serialized = testSubject.serialize(new SimpleSerializableType("second"), String.class);
+
+        assertEquals(SimpleSerializableType.class.getName(), serialized.getType().getName());
+        assertEquals(testSubject.typeForClass(SimpleSerializableType.class), serialized.getType());
+        verify(revisionResolver).revisionOf(SimpleSerializableType.class);
+    }
+
     @Test
     void testCustomObjectMapper() {
         ObjectMapper objectMapper = spy(new ObjectMapper());
@@ -293,6 +340,26 @@ void testDeserializeEmptyBytes() {
         ));
     }
 
+    @Test
+    void testUnknownTypeIsConsistentlyResolvedToUnknownSerializedType() {
+        SerializedType unknownType = new SimpleSerializedType("some.unknown.Type", null);
+
+        assertEquals(UnknownSerializedType.class, testSubject.classForType(unknownType));
+        assertEquals(UnknownSerializedType.class, testSubject.classForType(unknownType));
+        assertEquals(SimpleSerializableType.class,
+                     testSubject.classForType(testSubject.typeForClass(SimpleSerializableType.class)));
+    }
+
+    @Test
+    void testObjectMapperChangesAfterFirstUseAreHonored() {
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first");
+        assertFalse(testSubject.serialize(toSerialize, String.class).getData().contains("\n"));
+
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        assertTrue(testSubject.serialize(toSerialize, String.class).getData().contains("\n"));
+    }
+
     @Test
     void testDeserializeLenientIgnoresUnknownValues() {
         testSubject = JacksonSerializer.builder().lenientDeserialization().objectMapper(objectMapper).build();
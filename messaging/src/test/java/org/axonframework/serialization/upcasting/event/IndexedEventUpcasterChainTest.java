@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.upcasting.event;
+
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.junit.jupiter.api.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link IndexedEventUpcasterChain}.
+ */
+class IndexedEventUpcasterChainTest {
+
+    private static final SerializedType TYPE_A = new SimpleSerializedType("A", "1");
+    private static final SerializedType TYPE_B = new SimpleSerializedType("B", "1");
+    private static final SerializedType TYPE_C = new SimpleSerializedType("C", "1");
+
+    @Test
+    void testEventWithoutApplicableUpcasterIsNotOfferedToTypeSpecificUpcasters() {
+        RenamingUpcaster aToB = new RenamingUpcaster(TYPE_A, TYPE_B);
+        RenamingUpcaster bToC = new RenamingUpcaster(TYPE_B, TYPE_C);
+        IndexedEventUpcasterChain testSubject = new IndexedEventUpcasterChain(aToB, bToC);
+        IntermediateEventRepresentation representation = representationOf(new SimpleSerializedType("A", "2"));
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(representation)).collect(Collectors.toList());
+
+        assertEquals(Collections.singletonList(representation), result);
+        assertEquals(0, aToB.canUpcastInvocations);
+        assertEquals(0, bToC.canUpcastInvocations);
+    }
+
+    @Test
+    void testUpcastedEventIsMatchedAgainstFollowingUpcasters() {
+        IndexedEventUpcasterChain testSubject = new IndexedEventUpcasterChain(
+                new RenamingUpcaster(TYPE_A, TYPE_B), new RenamingUpcaster(TYPE_B, TYPE_C)
+        );
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(representationOf(TYPE_A))).collect(Collectors.toList());
+
+        assertEquals(1, result.size());
+        assertEquals(TYPE_C, result.get(0).getType());
+    }
+
+    @Test
+    void testUpcastersPrecedingTheUpcastingOneAreNotApplied() {
+        IndexedEventUpcasterChain testSubject = new IndexedEventUpcasterChain(
+                new RenamingUpcaster(TYPE_B, TYPE_C), new RenamingUpcaster(TYPE_A, TYPE_B)
+        );
+
+        List<IntermediateEventRepresentation> result =
+                testSubject.upcast(Stream.of(representationOf(TYPE_A))).collect(Collectors.toList());
+
+        assertEquals(1, result.size());
+        assertEquals(TYPE_B, result.get(0).getType());
+    }
+
+    @Test
+    void testOtherUpcastersAreInvokedForEveryEventInOrder() {
+        RenamingUpcaster bToC = new RenamingUpcaster(TYPE_B, TYPE_C);
+        IndexedEventUpcasterChain testSubject = new IndexedEventUpcasterChain(
+                new RenamingUpcaster(TYPE_A, TYPE_B), new GenericUpcaster(TYPE_C, TYPE_A), bToC
+        );
+
+        List<SerializedType> result = testSubject.upcast(Stream.of(representationOf(TYPE_A),
+                                                                   representationOf(TYPE_C)))
+                                                 .map(IntermediateEventRepresentation::getType)
+                                                 .collect(Collectors.toList());
+
+        // the first event becomes B, skips the generic upcaster and becomes C
+        // the second event is renamed to A by the generic upcaster, for which no upcaster follows
+        assertEquals(TYPE_C, result.get(0));
+        assertEquals(TYPE_A, result.get(1));
+        assertEquals(1, bToC.canUpcastInvocations);
+    }
+
+    private static IntermediateEventRepresentation representationOf(SerializedType type) {
+        IntermediateEventRepresentation representation = mock(IntermediateEventRepresentation.class);
+        when(representation.getType()).thenReturn(type);
+        return representation;
+    }
+
+    private static class GenericUpcaster extends SingleEventUpcaster {
+
+        private final SerializedType from;
+        private final SerializedType to;
+
+        private GenericUpcaster(SerializedType from, SerializedType to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return from.equals(intermediateRepresentation.getType());
+        }
+
+        @Override
+        protected IntermediateEventRepresentation doUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return representationOf(to);
+        }
+    }
+
+    private static class RenamingUpcaster extends GenericUpcaster implements TypeSpecificEventUpcaster {
+
+        private final SerializedType from;
+        private int canUpcastInvocations;
+
+        private RenamingUpcaster(SerializedType from, SerializedType to) {
+            super(from, to);
+            this.from = from;
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            canUpcastInvocations++;
+            return super.canUpcast(intermediateRepresentation);
+        }
+
+        @Override
+        public Set<SerializedType> upcastableTypes() {
+            return Collections.singleton(from);
+        }
+    }
+}
@@ -22,6 +22,8 @@
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SerializedType;
 import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.UnknownSerializedType;
 import org.axonframework.utils.StubDomainEvent;
 import org.dom4j.Document;
 import org.junit.jupiter.api.*;
@@ -153,6 +155,25 @@ void testAlias() {
         assertEquals(StubDomainEvent.class, deserialized.getClass());
     }
 
+    @Test
+    void testAliasAddedAfterTypeResolutionIsUsed() {
+        SerializedType aliasedType = new SimpleSerializedType("stub", null);
+        assertEquals(UnknownSerializedType.class, testSubject.classForType(aliasedType));
+
+        testSubject.addAlias("stub", StubDomainEvent.class);
+
+        assertEquals(StubDomainEvent.class, testSubject.classForType(aliasedType));
+    }
+
+    @Test
+    void testAliasAddedAfterSerializationIsUsedForSerializedType() {
+        assertEquals(StubDomainEvent.class.getName(), testSubject.typeForClass(StubDomainEvent.class).getName());
+
+        testSubject.addAlias("stub", StubDomainEvent.class);
+
+        assertEquals("stub", testSubject.typeForClass(StubDomainEvent.class).getName());
+    }
+
     @Test
     void testFieldAlias() {
         testSubject.addFieldAlias("relevantPeriod", TestEvent.class, "period");
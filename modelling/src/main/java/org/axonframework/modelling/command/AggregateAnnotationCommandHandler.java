@@ -17,6 +17,7 @@
 package org.axonframework.modelling.command;
 
 import org.axonframework.commandhandling.AnnotationCommandHandlerAdapter;
+import org.axonframework.commandhandling.CommandBatchPreparer;
 import org.axonframework.commandhandling.CommandBus;
 import org.axonframework.commandhandling.CommandHandler;
 import org.axonframework.commandhandling.CommandMessage;
@@ -37,6 +38,7 @@
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,7 +59,7 @@
  * @author Allard Buijze
  * @since 1.2
  */
-public class AggregateAnnotationCommandHandler<T> implements CommandMessageHandler {
+public class AggregateAnnotationCommandHandler<T> implements CommandMessageHandler, CommandBatchPreparer {
 
     private final Repository<T> repository;
     private final CommandTargetResolver commandTargetResolver;
@@ -179,6 +181,34 @@ public boolean canHandle(CommandMessage<?> message) {
                        .anyMatch(ch -> ch.canHandle(message));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation resolves the aggregates targeted by the given {@code commands} and {@link
+     * Repository#prefetch(java.util.Collection) prefetches} them from the {@link Repository}. Commands that create a new
+     * aggregate, or for which no target can be resolved, are ignored.
+     */
+    @Override
+    public Registration prepareBatch(List<? extends CommandMessage<?>> commands) {
+        Set<String> aggregateIdentifiers = new LinkedHashSet<>();
+        for (CommandMessage<?> command : commands) {
+            boolean targetsExistingAggregate =
+                    handlers.stream()
+                            .filter(ch -> ch.canHandle(command))
+                            .findFirst()
+                            .filter(ch -> ch instanceof ExistingAggregateCommandHandler)
+                            .isPresent();
+            if (targetsExistingAggregate) {
+                try {
+                    aggregateIdentifiers.add(commandTargetResolver.resolveTarget(command).getIdentifier());
+                } catch (IllegalArgumentException e) {
+                    // the command will fail on the same exception when handled, so it is not prefetched
+                }
+            }
+        }
+        return aggregateIdentifiers.isEmpty() ? () -> true : repository.prefetch(aggregateIdentifiers);
+    }
+
     /**
      * Resolves the value to return when the given {@code command} has created the given {@code aggregate}. This
      * implementation returns the identifier of the created aggregate.
@@ -415,7 +445,15 @@ public boolean canHandle(CommandMessage<?> message) {
         }
     }
 
-    private class AggregateCreateOrUpdateCommandHandler implements MessageHandler<CommandMessage<?>> {
+    /**
+     * Marker for command handlers which (may) target an existing aggregate, which is loaded from the repository.
+     */
+    private interface ExistingAggregateCommandHandler {
+
+    }
+
+    private class AggregateCreateOrUpdateCommandHandler
+            implements MessageHandler<CommandMessage<?>>, ExistingAggregateCommandHandler {
 
         private final MessageHandlingMember<? super T> handler;
         private final Callable<T> factoryMethod;
@@ -449,7 +487,8 @@ public boolean canHandle(CommandMessage<?> message) {
         }
     }
 
-    private class AggregateCommandHandler implements MessageHandler<CommandMessage<?>> {
+    private class AggregateCommandHandler
+            implements MessageHandler<CommandMessage<?>>, ExistingAggregateCommandHandler {
 
         private final MessageHandlingMember<? super T> handler;
 
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.modelling.command;
+
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.jpa.EntityManagerProvider;
+import org.axonframework.common.lock.LockFactory;
+import org.axonframework.common.lock.PessimisticLockFactory;
+import org.axonframework.eventhandling.EventBus;
+import org.axonframework.messaging.annotation.HandlerDefinition;
+import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregate;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+
+/**
+ * A {@link GenericJpaRepository} which keeps aggregate roots in a {@link Cache}, avoiding a query on the {@link
+ * EntityManager} for each aggregate that is loaded while it is cached.
+ * <p>
+ * Aggregate roots are cached once the Unit of Work that saved them has committed, together with the version they have
+ * at that time. Only aggregates with an {@link AggregateVersion} are cached, as the version is needed to detect stale
+ * entries: it should be the field the JPA provider uses for optimistic locking (annotated with {@code
+ * javax.persistence.Version} as well), so that concurrent modifications by other processes are detected when a stale
+ * aggregate root is saved. Whenever a Unit of Work rolls back, the aggregates it touched are removed from the cache,
+ * so that they are loaded from the database again. An aggregate is also removed rather than replaced when the cache
+ * holds a more recent version than the one being stored.
+ * <p>
+ * Aggregate roots found in the cache are detached from the current {@link EntityManager}, and are merged into it when
+ * the aggregate is saved or deleted. As their associations cannot be loaded lazily while they are detached, these
+ * should be fetched eagerly.
+ * <p>
+ * As cached aggregate roots are shared between Units of Work, this repository relies on its {@link LockFactory} to
+ * prevent concurrent access, rather than on database locks. It defaults to a {@link PessimisticLockFactory} for that
+ * reason. Note that locks are not shared with other repository instances, so cached aggregates should only be modified
+ * through this repository.
+ *
+ * @param <T> The type of aggregate the repository provides access to
+ * @since 4.6
+ */
+public class CachingGenericJpaRepository<T> extends GenericJpaRepository<T> {
+
+    private static final String DETACHED_ROOTS_RESOURCE = CachingGenericJpaRepository.class.getName() + ".DETACHED";
+
+    private final Cache cache;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link CachingGenericJpaRepository} for aggregate type {@code T}.
+     * <p>
+     * The {@link LockFactory} is defaulted to a {@link PessimisticLockFactory} and the {@code identifierConverter} to
+     * {@link Function#identity()}. Either an {@link AggregateModel} <b>or</b> the {@code aggregateType} should be
+     * provided. Additionally, the {@link EntityManagerProvider}, {@link EventBus} and {@link Cache} are <b>hard
+     * requirements</b> and as such should be provided.
+     *
+     * @param <T>           The type of aggregate to build the repository for
+     * @param aggregateType The type of aggregate to build the repository for
+     * @return a Builder to be able to create a {@link CachingGenericJpaRepository}
+     */
+    public static <T> Builder<T> builder(Class<T> aggregateType) {
+        return new Builder<>(aggregateType);
+    }
+
+    /**
+     * Instantiate a {@link CachingGenericJpaRepository} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Next to the requirements of the {@link GenericJpaRepository}, will assert that the {@link Cache} is not {@code
+     * null}, resulting in an {@link org.axonframework.common.AxonConfigurationException} if this is the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link CachingGenericJpaRepository} instance
+     */
+    protected CachingGenericJpaRepository(Builder<T> builder) {
+        super(builder);
+        this.cache = builder.cache;
+    }
+
+    @Override
+    protected AnnotatedAggregate<T> doLoadWithLock(String aggregateIdentifier, Long expectedVersion) {
+        CurrentUnitOfWork.get().onRollback(u -> cache.remove(aggregateIdentifier));
+        Object cacheEntry = cache.get(aggregateIdentifier);
+        if (cacheEntry instanceof CachedAggregateRoot) {
+            Object cachedRoot = ((CachedAggregateRoot<?>) cacheEntry).getAggregateRoot();
+            if (getAggregateType().isInstance(cachedRoot)) {
+                T aggregateRoot = getAggregateType().cast(cachedRoot);
+                detachedRoots().add(aggregateRoot);
+                return initializeAggregate(aggregateIdentifier, aggregateRoot);
+            }
+        }
+        return super.doLoadWithLock(aggregateIdentifier, expectedVersion);
+    }
+
+    @Override
+    protected void doSaveWithLock(AnnotatedAggregate<T> aggregate) {
+        T aggregateRoot = aggregate.getAggregateRoot();
+        if (detachedRoots().remove(aggregateRoot)) {
+            EntityManager entityManager = entityManager();
+            aggregateRoot = entityManager.merge(aggregateRoot);
+            if (isForceFlushOnSave()) {
+                entityManager.flush();
+            }
+        } else {
+            super.doSaveWithLock(aggregate);
+        }
+        String aggregateIdentifier = aggregate.identifierAsString();
+        T savedRoot = aggregateRoot;
+        UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+        unitOfWork.onRollback(u -> cache.remove(aggregateIdentifier));
+        // the version is only final once the changes have been flushed and committed
+        unitOfWork.afterCommit(u -> cache(aggregateIdentifier, savedRoot));
+    }
+
+    @Override
+    protected void doDeleteWithLock(AnnotatedAggregate<T> aggregate) {
+        T aggregateRoot = aggregate.getAggregateRoot();
+        if (detachedRoots().remove(aggregateRoot)) {
+            EntityManager entityManager = entityManager();
+            entityManager.remove(entityManager.merge(aggregateRoot));
+            if (isForceFlushOnSave()) {
+                entityManager.flush();
+            }
+        } else {
+            super.doDeleteWithLock(aggregate);
+        }
+        String aggregateIdentifier = aggregate.identifierAsString();
+        cache.remove(aggregateIdentifier);
+        CurrentUnitOfWork.get().afterCommit(u -> cache.remove(aggregateIdentifier));
+    }
+
+    private void cache(String aggregateIdentifier, T aggregateRoot) {
+        Long version = aggregateModel().getVersion(aggregateRoot);
+        Object current = cache.get(aggregateIdentifier);
+        if (version == null || (current instanceof CachedAggregateRoot
+                && ((CachedAggregateRoot<?>) current).isMoreRecentThan(version))) {
+            cache.remove(aggregateIdentifier);
+        } else {
+            cache.put(aggregateIdentifier, new CachedAggregateRoot<>(aggregateRoot, version));
+        }
+    }
+
+    private Set<Object> detachedRoots() {
+        return CurrentUnitOfWork.get().root().getOrComputeResource(
+                DETACHED_ROOTS_RESOURCE, k -> Collections.newSetFromMap(new IdentityHashMap<>())
+        );
+    }
+
+    /**
+     * Entry in the {@link Cache} holding an aggregate root together with the version it had when it was cached.
+     *
+     * @param <T> The type of aggregate root held by this entry
+     */
+    public static class CachedAggregateRoot<T> implements Serializable {
+
+        private static final long serialVersionUID = 4562107713417564532L;
+
+        private final T aggregateRoot;
+        private final Long version;
+
+        /**
+         * Initialize an entry for the given {@code aggregateRoot} with given {@code version}.
+         *
+         * @param aggregateRoot the aggregate root to cache
+         * @param version       the version of the aggregate root, or {@code null} if it is not versioned
+         */
+        public CachedAggregateRoot(T aggregateRoot, Long version) {
+            this.aggregateRoot = aggregateRoot;
+            this.version = version;
+        }
+
+        /**
+         * Returns the cached aggregate root.
+         *
+         * @return the cached aggregate root
+         */
+        public T getAggregateRoot() {
+            return aggregateRoot;
+        }
+
+        /**
+         * Returns the version of the cached aggregate root, or {@code null} if it is not versioned.
+         *
+         * @return the version of the cached aggregate root
+         */
+        public Long getVersion() {
+            return version;
+        }
+
+        private boolean isMoreRecentThan(long otherVersion) {
+            return version != null && version > otherVersion;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link CachingGenericJpaRepository} for aggregate type {@code T}.
+     * <p>
+     * The {@link LockFactory} is defaulted to a {@link PessimisticLockFactory} and the {@code identifierConverter} to
+     * {@link Function#identity()}. Either an {@link AggregateModel} <b>or</b> the {@code aggregateType} should be
+     * provided. Additionally, the {@link EntityManagerProvider}, {@link EventBus} and {@link Cache} are <b>hard
+     * requirements</b> and as such should be provided.
+     *
+     * @param <T> a generic specifying the Aggregate type contained in this {@link Repository} implementation
+     */
+    public static class Builder<T> extends GenericJpaRepository.Builder<T> {
+
+        private Cache cache;
+
+        /**
+         * Creates a builder for a Repository for given {@code aggregateType}.
+         *
+         * @param aggregateType the {@code aggregateType} specifying the type of aggregate this {@link Repository} will
+         *                      store
+         */
+        protected Builder(Class<T> aggregateType) {
+            super(aggregateType);
+            super.lockFactory(PessimisticLockFactory.usingDefaults());
+        }
+
+        @Override
+        public Builder<T> parameterResolverFactory(ParameterResolverFactory parameterResolverFactory) {
+            super.parameterResolverFactory(parameterResolverFactory);
+            return this;
+        }
+
+        @Override
+        public Builder<T> handlerDefinition(HandlerDefinition handlerDefinition) {
+            super.handlerDefinition(handlerDefinition);
+            return this;
+        }
+
+        @Override
+        public Builder<T> aggregateModel(AggregateModel<T> aggregateModel) {
+            super.aggregateModel(aggregateModel);
+            return this;
+        }
+
+        @Override
+        public Builder<T> lockFactory(LockFactory lockFactory) {
+            super.lockFactory(lockFactory);
+            return this;
+        }
+
+        @Override
+        public Builder<T> entityManagerProvider(EntityManagerProvider entityManagerProvider) {
+            super.entityManagerProvider(entityManagerProvider);
+            return this;
+        }
+
+        @Override
+        public Builder<T> eventBus(EventBus eventBus) {
+            super.eventBus(eventBus);
+            return this;
+        }
+
+        @Override
+        public Builder<T> repositoryProvider(RepositoryProvider repositoryProvider) {
+            super.repositoryProvider(repositoryProvider);
+            return this;
+        }
+
+        @Override
+        public Builder<T> identifierConverter(Function<String, ?> identifierConverter) {
+            super.identifierConverter(identifierConverter);
+            return this;
+        }
+
+        /**
+         * Sets the {@link Cache} in which loaded aggregate roots will be stored.
+         *
+         * @param cache the {@link Cache} in which loaded aggregate roots will be stored
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> cache(Cache cache) {
+            assertNonNull(cache, "Cache may not be null");
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link CachingGenericJpaRepository} as specified through this Builder.
+         *
+         * @return a {@link CachingGenericJpaRepository} as specified through this Builder
+         */
+        @Override
+        public CachingGenericJpaRepository<T> build() {
+            return new CachingGenericJpaRepository<>(this);
+        }
+
+        @Override
+        protected void validate() {
+            super.validate();
+            assertNonNull(cache, "The Cache is a hard requirement and should be provided");
+        }
+    }
+}
@@ -115,6 +115,18 @@ protected AnnotatedAggregate<T> doLoadWithLock(String aggregateIdentifier, Long
                                                  format("Aggregate [%s] with identifier [%s] not found",
                                                         getAggregateType().getSimpleName(), aggregateIdentifier));
         }
+        return initializeAggregate(aggregateIdentifier, aggregateRoot);
+    }
+
+    /**
+     * Wraps the given loaded {@code aggregateRoot} in an {@link AnnotatedAggregate}, initializing its sequence number
+     * if the {@link EventBus} is {@link DomainEventSequenceAware}.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @param aggregateRoot       the loaded aggregate root
+     * @return the aggregate wrapping the given {@code aggregateRoot}
+     */
+    protected AnnotatedAggregate<T> initializeAggregate(String aggregateIdentifier, T aggregateRoot) {
         AnnotatedAggregate<T> aggregate = AnnotatedAggregate.initialize(aggregateRoot,
                                                                         aggregateModel(),
                                                                         eventBus,
@@ -169,6 +181,24 @@ public void setForceFlushOnSave(boolean forceFlushOnSave) {
         this.forceFlushOnSave = forceFlushOnSave;
     }
 
+    /**
+     * Indicates whether the EntityManager's state is flushed each time an aggregate is saved.
+     *
+     * @return {@code true} if the EntityManager is flushed after each save, {@code false} otherwise
+     */
+    protected boolean isForceFlushOnSave() {
+        return forceFlushOnSave;
+    }
+
+    /**
+     * Returns the {@link EntityManager} to load, store and remove aggregates with.
+     *
+     * @return the {@link EntityManager} to load, store and remove aggregates with
+     */
+    protected EntityManager entityManager() {
+        return entityManagerProvider.getEntityManager();
+    }
+
     /**
      * Builder class to instantiate a {@link GenericJpaRepository} for aggregate type {@code T}.
      * <p>
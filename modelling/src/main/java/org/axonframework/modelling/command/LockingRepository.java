@@ -89,13 +89,13 @@ protected LockAwareAggregate<T, A> doCreateNew(Callable<T> factoryMethod) throws
         Supplier<Lock> lockSupplier;
         if (!Objects.isNull(aggregateIdentifier)) {
             Lock lock = lockFactory.obtainLock(aggregateIdentifier);
-            unitOfWork.onCleanup(u -> lock.release());
+            releaseOnCleanup(unitOfWork, lock);
             lockSupplier = () -> lock;
         } else {
             // The aggregate identifier hasn't been set yet, so the lock should be created in the supplier.
             lockSupplier = sameInstanceSupplier(() -> {
                 Lock lock = lockFactory.obtainLock(aggregate.identifierAsString());
-                unitOfWork.onCleanup(u -> lock.release());
+                releaseOnCleanup(unitOfWork, lock);
                 return lock;
             });
         }
@@ -126,7 +126,7 @@ protected LockAwareAggregate<T, A> doLoad(String aggregateIdentifier, Long expec
         Lock lock = lockFactory.obtainLock(aggregateIdentifier);
         try {
             final A aggregate = doLoadWithLock(aggregateIdentifier, expectedVersion);
-            CurrentUnitOfWork.get().onCleanup(u -> lock.release());
+            releaseOnCleanup(CurrentUnitOfWork.get(), lock);
             return new LockAwareAggregate<>(aggregate, lock);
         } catch (Throwable ex) {
             logger.debug("Exception occurred while trying to load an aggregate. Releasing lock.", ex);
@@ -141,11 +141,11 @@ protected LockAwareAggregate<T, A> doLoadOrCreate(String aggregateIdentifier,
         Lock lock = lockFactory.obtainLock(aggregateIdentifier);
         try {
             final A aggregate = doLoadWithLock(aggregateIdentifier, null);
-            CurrentUnitOfWork.get().onCleanup(u -> lock.release());
+            releaseOnCleanup(CurrentUnitOfWork.get(), lock);
             return new LockAwareAggregate<>(aggregate, lock);
         } catch (AggregateNotFoundException ex) {
             final A aggregate = doCreateNewForLock(factoryMethod);
-            CurrentUnitOfWork.get().onCleanup(u -> lock.release());
+            releaseOnCleanup(CurrentUnitOfWork.get(), lock);
             return new LockAwareAggregate<>(aggregate, lock);
         } catch (Throwable ex) {
             logger.debug("Exception occurred while trying to load/create an aggregate. Releasing lock.", ex);
@@ -154,6 +154,19 @@ protected LockAwareAggregate<T, A> doLoadOrCreate(String aggregateIdentifier,
         }
     }
 
+    /**
+     * Registers the release of the given {@code lock} in the cleanup phase of the given {@code unitOfWork}. The lock is
+     * registered with the Unit of Work as well, so that it is handed over to another thread when the Unit of Work is
+     * completed by that thread.
+     *
+     * @param unitOfWork the Unit of Work in which the lock was obtained
+     * @param lock       the lock to release when the Unit of Work is cleaned up
+     */
+    private void releaseOnCleanup(UnitOfWork<?> unitOfWork, Lock lock) {
+        unitOfWork.registerLock(lock);
+        unitOfWork.onCleanup(u -> lock.release());
+    }
+
     @Override
     protected void prepareForCommit(LockAwareAggregate<T, A> aggregate) {
         Assert.state(aggregate.isLockHeld(), () -> "An aggregate is being used for which a lock is no longer held");
@@ -16,8 +16,10 @@
 
 package org.axonframework.modelling.command;
 
+import org.axonframework.common.Registration;
 import org.axonframework.messaging.ScopeAware;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
 
 /**
@@ -72,4 +74,19 @@
     default Aggregate<T> loadOrCreate(String aggregateIdentifier, Callable<T> factoryMethod) throws Exception {
         throw new UnsupportedOperationException("loadOrCreate not implemented on this repository");
     }
+
+    /**
+     * Hints the repository that the aggregates with given {@code aggregateIdentifiers} are about to be loaded, for
+     * example because a batch of commands targeting them is about to be handled. Repositories may use this hint to
+     * retrieve the state of all these aggregates at once, rather than one by one when each of them is loaded.
+     * <p>
+     * The returned {@link Registration} releases any prefetched state that has not been used to load an aggregate.
+     * By default, this method does nothing.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates that are about to be loaded
+     * @return a handle to release the prefetched state
+     */
+    default Registration prefetch(Collection<String> aggregateIdentifiers) {
+        return () -> true;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2022. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.axonframework.modelling.command;
+
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.WeakReferenceCache;
+import org.axonframework.common.jpa.SimpleEntityManagerProvider;
+import org.axonframework.eventhandling.SimpleEventBus;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.util.function.Function;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link CachingGenericJpaRepository}.
+ */
+class CachingGenericJpaRepositoryTest {
+
+    private static final String AGGREGATE_ID = "123";
+
+    private EntityManager entityManager;
+    private Cache cache;
+    private VersionedAggregate aggregate;
+    private CachingGenericJpaRepository<VersionedAggregate> testSubject;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        cache = spy(new WeakReferenceCache());
+        aggregate = new VersionedAggregate(AGGREGATE_ID, 1L);
+        when(entityManager.find(eq(VersionedAggregate.class), eq(AGGREGATE_ID), any(LockModeType.class)))
+                .thenReturn(aggregate);
+        when(entityManager.merge(any())).thenAnswer(i -> i.getArgument(0));
+        testSubject = CachingGenericJpaRepository.builder(VersionedAggregate.class)
+                                                 .entityManagerProvider(new SimpleEntityManagerProvider(entityManager))
+                                                 .eventBus(SimpleEventBus.builder().build())
+                                                 .cache(cache)
+                                                 .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        while (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().rollback();
+        }
+    }
+
+    @Test
+    void testSecondLoadIsServedFromCacheAndMergedOnSave() {
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        CurrentUnitOfWork.commit();
+
+        DefaultUnitOfWork.startAndGet(null);
+        Aggregate<VersionedAggregate> loaded = testSubject.load(AGGREGATE_ID);
+        assertSame(aggregate, loaded.invoke(Function.identity()));
+        CurrentUnitOfWork.commit();
+
+        verify(entityManager, times(1)).find(eq(VersionedAggregate.class), eq(AGGREGATE_ID), any(LockModeType.class));
+        verify(entityManager).persist(aggregate);
+        verify(entityManager).merge(aggregate);
+    }
+
+    @Test
+    void testRollbackRemovesAggregateFromCache() {
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        CurrentUnitOfWork.get().rollback();
+
+        assertFalse(cache.containsKey(AGGREGATE_ID));
+
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        CurrentUnitOfWork.commit();
+
+        verify(entityManager, times(2)).find(eq(VersionedAggregate.class), eq(AGGREGATE_ID), any(LockModeType.class));
+    }
+
+    @Test
+    void testMoreRecentCachedVersionIsInvalidatedOnSave() {
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        cache.put(AGGREGATE_ID, new CachingGenericJpaRepository.CachedAggregateRoot<>(
+                new VersionedAggregate(AGGREGATE_ID, 2L), 2L
+        ));
+        CurrentUnitOfWork.commit();
+
+        assertFalse(cache.containsKey(AGGREGATE_ID));
+    }
+
+    @Test
+    void testDeletedAggregateIsRemovedFromCache() {
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        CurrentUnitOfWork.commit();
+
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID).execute(a -> AggregateLifecycle.markDeleted());
+        CurrentUnitOfWork.commit();
+
+        assertFalse(cache.containsKey(AGGREGATE_ID));
+        verify(entityManager).remove(aggregate);
+    }
+
+    @Test
+    void testAggregateIsCachedAfterCommitWithFlushedVersion() {
+        doAnswer(i -> aggregate.version++).when(entityManager).flush();
+
+        DefaultUnitOfWork.startAndGet(null);
+        testSubject.load(AGGREGATE_ID);
+        CurrentUnitOfWork.get().onCommit(u -> assertFalse(cache.containsKey(AGGREGATE_ID)));
+        CurrentUnitOfWork.commit();
+
+        Object cached = cache.get(AGGREGATE_ID);
+        assertTrue(cached instanceof CachingGenericJpaRepository.CachedAggregateRoot);
+        assertEquals(2L, ((CachingGenericJpaRepository.CachedAggregateRoot<?>) cached).getVersion());
+    }
+
+    @Test
+    void testAggregateWithoutVersionIsNotCached() {
+        UnversionedAggregate unversionedAggregate = new UnversionedAggregate(AGGREGATE_ID);
+        when(entityManager.find(eq(UnversionedAggregate.class), eq(AGGREGATE_ID), any(LockModeType.class)))
+                .thenReturn(unversionedAggregate);
+        CachingGenericJpaRepository<UnversionedAggregate> unversionedRepository =
+                CachingGenericJpaRepository.builder(UnversionedAggregate.class)
+                                           .entityManagerProvider(new SimpleEntityManagerProvider(entityManager))
+                                           .eventBus(SimpleEventBus.builder().build())
+                                           .cache(cache)
+                                           .build();
+
+        DefaultUnitOfWork.startAndGet(null);
+        unversionedRepository.load(AGGREGATE_ID);
+        CurrentUnitOfWork.commit();
+
+        assertFalse(cache.containsKey(AGGREGATE_ID));
+    }
+
+    private static class VersionedAggregate {
+
+        @AggregateIdentifier
+        private final String id;
+
+        @AggregateVersion
+        private Long version;
+
+        private VersionedAggregate(String id, Long version) {
+            this.id = id;
+            this.version = version;
+        }
+    }
+
+    private static class UnversionedAggregate {
+
+        @AggregateIdentifier
+        private final String id;
+
+        private UnversionedAggregate(String id) {
+            this.id = id;
+        }
+    }
+}
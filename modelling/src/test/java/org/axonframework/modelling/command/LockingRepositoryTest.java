@@ -16,8 +16,11 @@
 
 package org.axonframework.modelling.command;
 
+import org.axonframework.commandhandling.CommandResultMessage;
+import org.axonframework.commandhandling.NonBlockingCommandBus;
 import org.axonframework.common.lock.Lock;
 import org.axonframework.common.lock.LockFactory;
+import org.axonframework.common.lock.NullLockFactory;
 import org.axonframework.common.lock.PessimisticLockFactory;
 import org.axonframework.eventhandling.EventBus;
 import org.axonframework.eventhandling.EventMessage;
@@ -35,7 +38,12 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.axonframework.commandhandling.GenericCommandMessage.asCommandMessage;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -179,6 +187,87 @@ void testLoadAndStoreAggregate_PessimisticLockReleasedOnException() throws Excep
         verify(lock).release();
     }
 
+    @Test
+    void testNonBlockingCommandBusCompletesAsynchronousHandlerHoldingPessimisticLockOnCompletingThread()
+            throws Exception {
+        StubAggregate aggregate = storeNewAggregate();
+        CompletableFuture<String> handlerResult = new CompletableFuture<>();
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        CompletableFuture<CommandResultMessage<?>> result = new CompletableFuture<>();
+
+        NonBlockingCommandBus commandBus = NonBlockingCommandBus.builder().build();
+        commandBus.subscribe(String.class.getName(), command -> {
+            testSubject.load(aggregate.getIdentifier()).execute(StubAggregate::doSomething);
+            return handlerResult;
+        });
+        commandBus.dispatch(asCommandMessage("test"), (command, resultMessage) -> {
+            callbackThread.set(Thread.currentThread());
+            result.complete(resultMessage);
+        });
+
+        Lock commandLock = lock;
+        assertFalse(result.isDone());
+        assertFalse(CurrentUnitOfWork.isStarted());
+        CompletableFuture<Boolean> obtainedByOtherThread = obtainAndReleaseOnOtherThread(aggregate.getIdentifier());
+        assertThrows(TimeoutException.class, () -> obtainedByOtherThread.get(100, TimeUnit.MILLISECONDS));
+
+        Thread completingThread = new Thread(() -> handlerResult.complete("done"));
+        completingThread.start();
+
+        assertFalse(result.get(5, TimeUnit.SECONDS).isExceptional());
+        assertEquals(completingThread, callbackThread.get());
+        verify(mockEventBus, times(2)).publish(isA(EventMessage.class));
+        verify(commandLock).release();
+        assertTrue(obtainedByOtherThread.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNonBlockingCommandBusCompletesAsynchronousHandlerOnOtherThreadWhenLocksAreNotThreadBound()
+            throws Exception {
+        testSubject = InMemoryLockingRepository.builder()
+                                               .lockFactory(NullLockFactory.INSTANCE)
+                                               .eventStore(mockEventBus)
+                                               .build();
+        StubAggregate aggregate = storeNewAggregate();
+        CompletableFuture<String> handlerResult = new CompletableFuture<>();
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        CompletableFuture<CommandResultMessage<?>> result = new CompletableFuture<>();
+
+        NonBlockingCommandBus commandBus = NonBlockingCommandBus.builder().build();
+        commandBus.subscribe(String.class.getName(), command -> {
+            testSubject.load(aggregate.getIdentifier()).execute(StubAggregate::doSomething);
+            return handlerResult;
+        });
+        commandBus.dispatch(asCommandMessage("test"), (command, resultMessage) -> {
+            callbackThread.set(Thread.currentThread());
+            result.complete(resultMessage);
+        });
+        assertFalse(result.isDone());
+
+        Thread completingThread = new Thread(() -> handlerResult.complete("done"));
+        completingThread.start();
+
+        assertFalse(result.get(5, TimeUnit.SECONDS).isExceptional());
+        assertEquals(completingThread, callbackThread.get());
+        verify(mockEventBus, times(2)).publish(isA(EventMessage.class));
+    }
+
+    private StubAggregate storeNewAggregate() throws Exception {
+        startAndGetUnitOfWork();
+        StubAggregate aggregate = new StubAggregate();
+        testSubject.newInstance(() -> aggregate).execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+        return aggregate;
+    }
+
+    private CompletableFuture<Boolean> obtainAndReleaseOnOtherThread(String aggregateIdentifier) {
+        return CompletableFuture.supplyAsync(() -> {
+            Lock otherLock = lockFactory.obtainLock(aggregateIdentifier);
+            otherLock.release();
+            return true;
+        });
+    }
+
     private UnitOfWork<?> startAndGetUnitOfWork() {
         UnitOfWork<?> uow = DefaultUnitOfWork.startAndGet(MESSAGE);
         return uow;